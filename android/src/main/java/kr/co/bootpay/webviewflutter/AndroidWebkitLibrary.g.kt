@@ -73,33 +73,27 @@ class AndroidWebkitLibraryPigeonInstanceManager(private val finalizationListener
     fun onFinalize(identifier: Long)
   }
 
-  private val identifiers = java.util.WeakHashMap<Any, Long>()
-  private val weakInstances = HashMap<Long, java.lang.ref.WeakReference<Any>>()
-  private val strongInstances = HashMap<Long, Any>()
-  private val referenceQueue = java.lang.ref.ReferenceQueue<Any>()
-  private val weakReferencesToIdentifiers = HashMap<java.lang.ref.WeakReference<Any>, Long>()
-  private val handler = android.os.Handler(android.os.Looper.getMainLooper())
+  private val registry = PigeonInstanceRegistry()
   private var nextIdentifier: Long = minHostCreatedIdentifier
   private var hasFinalizationListenerStopped = false
 
+  /** Removes garbage collected instances and reports their identifiers to the listener. */
+  val finalizationSweeper = PigeonFinalizationSweeper(registry, 3000) { identifiers ->
+    releaseFinalizedInstances(identifiers)
+  }
+
   /**
    * Modifies the time interval used to define how often this instance removes garbage collected
    * weak references to native Android objects that this instance was managing.
+   *
+   * This is the base interval; the sweep backs off while idle and runs more often under load.
    */
   var clearFinalizedWeakReferencesInterval: Long = 3000
     set(value) {
-      handler.removeCallbacks { this.releaseAllFinalizedInstances() }
       field = value
-      releaseAllFinalizedInstances()
+      finalizationSweeper.setBaseInterval(value)
     }
 
-  init {
-    handler.postDelayed(
-      { releaseAllFinalizedInstances() },
-      clearFinalizedWeakReferencesInterval
-    )
-  }
-
   companion object {
     // Identifiers are locked to a specific range to avoid collisions with objects
     // created simultaneously from Dart.
@@ -125,7 +119,7 @@ class AndroidWebkitLibraryPigeonInstanceManager(private val finalizationListener
    */
   fun <T> remove(identifier: Long): T? {
     logWarningIfFinalizationListenerHasStopped()
-    return strongInstances.remove(identifier) as T?
+    return registry.removeStrongReference(identifier) as T?
   }
 
   /**
@@ -143,11 +137,8 @@ class AndroidWebkitLibraryPigeonInstanceManager(private val finalizationListener
    */
   fun getIdentifierForStrongReference(instance: Any?): Long? {
     logWarningIfFinalizationListenerHasStopped()
-    val identifier = identifiers[instance]
-    if (identifier != null) {
-      strongInstances[identifier] = instance!!
-    }
-    return identifier
+    val identifier = registry.getIdentifier(instance, true)
+    return if (identifier >= 0) identifier else null
   }
 
   /**
@@ -172,7 +163,7 @@ class AndroidWebkitLibraryPigeonInstanceManager(private val finalizationListener
   fun addHostCreatedInstance(instance: Any): Long {
     logWarningIfFinalizationListenerHasStopped()
     require(!containsInstance(instance)) { "Instance of ${instance.javaClass} has already been added." }
-    val identifier = nextIdentifier++
+    val identifier = synchronized(this) { nextIdentifier++ }
     addInstance(instance, identifier)
     return identifier
   }
@@ -180,14 +171,13 @@ class AndroidWebkitLibraryPigeonInstanceManager(private val finalizationListener
   /** Retrieves the instance associated with identifier, if present, otherwise `null`. */
   fun <T> getInstance(identifier: Long): T? {
     logWarningIfFinalizationListenerHasStopped()
-    val instance = weakInstances[identifier] as java.lang.ref.WeakReference<T>?
-    return instance?.get()
+    return registry.get(identifier) as T?
   }
 
   /** Returns whether this manager contains the given `instance`. */
   fun containsInstance(instance: Any?): Boolean {
     logWarningIfFinalizationListenerHasStopped()
-    return identifiers.containsKey(instance)
+    return registry.getIdentifier(instance, false) >= 0
   }
 
   /**
@@ -198,7 +188,7 @@ class AndroidWebkitLibraryPigeonInstanceManager(private val finalizationListener
    * longer be called and methods will log a warning.
    */
   fun stopFinalizationListener() {
-    handler.removeCallbacks { this.releaseAllFinalizedInstances() }
+    finalizationSweeper.stop()
     hasFinalizationListenerStopped = true
   }
 
@@ -208,10 +198,7 @@ class AndroidWebkitLibraryPigeonInstanceManager(private val finalizationListener
    * The manager will be empty after this call returns.
    */
   fun clear() {
-    identifiers.clear()
-    weakInstances.clear()
-    strongInstances.clear()
-    weakReferencesToIdentifiers.clear()
+    registry.clear()
   }
 
   /**
@@ -224,35 +211,18 @@ class AndroidWebkitLibraryPigeonInstanceManager(private val finalizationListener
     return hasFinalizationListenerStopped
   }
 
-  private fun releaseAllFinalizedInstances() {
+  private fun releaseFinalizedInstances(identifiers: LongArray) {
     if (hasFinalizationListenerStopped()) {
       return
     }
-    var reference: java.lang.ref.WeakReference<Any>?
-    while ((referenceQueue.poll() as java.lang.ref.WeakReference<Any>?).also { reference = it } != null) {
-      val identifier = weakReferencesToIdentifiers.remove(reference)
-      if (identifier != null) {
-        weakInstances.remove(identifier)
-        strongInstances.remove(identifier)
-        finalizationListener.onFinalize(identifier)
-      }
+    for (identifier in identifiers) {
+      finalizationListener.onFinalize(identifier)
     }
-    handler.postDelayed(
-      { releaseAllFinalizedInstances() },
-      clearFinalizedWeakReferencesInterval
-    )
   }
 
   private fun addInstance(instance: Any, identifier: Long) {
-    require(identifier >= 0) { "Identifier must be >= 0: $identifier" }
-    require(!weakInstances.containsKey(identifier)) {
-      "Identifier has already been added: $identifier"
-    }
-    val weakReference = java.lang.ref.WeakReference(instance, referenceQueue)
-    identifiers[instance] = identifier
-    weakInstances[identifier] = weakReference
-    weakReferencesToIdentifiers[weakReference] = identifier
-    strongInstances[identifier] = instance
+    registry.add(instance, identifier)
+    finalizationSweeper.onInstanceAdded()
   }
 
   private fun logWarningIfFinalizationListenerHasStopped() {
@@ -340,6 +310,9 @@ private class AndroidWebkitLibraryPigeonInstanceManagerApi(val binaryMessenger:
 abstract class AndroidWebkitLibraryPigeonProxyApiRegistrar(val binaryMessenger: BinaryMessenger) {
   /** Whether APIs should ignore calling to Dart. */
   public var ignoreCallsToDart = false
+  /** Whether `WebResourceRequest`s are written as [WebResourceRequestData] instead of instances. */
+  @Volatile
+  public var inlineWebResourceRequests = false
   val instanceManager: AndroidWebkitLibraryPigeonInstanceManager
   private var _codec: MessageCodec<Any?>? = null
   val codec: MessageCodec<Any?>
@@ -539,11 +512,27 @@ private class AndroidWebkitLibraryPigeonProxyApiBaseCodec(val registrar: Android
   }
 
   override fun writeValue(stream: ByteArrayOutputStream, value: Any?) {
-    if (value is Boolean || value is ByteArray || value is Double || value is DoubleArray || value is FloatArray || value is Int || value is IntArray || value is List<*> || value is Long || value is LongArray || value is Map<*, *> || value is String || value is FileChooserMode || value is ConsoleMessageLevel || value == null) {
+    if (value is Boolean || value is ByteArray || value is Double || value is DoubleArray || value is FloatArray || value is Int || value is IntArray || value is List<*> || value is Long || value is LongArray || value is Map<*, *> || value is String || value is FileChooserMode || value is ConsoleMessageLevel || value is PluginLogLevel || value is WebResourceRequestData || value is ConsoleMessageData || value is InterceptMatchType || value is InterceptAction || value is InterceptRule || value is SdkBundle || value == null) {
       super.writeValue(stream, value)
       return
     }
 
+    if (value is android.webkit.WebResourceRequest && registrar.inlineWebResourceRequests) {
+      // Sent by value, so Dart receives every field in this message and nothing is added to the
+      // instance manager.
+      val api = registrar.getPigeonApiWebResourceRequest()
+      super.writeValue(
+        stream,
+        WebResourceRequestData(
+          api.url(value),
+          api.isForMainFrame(value),
+          api.isRedirect(value),
+          api.hasGesture(value),
+          api.method(value),
+          api.requestHeaders(value)))
+      return
+    }
+
     if (value is android.webkit.WebResourceRequest) {
       registrar.getPigeonApiWebResourceRequest().pigeon_newInstance(value) { }
     }
@@ -708,6 +697,204 @@ enum class ConsoleMessageLevel(val raw: Int) {
     }
   }
 }
+/** How much the plugin logs while handling navigations and payment URLs. */
+enum class PluginLogLevel(val raw: Int) {
+  /** Nothing is logged and no log messages are built. */
+  OFF(0),
+  /** Events are recorded in a fixed-size in-memory buffer. */
+  BUFFER(1),
+  /** Events are recorded in the buffer and written to logcat. */
+  LOGCAT(2);
+
+  companion object {
+    fun ofRaw(raw: Int): PluginLogLevel? {
+      return values().firstOrNull { it.raw == raw }
+    }
+  }
+}
+/** How an `InterceptRule` matches the URL of a request. */
+enum class InterceptMatchType(val raw: Int) {
+  /** The URL starts with the pattern. */
+  PREFIX(0),
+  /** The host of the URL equals the pattern, ignoring case. */
+  HOST(1),
+  /** The URL matches the pattern, in which `*` matches any run of characters. */
+  GLOB(2);
+
+  companion object {
+    fun ofRaw(raw: Int): InterceptMatchType? {
+      return values().firstOrNull { it.raw == raw }
+    }
+  }
+}
+/** What happens to a request matched by an `InterceptRule`. */
+enum class InterceptAction(val raw: Int) {
+  /** The request fails without reaching the network. */
+  BLOCK(0),
+  /** The response is read from the Flutter asset named by the target. */
+  ASSET(1),
+  /** The response is read from the file named by the target. */
+  DISK_CACHE(2),
+  /**
+   * The request goes to the network.
+   *
+   * Used to exempt URLs from the rules that follow.
+   */
+  PASS_THROUGH(3);
+
+  companion object {
+    fun ofRaw(raw: Int): InterceptAction? {
+      return values().firstOrNull { it.raw == raw }
+    }
+  }
+}
+/**
+ * The values of a `WebResourceRequest`, sent inline with the callback that
+ * receives it.
+ *
+ * Used instead of a proxied [WebResourceRequest] when
+ * `WebViewClient.setInlineWebResourceRequests` is enabled.
+ *
+ * Generated class from Pigeon that represents data sent in messages.
+ */
+data class WebResourceRequestData (
+  val url: String,
+  val isForMainFrame: Boolean,
+  val isRedirect: Boolean? = null,
+  val hasGesture: Boolean,
+  val method: String,
+  val requestHeaders: Map<String, String>? = null
+)
+ {
+  companion object {
+    fun fromList(pigeonVar_list: List<Any?>): WebResourceRequestData {
+      val url = pigeonVar_list[0] as String
+      val isForMainFrame = pigeonVar_list[1] as Boolean
+      val isRedirect = pigeonVar_list[2] as Boolean?
+      val hasGesture = pigeonVar_list[3] as Boolean
+      val method = pigeonVar_list[4] as String
+      val requestHeaders = pigeonVar_list[5] as Map<String, String>?
+      return WebResourceRequestData(url, isForMainFrame, isRedirect, hasGesture, method, requestHeaders)
+    }
+  }
+  fun toList(): List<Any?> {
+    return listOf(
+      url,
+      isForMainFrame,
+      isRedirect,
+      hasGesture,
+      method,
+      requestHeaders,
+    )
+  }
+}
+/**
+ * A JavaScript console message that passed the console message filter, sent
+ * inline in a batch.
+ *
+ * See `WebChromeClient.setConsoleMessageFilter`.
+ *
+ * Generated class from Pigeon that represents data sent in messages.
+ */
+data class ConsoleMessageData (
+  val lineNumber: Long,
+  val message: String,
+  val level: ConsoleMessageLevel,
+  val sourceId: String
+)
+ {
+  companion object {
+    fun fromList(pigeonVar_list: List<Any?>): ConsoleMessageData {
+      val lineNumber = pigeonVar_list[0] as Long
+      val message = pigeonVar_list[1] as String
+      val level = pigeonVar_list[2] as ConsoleMessageLevel
+      val sourceId = pigeonVar_list[3] as String
+      return ConsoleMessageData(lineNumber, message, level, sourceId)
+    }
+  }
+  fun toList(): List<Any?> {
+    return listOf(
+      lineNumber,
+      message,
+      level,
+      sourceId,
+    )
+  }
+}
+/**
+ * A rule of the table used to answer `WebViewClient.shouldInterceptRequest`.
+ *
+ * When [target] ends with `/`, it names a directory and the path of the
+ * request is resolved against it.
+ *
+ * Generated class from Pigeon that represents data sent in messages.
+ */
+data class InterceptRule (
+  val matchType: InterceptMatchType,
+  val pattern: String,
+  val action: InterceptAction,
+  val target: String? = null
+)
+ {
+  companion object {
+    fun fromList(pigeonVar_list: List<Any?>): InterceptRule {
+      val matchType = pigeonVar_list[0] as InterceptMatchType
+      val pattern = pigeonVar_list[1] as String
+      val action = pigeonVar_list[2] as InterceptAction
+      val target = pigeonVar_list[3] as String?
+      return InterceptRule(matchType, pattern, action, target)
+    }
+  }
+  fun toList(): List<Any?> {
+    return listOf(
+      matchType,
+      pattern,
+      action,
+      target,
+    )
+  }
+}
+/**
+ * Scripts and stylesheets that ship with the app as Flutter assets and are
+ * served in place of their URLs.
+ *
+ * See `WebViewClient.registerSdkBundle`.
+ *
+ * Generated class from Pigeon that represents data sent in messages.
+ */
+data class SdkBundle (
+  /** Identifies the bundle. */
+  val name: String,
+  /** The version of the files that ship with the app. */
+  val version: String,
+  /** The Flutter asset that serves each URL. */
+  val assets: Map<String, String>,
+  /**
+   * The SHA-256 digest, in hex, that a downloaded copy of each URL must have.
+   *
+   * `WebViewClient.updateSdkBundle` requires one for every URL.
+   */
+  val sha256: Map<String, String>
+)
+ {
+  companion object {
+    fun fromList(pigeonVar_list: List<Any?>): SdkBundle {
+      val name = pigeonVar_list[0] as String
+      val version = pigeonVar_list[1] as String
+      val assets = pigeonVar_list[2] as Map<String, String>
+      val sha256 = pigeonVar_list[3] as Map<String, String>
+      return SdkBundle(name, version, assets, sha256)
+    }
+  }
+  fun toList(): List<Any?> {
+    return listOf(
+      name,
+      version,
+      assets,
+      sha256,
+    )
+  }
+}
 private open class AndroidWebkitLibraryPigeonCodec : StandardMessageCodec() {
   override fun readValueOfType(type: Byte, buffer: ByteBuffer): Any? {
     return when (type) {
@@ -721,6 +908,41 @@ private open class AndroidWebkitLibraryPigeonCodec : StandardMessageCodec() {
           ConsoleMessageLevel.ofRaw(it.toInt())
         }
       }
+      131.toByte() -> {
+        return (readValue(buffer) as Long?)?.let {
+          PluginLogLevel.ofRaw(it.toInt())
+        }
+      }
+      132.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          WebResourceRequestData.fromList(it)
+        }
+      }
+      133.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          ConsoleMessageData.fromList(it)
+        }
+      }
+      134.toByte() -> {
+        return (readValue(buffer) as Long?)?.let {
+          InterceptMatchType.ofRaw(it.toInt())
+        }
+      }
+      135.toByte() -> {
+        return (readValue(buffer) as Long?)?.let {
+          InterceptAction.ofRaw(it.toInt())
+        }
+      }
+      136.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          InterceptRule.fromList(it)
+        }
+      }
+      137.toByte() -> {
+        return (readValue(buffer) as? List<Any?>)?.let {
+          SdkBundle.fromList(it)
+        }
+      }
       else -> super.readValueOfType(type, buffer)
     }
   }
@@ -734,6 +956,34 @@ private open class AndroidWebkitLibraryPigeonCodec : StandardMessageCodec() {
         stream.write(130)
         writeValue(stream, value.raw)
       }
+      is PluginLogLevel -> {
+        stream.write(131)
+        writeValue(stream, value.raw)
+      }
+      is WebResourceRequestData -> {
+        stream.write(132)
+        writeValue(stream, value.toList())
+      }
+      is ConsoleMessageData -> {
+        stream.write(133)
+        writeValue(stream, value.toList())
+      }
+      is InterceptMatchType -> {
+        stream.write(134)
+        writeValue(stream, value.raw)
+      }
+      is InterceptAction -> {
+        stream.write(135)
+        writeValue(stream, value.raw)
+      }
+      is InterceptRule -> {
+        stream.write(136)
+        writeValue(stream, value.toList())
+      }
+      is SdkBundle -> {
+        stream.write(137)
+        writeValue(stream, value.toList())
+      }
       else -> super.writeValue(stream, value)
     }
   }
@@ -1062,12 +1312,31 @@ abstract class PigeonApiCookieManager(open val pigeonRegistrar: AndroidWebkitLib
   abstract fun removeAllCookies(pigeon_instance: android.webkit.CookieManager, callback: (Result<Boolean>) -> Unit)
 
   /** Sets whether the `WebView` should allow third party cookies to be set. */
-  abstract fun setAcceptThirdPartyCookies(pigeon_instance: android.webkit.CookieManager, webView: android.webkit.WebView, accept: Boolean)
+  abstract fun setAcceptThirdPartyCookies(pigeon_instance: android.webkit.CookieManager, webView: android.webkit.WebView, accept: Boolean, callback: (Result<Unit>) -> Unit)
+
+  /**
+   * Sets every cookie in [cookies], a map from URL to the cookies of the URL,
+   * and then writes them to storage with one flush.
+   */
+  abstract fun setCookies(pigeon_instance: android.webkit.CookieManager, cookies: Map<String, List<String>>)
+
+  /**
+   * Gets the cookies of each URL in [urls], in the format of the `Cookie`
+   * HTTP request header, or null for a URL without cookies.
+   */
+  abstract fun getCookies(pigeon_instance: android.webkit.CookieManager, urls: List<String>): Map<String, String?>
+
+  /**
+   * Ensures all cookies currently accessible through the getCookie API are
+   * written to persistent storage.
+   */
+  abstract fun flush(pigeon_instance: android.webkit.CookieManager)
 
   companion object {
     @Suppress("LocalVariableName")
     fun setUpMessageHandlers(binaryMessenger: BinaryMessenger, api: PigeonApiCookieManager?) {
       val codec = api?.pigeonRegistrar?.codec ?: AndroidWebkitLibraryPigeonCodec()
+      val taskQueue = binaryMessenger.makeBackgroundTaskQueue()
       run {
         val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.bootpay_webview_flutter_android.CookieManager.instance", codec)
         if (api != null) {
@@ -1087,7 +1356,7 @@ abstract class PigeonApiCookieManager(open val pigeonRegistrar: AndroidWebkitLib
         }
       }
       run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.bootpay_webview_flutter_android.CookieManager.setCookie", codec)
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.bootpay_webview_flutter_android.CookieManager.setCookie", codec, taskQueue)
         if (api != null) {
           channel.setMessageHandler { message, reply ->
             val args = message as List<Any?>
@@ -1107,7 +1376,7 @@ abstract class PigeonApiCookieManager(open val pigeonRegistrar: AndroidWebkitLib
         }
       }
       run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.bootpay_webview_flutter_android.CookieManager.removeAllCookies", codec)
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.bootpay_webview_flutter_android.CookieManager.removeAllCookies", codec, taskQueue)
         if (api != null) {
           channel.setMessageHandler { message, reply ->
             val args = message as List<Any?>
@@ -1127,15 +1396,71 @@ abstract class PigeonApiCookieManager(open val pigeonRegistrar: AndroidWebkitLib
         }
       }
       run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.bootpay_webview_flutter_android.CookieManager.setAcceptThirdPartyCookies", codec)
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.bootpay_webview_flutter_android.CookieManager.setAcceptThirdPartyCookies", codec, taskQueue)
         if (api != null) {
           channel.setMessageHandler { message, reply ->
             val args = message as List<Any?>
             val pigeon_instanceArg = args[0] as android.webkit.CookieManager
             val webViewArg = args[1] as android.webkit.WebView
             val acceptArg = args[2] as Boolean
+            api.setAcceptThirdPartyCookies(pigeon_instanceArg, webViewArg, acceptArg) { result: Result<Unit> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                reply.reply(wrapResult(null))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.bootpay_webview_flutter_android.CookieManager.setCookies", codec, taskQueue)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val pigeon_instanceArg = args[0] as android.webkit.CookieManager
+            val cookiesArg = args[1] as Map<String, List<String>>
+            val wrapped: List<Any?> = try {
+              api.setCookies(pigeon_instanceArg, cookiesArg)
+              listOf(null)
+            } catch (exception: Throwable) {
+              wrapError(exception)
+            }
+            reply.reply(wrapped)
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.bootpay_webview_flutter_android.CookieManager.getCookies", codec, taskQueue)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val pigeon_instanceArg = args[0] as android.webkit.CookieManager
+            val urlsArg = args[1] as List<String>
+            val wrapped: List<Any?> = try {
+              listOf(api.getCookies(pigeon_instanceArg, urlsArg))
+            } catch (exception: Throwable) {
+              wrapError(exception)
+            }
+            reply.reply(wrapped)
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.bootpay_webview_flutter_android.CookieManager.flush", codec, taskQueue)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val pigeon_instanceArg = args[0] as android.webkit.CookieManager
             val wrapped: List<Any?> = try {
-              api.setAcceptThirdPartyCookies(pigeon_instanceArg, webViewArg, acceptArg)
+              api.flush(pigeon_instanceArg)
               listOf(null)
             } catch (exception: Throwable) {
               wrapError(exception)
@@ -1272,6 +1597,83 @@ abstract class PigeonApiWebView(open val pigeonRegistrar: AndroidWebkitLibraryPi
   /** Destroys the internal state of this WebView. */
   abstract fun destroy(pigeon_instance: android.webkit.WebView)
 
+  /**
+   * Sets the window, in milliseconds, over which `onScrollChanged` and
+   * `WebChromeClient.onProgressChanged` events are coalesced before being sent
+   * to Dart.
+   *
+   * Only the most recent value within a window is delivered. A value of 0
+   * delivers every event as it happens, which is the default.
+   */
+  abstract fun setCallbackCoalescingWindow(milliseconds: Long)
+
+  /**
+   * Sets how many initialized `WebView`s are kept ready to be returned by the
+   * default constructor.
+   *
+   * The pool is filled while the main thread is idle. `WebView`s are never
+   * returned to it, so each pooled `WebView` is only used once. The size is
+   * capped by the memory available to the app, and a size of 0 disables the
+   * pool, which is the default.
+   *
+   * Returns the size that is used.
+   */
+  abstract fun setPoolSize(size: Long): Long
+
+  /**
+   * Returns the number of pool `hits` and `misses`, the number of `idle`
+   * `WebView`s and the estimated `timeSavedMillis` of the pool.
+   */
+  abstract fun getPoolStats(): Map<String, Long>
+
+  /**
+   * Sets whether garbage collected native objects are looked up on a
+   * background thread instead of the main thread.
+   *
+   * Only the notification of the reclaimed identifiers is sent from the main
+   * thread. Defaults to false.
+   */
+  abstract fun setBackgroundFinalizationSweep(enabled: Boolean)
+
+  /**
+   * Returns the number of finalization `sweeps`, the total, `lastReclaimed`
+   * and `maxReclaimedPerSweep` number of `reclaimed` objects, the
+   * `sweepTimeMicros` spent in sweeps and the current `intervalMillis`.
+   */
+  abstract fun getFinalizationSweepStats(): Map<String, Long>
+
+  /**
+   * Saves the back/forward list of this WebView, or returns null if there is
+   * nothing to save.
+   *
+   * The state is converted to bytes on a background thread.
+   */
+  abstract fun saveState(pigeon_instance: android.webkit.WebView, callback: (Result<ByteArray?>) -> Unit)
+
+  /**
+   * Saves the back/forward list of this WebView to the file at [path], and
+   * returns whether there was anything to save.
+   *
+   * The file is written on a background thread.
+   */
+  abstract fun saveStateToFile(pigeon_instance: android.webkit.WebView, path: String, callback: (Result<Boolean>) -> Unit)
+
+  /**
+   * Restores the back/forward list saved by [saveState], and returns whether
+   * it could be restored.
+   *
+   * State saved by another version of Android can't be restored.
+   */
+  abstract fun restoreState(pigeon_instance: android.webkit.WebView, state: ByteArray, callback: (Result<Boolean>) -> Unit)
+
+  /**
+   * Restores the back/forward list saved by [saveStateToFile], and returns
+   * whether it could be restored.
+   *
+   * The file is read on a background thread.
+   */
+  abstract fun restoreStateFromFile(pigeon_instance: android.webkit.WebView, path: String, callback: (Result<Boolean>) -> Unit)
+
   companion object {
     @Suppress("LocalVariableName")
     fun setUpMessageHandlers(binaryMessenger: BinaryMessenger, api: PigeonApiWebView?) {
@@ -1709,55 +2111,221 @@ abstract class PigeonApiWebView(open val pigeonRegistrar: AndroidWebkitLibraryPi
           channel.setMessageHandler(null)
         }
       }
-    }
-  }
-
-  @Suppress("LocalVariableName", "FunctionName")
-  /** Creates a Dart instance of WebView and attaches it to [pigeon_instanceArg]. */
-  fun pigeon_newInstance(pigeon_instanceArg: android.webkit.WebView, callback: (Result<Unit>) -> Unit)
-{
-    if (pigeonRegistrar.ignoreCallsToDart) {
-      callback(
-          Result.failure(
-              AndroidWebKitError("ignore-calls-error", "Calls to Dart are being ignored.", "")))
-      return
-    }
-    if (pigeonRegistrar.instanceManager.containsInstance(pigeon_instanceArg)) {
-      Result.success(Unit)
-      return
-    }
-    val pigeon_identifierArg = pigeonRegistrar.instanceManager.addHostCreatedInstance(pigeon_instanceArg)
-    val binaryMessenger = pigeonRegistrar.binaryMessenger
-    val codec = pigeonRegistrar.codec
-    val channelName = "dev.flutter.pigeon.bootpay_webview_flutter_android.WebView.pigeon_newInstance"
-    val channel = BasicMessageChannel<Any?>(binaryMessenger, channelName, codec)
-    channel.send(listOf(pigeon_identifierArg)) {
-      if (it is List<*>) {
-        if (it.size > 1) {
-          callback(Result.failure(AndroidWebKitError(it[0] as String, it[1] as String, it[2] as String?)))
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.bootpay_webview_flutter_android.WebView.setCallbackCoalescingWindow", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val millisecondsArg = args[0] as Long
+            val wrapped: List<Any?> = try {
+              api.setCallbackCoalescingWindow(millisecondsArg)
+              listOf(null)
+            } catch (exception: Throwable) {
+              wrapError(exception)
+            }
+            reply.reply(wrapped)
+          }
         } else {
-          callback(Result.success(Unit))
+          channel.setMessageHandler(null)
         }
-      } else {
-        callback(Result.failure(createConnectionError(channelName)))
-      } 
-    }
-  }
-
-  /**
-   * This is called in response to an internal scroll in this view (i.e., the
-   * view scrolled its own contents).
-   */
-  fun onScrollChanged(pigeon_instanceArg: android.webkit.WebView, leftArg: Long, topArg: Long, oldLeftArg: Long, oldTopArg: Long, callback: (Result<Unit>) -> Unit)
-{
-    if (pigeonRegistrar.ignoreCallsToDart) {
-      callback(
-          Result.failure(
-              AndroidWebKitError("ignore-calls-error", "Calls to Dart are being ignored.", "")))
-      return
-    }
-    val binaryMessenger = pigeonRegistrar.binaryMessenger
-    val codec = pigeonRegistrar.codec
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.bootpay_webview_flutter_android.WebView.setPoolSize", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val sizeArg = args[0] as Long
+            val wrapped: List<Any?> = try {
+              listOf(api.setPoolSize(sizeArg))
+            } catch (exception: Throwable) {
+              wrapError(exception)
+            }
+            reply.reply(wrapped)
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.bootpay_webview_flutter_android.WebView.getPoolStats", codec)
+        if (api != null) {
+          channel.setMessageHandler { _, reply ->
+            val wrapped: List<Any?> = try {
+              listOf(api.getPoolStats())
+            } catch (exception: Throwable) {
+              wrapError(exception)
+            }
+            reply.reply(wrapped)
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.bootpay_webview_flutter_android.WebView.setBackgroundFinalizationSweep", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val enabledArg = args[0] as Boolean
+            val wrapped: List<Any?> = try {
+              api.setBackgroundFinalizationSweep(enabledArg)
+              listOf(null)
+            } catch (exception: Throwable) {
+              wrapError(exception)
+            }
+            reply.reply(wrapped)
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.bootpay_webview_flutter_android.WebView.getFinalizationSweepStats", codec)
+        if (api != null) {
+          channel.setMessageHandler { _, reply ->
+            val wrapped: List<Any?> = try {
+              listOf(api.getFinalizationSweepStats())
+            } catch (exception: Throwable) {
+              wrapError(exception)
+            }
+            reply.reply(wrapped)
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.bootpay_webview_flutter_android.WebView.saveState", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val pigeon_instanceArg = args[0] as android.webkit.WebView
+            api.saveState(pigeon_instanceArg) { result: Result<ByteArray?> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.bootpay_webview_flutter_android.WebView.saveStateToFile", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val pigeon_instanceArg = args[0] as android.webkit.WebView
+            val pathArg = args[1] as String
+            api.saveStateToFile(pigeon_instanceArg, pathArg) { result: Result<Boolean> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.bootpay_webview_flutter_android.WebView.restoreState", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val pigeon_instanceArg = args[0] as android.webkit.WebView
+            val stateArg = args[1] as ByteArray
+            api.restoreState(pigeon_instanceArg, stateArg) { result: Result<Boolean> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.bootpay_webview_flutter_android.WebView.restoreStateFromFile", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val pigeon_instanceArg = args[0] as android.webkit.WebView
+            val pathArg = args[1] as String
+            api.restoreStateFromFile(pigeon_instanceArg, pathArg) { result: Result<Boolean> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+    }
+  }
+
+  @Suppress("LocalVariableName", "FunctionName")
+  /** Creates a Dart instance of WebView and attaches it to [pigeon_instanceArg]. */
+  fun pigeon_newInstance(pigeon_instanceArg: android.webkit.WebView, callback: (Result<Unit>) -> Unit)
+{
+    if (pigeonRegistrar.ignoreCallsToDart) {
+      callback(
+          Result.failure(
+              AndroidWebKitError("ignore-calls-error", "Calls to Dart are being ignored.", "")))
+      return
+    }
+    if (pigeonRegistrar.instanceManager.containsInstance(pigeon_instanceArg)) {
+      Result.success(Unit)
+      return
+    }
+    val pigeon_identifierArg = pigeonRegistrar.instanceManager.addHostCreatedInstance(pigeon_instanceArg)
+    val binaryMessenger = pigeonRegistrar.binaryMessenger
+    val codec = pigeonRegistrar.codec
+    val channelName = "dev.flutter.pigeon.bootpay_webview_flutter_android.WebView.pigeon_newInstance"
+    val channel = BasicMessageChannel<Any?>(binaryMessenger, channelName, codec)
+    channel.send(listOf(pigeon_identifierArg)) {
+      if (it is List<*>) {
+        if (it.size > 1) {
+          callback(Result.failure(AndroidWebKitError(it[0] as String, it[1] as String, it[2] as String?)))
+        } else {
+          callback(Result.success(Unit))
+        }
+      } else {
+        callback(Result.failure(createConnectionError(channelName)))
+      } 
+    }
+  }
+
+  /**
+   * This is called in response to an internal scroll in this view (i.e., the
+   * view scrolled its own contents).
+   */
+  fun onScrollChanged(pigeon_instanceArg: android.webkit.WebView, leftArg: Long, topArg: Long, oldLeftArg: Long, oldTopArg: Long, callback: (Result<Unit>) -> Unit)
+{
+    if (pigeonRegistrar.ignoreCallsToDart) {
+      callback(
+          Result.failure(
+              AndroidWebKitError("ignore-calls-error", "Calls to Dart are being ignored.", "")))
+      return
+    }
+    val binaryMessenger = pigeonRegistrar.binaryMessenger
+    val codec = pigeonRegistrar.codec
     val channelName = "dev.flutter.pigeon.bootpay_webview_flutter_android.WebView.onScrollChanged"
     val channel = BasicMessageChannel<Any?>(binaryMessenger, channelName, codec)
     channel.send(listOf(pigeon_instanceArg, leftArg, topArg, oldLeftArg, oldTopArg)) {
@@ -2203,6 +2771,15 @@ abstract class PigeonApiWebSettings(open val pigeonRegistrar: AndroidWebkitLibra
 abstract class PigeonApiJavaScriptChannel(open val pigeonRegistrar: AndroidWebkitLibraryPigeonProxyApiRegistrar) {
   abstract fun pigeon_defaultConstructor(channelName: String): JavaScriptChannel
 
+  /**
+   * Sets whether messages are queued and sent to Dart in batches.
+   *
+   * A batch is sent once per frame, or as soon as it holds `maxBatchSize`
+   * messages. Queued messages are sent immediately when batching is
+   * disabled.
+   */
+  abstract fun setBatching(pigeon_instance: JavaScriptChannel, enabled: Boolean, maxBatchSize: Long)
+
   companion object {
     @Suppress("LocalVariableName")
     fun setUpMessageHandlers(binaryMessenger: BinaryMessenger, api: PigeonApiJavaScriptChannel?) {
@@ -2226,6 +2803,26 @@ abstract class PigeonApiJavaScriptChannel(open val pigeonRegistrar: AndroidWebki
           channel.setMessageHandler(null)
         }
       }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.bootpay_webview_flutter_android.JavaScriptChannel.setBatching", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val pigeon_instanceArg = args[0] as JavaScriptChannel
+            val enabledArg = args[1] as Boolean
+            val maxBatchSizeArg = args[2] as Long
+            val wrapped: List<Any?> = try {
+              api.setBatching(pigeon_instanceArg, enabledArg, maxBatchSizeArg)
+              listOf(null)
+            } catch (exception: Throwable) {
+              wrapError(exception)
+            }
+            reply.reply(wrapped)
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
     }
   }
 
@@ -2246,7 +2843,12 @@ abstract class PigeonApiJavaScriptChannel(open val pigeonRegistrar: AndroidWebki
     throw IllegalStateException("Attempting to create a new Dart instance of JavaScriptChannel, but the class has a nonnull callback method.")
   }
 
-  /** Handles callbacks messages from JavaScript. */
+  /**
+   * Handles callbacks messages from JavaScript.
+   *
+   * While batching is enabled, messages are sent with [postMessages]
+   * instead.
+   */
   fun postMessage(pigeon_instanceArg: JavaScriptChannel, messageArg: String, callback: (Result<Unit>) -> Unit)
 {
     if (pigeonRegistrar.ignoreCallsToDart) {
@@ -2272,6 +2874,68 @@ abstract class PigeonApiJavaScriptChannel(open val pigeonRegistrar: AndroidWebki
     }
   }
 
+  /**
+   * Handles binary messages from JavaScript.
+   *
+   * JavaScript sends them base64 encoded with `postBinaryMessage`, and they
+   * are decoded before they are sent to Dart.
+   */
+  fun postBinaryMessage(pigeon_instanceArg: JavaScriptChannel, messageArg: ByteArray, callback: (Result<Unit>) -> Unit)
+{
+    if (pigeonRegistrar.ignoreCallsToDart) {
+      callback(
+          Result.failure(
+              AndroidWebKitError("ignore-calls-error", "Calls to Dart are being ignored.", "")))
+      return
+    }
+    val binaryMessenger = pigeonRegistrar.binaryMessenger
+    val codec = pigeonRegistrar.codec
+    val channelName = "dev.flutter.pigeon.bootpay_webview_flutter_android.JavaScriptChannel.postBinaryMessage"
+    val channel = BasicMessageChannel<Any?>(binaryMessenger, channelName, codec)
+    channel.send(listOf(pigeon_instanceArg, messageArg)) {
+      if (it is List<*>) {
+        if (it.size > 1) {
+          callback(Result.failure(AndroidWebKitError(it[0] as String, it[1] as String, it[2] as String?)))
+        } else {
+          callback(Result.success(Unit))
+        }
+      } else {
+        callback(Result.failure(createConnectionError(channelName)))
+      } 
+    }
+  }
+
+  /**
+   * Handles a batch of messages from JavaScript, oldest first.
+   *
+   * Each message is a `String` or a `Uint8List`. Only called while batching
+   * is enabled, see [setBatching].
+   */
+  fun postMessages(pigeon_instanceArg: JavaScriptChannel, messagesArg: List<Any?>, callback: (Result<Unit>) -> Unit)
+{
+    if (pigeonRegistrar.ignoreCallsToDart) {
+      callback(
+          Result.failure(
+              AndroidWebKitError("ignore-calls-error", "Calls to Dart are being ignored.", "")))
+      return
+    }
+    val binaryMessenger = pigeonRegistrar.binaryMessenger
+    val codec = pigeonRegistrar.codec
+    val channelName = "dev.flutter.pigeon.bootpay_webview_flutter_android.JavaScriptChannel.postMessages"
+    val channel = BasicMessageChannel<Any?>(binaryMessenger, channelName, codec)
+    channel.send(listOf(pigeon_instanceArg, messagesArg)) {
+      if (it is List<*>) {
+        if (it.size > 1) {
+          callback(Result.failure(AndroidWebKitError(it[0] as String, it[1] as String, it[2] as String?)))
+        } else {
+          callback(Result.success(Unit))
+        }
+      } else {
+        callback(Result.failure(createConnectionError(channelName)))
+      } 
+    }
+  }
+
 }
 /**
  * Receives various notifications and requests from a `WebView`.
@@ -2298,6 +2962,56 @@ abstract class PigeonApiWebViewClient(open val pigeonRegistrar: AndroidWebkitLib
    */
   abstract fun setSynchronousReturnValueForShouldOverrideUrlLoading(pigeon_instance: android.webkit.WebViewClient, value: Boolean)
 
+  /**
+   * Adds or replaces the payment app entry for URLs starting with `prefix`.
+   *
+   * `packageName` is used to open the app, or to send the user to the Play
+   * Store when the app is not installed. `isSpecialCase` marks URLs that must
+   * always be opened in an external app instead of the `WebView`.
+   */
+  abstract fun registerPaymentScheme(prefix: String, packageName: String?, isSpecialCase: Boolean)
+
+  /**
+   * Sets how much the plugin logs while handling navigations and payment URLs.
+   *
+   * Defaults to [PluginLogLevel.off].
+   */
+  abstract fun setLogLevel(level: PluginLogLevel)
+
+  /** Returns the events recorded while logging was enabled, oldest first. */
+  abstract fun getRecentLogs(): List<String>
+
+  /**
+   * Sets whether `WebResourceRequest`s passed to callbacks are sent inline as
+   * [WebResourceRequestData] instead of as proxied instances.
+   *
+   * Inline requests are not added to the instance manager. Defaults to false.
+   */
+  abstract fun setInlineWebResourceRequests(enabled: Boolean)
+
+  /**
+   * Replaces the table of rules used to answer `shouldInterceptRequest`.
+   *
+   * The first rule that matches a request decides what happens to it. Requests
+   * that match no rule go to the network.
+   */
+  abstract fun setInterceptRules(rules: List<InterceptRule>)
+
+  /**
+   * Registers a bundle whose files are served without going to the network,
+   * replacing a bundle with the same name.
+   */
+  abstract fun registerSdkBundle(bundle: SdkBundle)
+
+  /**
+   * Downloads the files of the bundle named [name] that changed on their
+   * servers, and returns whether any did.
+   *
+   * Every URL must use HTTPS and have a pinned digest in [SdkBundle.sha256].
+   * The new files are served once every file has been checked.
+   */
+  abstract fun updateSdkBundle(name: String, callback: (Result<Boolean>) -> Unit)
+
   companion object {
     @Suppress("LocalVariableName")
     fun setUpMessageHandlers(binaryMessenger: BinaryMessenger, api: PigeonApiWebViewClient?) {
@@ -2339,6 +3053,133 @@ abstract class PigeonApiWebViewClient(open val pigeonRegistrar: AndroidWebkitLib
           channel.setMessageHandler(null)
         }
       }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.bootpay_webview_flutter_android.WebViewClient.registerPaymentScheme", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val prefixArg = args[0] as String
+            val packageNameArg = args[1] as String?
+            val isSpecialCaseArg = args[2] as Boolean
+            val wrapped: List<Any?> = try {
+              api.registerPaymentScheme(prefixArg, packageNameArg, isSpecialCaseArg)
+              listOf(null)
+            } catch (exception: Throwable) {
+              wrapError(exception)
+            }
+            reply.reply(wrapped)
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.bootpay_webview_flutter_android.WebViewClient.setLogLevel", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val levelArg = args[0] as PluginLogLevel
+            val wrapped: List<Any?> = try {
+              api.setLogLevel(levelArg)
+              listOf(null)
+            } catch (exception: Throwable) {
+              wrapError(exception)
+            }
+            reply.reply(wrapped)
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.bootpay_webview_flutter_android.WebViewClient.getRecentLogs", codec)
+        if (api != null) {
+          channel.setMessageHandler { _, reply ->
+            val wrapped: List<Any?> = try {
+              listOf(api.getRecentLogs())
+            } catch (exception: Throwable) {
+              wrapError(exception)
+            }
+            reply.reply(wrapped)
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.bootpay_webview_flutter_android.WebViewClient.setInlineWebResourceRequests", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val enabledArg = args[0] as Boolean
+            val wrapped: List<Any?> = try {
+              api.setInlineWebResourceRequests(enabledArg)
+              listOf(null)
+            } catch (exception: Throwable) {
+              wrapError(exception)
+            }
+            reply.reply(wrapped)
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.bootpay_webview_flutter_android.WebViewClient.setInterceptRules", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val rulesArg = args[0] as List<InterceptRule>
+            val wrapped: List<Any?> = try {
+              api.setInterceptRules(rulesArg)
+              listOf(null)
+            } catch (exception: Throwable) {
+              wrapError(exception)
+            }
+            reply.reply(wrapped)
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.bootpay_webview_flutter_android.WebViewClient.registerSdkBundle", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val bundleArg = args[0] as SdkBundle
+            val wrapped: List<Any?> = try {
+              api.registerSdkBundle(bundleArg)
+              listOf(null)
+            } catch (exception: Throwable) {
+              wrapError(exception)
+            }
+            reply.reply(wrapped)
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.bootpay_webview_flutter_android.WebViewClient.updateSdkBundle", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val nameArg = args[0] as String
+            api.updateSdkBundle(nameArg) { result: Result<Boolean> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                val data = result.getOrNull()
+                reply.reply(wrapResult(data))
+              }
+            }
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
     }
   }
 
@@ -2823,6 +3664,31 @@ abstract class PigeonApiWebChromeClient(open val pigeonRegistrar: AndroidWebkitL
    */
   abstract fun setSynchronousReturnValueForOnJsPrompt(pigeon_instance: kr.co.bootpay.webviewflutter.WebChromeClientProxyApi.WebChromeClientImpl, value: Boolean)
 
+  /**
+   * Sets how many popup windows may be open at once and how deeply they may
+   * be nested, and whether the popups of a `WebView` are closed when it starts
+   * loading a new page.
+   *
+   * Popups that exceed a limit are not opened. A negative limit means there is
+   * no limit. Defaults to no limits and keeping popups open on navigation.
+   */
+  abstract fun setPopupPolicy(maxDepth: Long, maxCount: Long, closeOnNavigation: Boolean)
+
+  /**
+   * Returns the number of `live` popups, the `depth` of the most nested one,
+   * and the number of `opened`, `rejected` and `closedWithParent` popups.
+   */
+  abstract fun getPopupStats(): Map<String, Long>
+
+  /**
+   * Sets whether console messages are filtered on the native side and sent
+   * inline in batches of one per frame.
+   *
+   * Messages less severe than [minimumLevel], or whose source URL starts with
+   * one of [excludedSourcePrefixes], are dropped without being sent.
+   */
+  abstract fun setConsoleMessageFilter(enabled: Boolean, minimumLevel: ConsoleMessageLevel, excludedSourcePrefixes: List<String>)
+
   companion object {
     @Suppress("LocalVariableName")
     fun setUpMessageHandlers(binaryMessenger: BinaryMessenger, api: PigeonApiWebChromeClient?) {
@@ -2940,6 +3806,61 @@ abstract class PigeonApiWebChromeClient(open val pigeonRegistrar: AndroidWebkitL
           channel.setMessageHandler(null)
         }
       }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.bootpay_webview_flutter_android.WebChromeClient.setPopupPolicy", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val maxDepthArg = args[0] as Long
+            val maxCountArg = args[1] as Long
+            val closeOnNavigationArg = args[2] as Boolean
+            val wrapped: List<Any?> = try {
+              api.setPopupPolicy(maxDepthArg, maxCountArg, closeOnNavigationArg)
+              listOf(null)
+            } catch (exception: Throwable) {
+              wrapError(exception)
+            }
+            reply.reply(wrapped)
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.bootpay_webview_flutter_android.WebChromeClient.getPopupStats", codec)
+        if (api != null) {
+          channel.setMessageHandler { _, reply ->
+            val wrapped: List<Any?> = try {
+              listOf(api.getPopupStats())
+            } catch (exception: Throwable) {
+              wrapError(exception)
+            }
+            reply.reply(wrapped)
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.bootpay_webview_flutter_android.WebChromeClient.setConsoleMessageFilter", codec)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val enabledArg = args[0] as Boolean
+            val minimumLevelArg = args[1] as ConsoleMessageLevel
+            val excludedSourcePrefixesArg = args[2] as List<String>
+            val wrapped: List<Any?> = try {
+              api.setConsoleMessageFilter(enabledArg, minimumLevelArg, excludedSourcePrefixesArg)
+              listOf(null)
+            } catch (exception: Throwable) {
+              wrapError(exception)
+            }
+            reply.reply(wrapped)
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
     }
   }
 
@@ -3175,7 +4096,12 @@ abstract class PigeonApiWebChromeClient(open val pigeonRegistrar: AndroidWebkitL
     }
   }
 
-  /** Report a JavaScript console message to the host application. */
+  /**
+   * Report a JavaScript console message to the host application.
+   *
+   * While the console message filter is enabled, messages are reported with
+   * [onConsoleMessages] instead.
+   */
   fun onConsoleMessage(pigeon_instanceArg: kr.co.bootpay.webviewflutter.WebChromeClientProxyApi.WebChromeClientImpl, messageArg: android.webkit.ConsoleMessage, callback: (Result<Unit>) -> Unit)
 {
     if (pigeonRegistrar.ignoreCallsToDart) {
@@ -3201,6 +4127,37 @@ abstract class PigeonApiWebChromeClient(open val pigeonRegistrar: AndroidWebkitL
     }
   }
 
+  /**
+   * Report a batch of JavaScript console messages that passed the console
+   * message filter.
+   *
+   * Only called while the console message filter is enabled.
+   */
+  fun onConsoleMessages(pigeon_instanceArg: kr.co.bootpay.webviewflutter.WebChromeClientProxyApi.WebChromeClientImpl, messagesArg: List<ConsoleMessageData>, callback: (Result<Unit>) -> Unit)
+{
+    if (pigeonRegistrar.ignoreCallsToDart) {
+      callback(
+          Result.failure(
+              AndroidWebKitError("ignore-calls-error", "Calls to Dart are being ignored.", "")))
+      return
+    }
+    val binaryMessenger = pigeonRegistrar.binaryMessenger
+    val codec = pigeonRegistrar.codec
+    val channelName = "dev.flutter.pigeon.bootpay_webview_flutter_android.WebChromeClient.onConsoleMessages"
+    val channel = BasicMessageChannel<Any?>(binaryMessenger, channelName, codec)
+    channel.send(listOf(pigeon_instanceArg, messagesArg)) {
+      if (it is List<*>) {
+        if (it.size > 1) {
+          callback(Result.failure(AndroidWebKitError(it[0] as String, it[1] as String, it[2] as String?)))
+        } else {
+          callback(Result.success(Unit))
+        }
+      } else {
+        callback(Result.failure(createConnectionError(channelName)))
+      } 
+    }
+  }
+
   /**
    * Notify the host application that the web page wants to display a
    * JavaScript `alert()` dialog.
@@ -3321,10 +4278,19 @@ abstract class PigeonApiFlutterAssetManager(open val pigeonRegistrar: AndroidWeb
    */
   abstract fun getAssetFilePathByName(pigeon_instance: kr.co.bootpay.webviewflutter.FlutterAssetManager, name: String): String
 
+  /**
+   * Returns the paths of all asset files under the given path, relative to
+   * it.
+   *
+   * Asset directories are listed once and answered from memory afterwards.
+   */
+  abstract fun listAll(pigeon_instance: kr.co.bootpay.webviewflutter.FlutterAssetManager, path: String): List<String>
+
   companion object {
     @Suppress("LocalVariableName")
     fun setUpMessageHandlers(binaryMessenger: BinaryMessenger, api: PigeonApiFlutterAssetManager?) {
       val codec = api?.pigeonRegistrar?.codec ?: AndroidWebkitLibraryPigeonCodec()
+      val taskQueue = binaryMessenger.makeBackgroundTaskQueue()
       run {
         val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.bootpay_webview_flutter_android.FlutterAssetManager.instance", codec)
         if (api != null) {
@@ -3344,7 +4310,7 @@ abstract class PigeonApiFlutterAssetManager(open val pigeonRegistrar: AndroidWeb
         }
       }
       run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.bootpay_webview_flutter_android.FlutterAssetManager.list", codec)
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.bootpay_webview_flutter_android.FlutterAssetManager.list", codec, taskQueue)
         if (api != null) {
           channel.setMessageHandler { message, reply ->
             val args = message as List<Any?>
@@ -3362,7 +4328,7 @@ abstract class PigeonApiFlutterAssetManager(open val pigeonRegistrar: AndroidWeb
         }
       }
       run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.bootpay_webview_flutter_android.FlutterAssetManager.getAssetFilePathByName", codec)
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.bootpay_webview_flutter_android.FlutterAssetManager.getAssetFilePathByName", codec, taskQueue)
         if (api != null) {
           channel.setMessageHandler { message, reply ->
             val args = message as List<Any?>
@@ -3379,6 +4345,24 @@ abstract class PigeonApiFlutterAssetManager(open val pigeonRegistrar: AndroidWeb
           channel.setMessageHandler(null)
         }
       }
+      run {
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.bootpay_webview_flutter_android.FlutterAssetManager.listAll", codec, taskQueue)
+        if (api != null) {
+          channel.setMessageHandler { message, reply ->
+            val args = message as List<Any?>
+            val pigeon_instanceArg = args[0] as kr.co.bootpay.webviewflutter.FlutterAssetManager
+            val pathArg = args[1] as String
+            val wrapped: List<Any?> = try {
+              listOf(api.listAll(pigeon_instanceArg, pathArg))
+            } catch (exception: Throwable) {
+              wrapError(exception)
+            }
+            reply.reply(wrapped)
+          }
+        } else {
+          channel.setMessageHandler(null)
+        }
+      }
     }
   }
 
@@ -3426,12 +4410,13 @@ abstract class PigeonApiWebStorage(open val pigeonRegistrar: AndroidWebkitLibrar
   abstract fun instance(): android.webkit.WebStorage
 
   /** Clears all storage currently being used by the JavaScript storage APIs. */
-  abstract fun deleteAllData(pigeon_instance: android.webkit.WebStorage)
+  abstract fun deleteAllData(pigeon_instance: android.webkit.WebStorage, callback: (Result<Unit>) -> Unit)
 
   companion object {
     @Suppress("LocalVariableName")
     fun setUpMessageHandlers(binaryMessenger: BinaryMessenger, api: PigeonApiWebStorage?) {
       val codec = api?.pigeonRegistrar?.codec ?: AndroidWebkitLibraryPigeonCodec()
+      val taskQueue = binaryMessenger.makeBackgroundTaskQueue()
       run {
         val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.bootpay_webview_flutter_android.WebStorage.instance", codec)
         if (api != null) {
@@ -3451,18 +4436,19 @@ abstract class PigeonApiWebStorage(open val pigeonRegistrar: AndroidWebkitLibrar
         }
       }
       run {
-        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.bootpay_webview_flutter_android.WebStorage.deleteAllData", codec)
+        val channel = BasicMessageChannel<Any?>(binaryMessenger, "dev.flutter.pigeon.bootpay_webview_flutter_android.WebStorage.deleteAllData", codec, taskQueue)
         if (api != null) {
           channel.setMessageHandler { message, reply ->
             val args = message as List<Any?>
             val pigeon_instanceArg = args[0] as android.webkit.WebStorage
-            val wrapped: List<Any?> = try {
-              api.deleteAllData(pigeon_instanceArg)
-              listOf(null)
-            } catch (exception: Throwable) {
-              wrapError(exception)
+            api.deleteAllData(pigeon_instanceArg) { result: Result<Unit> ->
+              val error = result.exceptionOrNull()
+              if (error != null) {
+                reply.reply(wrapError(error))
+              } else {
+                reply.reply(wrapResult(null))
+              }
             }
-            reply.reply(wrapped)
           }
         } else {
           channel.setMessageHandler(null)
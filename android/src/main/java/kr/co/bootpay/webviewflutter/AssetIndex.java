@@ -0,0 +1,132 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package kr.co.bootpay.webviewflutter;
+
+import androidx.annotation.NonNull;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A memoized listing of the assets of a {@link FlutterAssetManager}.
+ *
+ * <p>{@link android.content.res.AssetManager#list} reads the APK's asset table on every call, but
+ * the assets of an app can't change while it runs. Each directory is therefore listed once and
+ * answered from memory afterwards, so {@link #list} and {@link #exists} are a hash map read once
+ * their directory has been seen. {@link #listAll} walks a whole subtree in one call.
+ *
+ * <p>Instances are safe to use from any thread.
+ */
+public class AssetIndex {
+  private final FlutterAssetManager flutterAssetManager;
+  private final Map<String, Directory> directories = new ConcurrentHashMap<>();
+
+  private static final class Directory {
+    @NonNull final List<String> names;
+    @NonNull final Set<String> nameSet;
+
+    Directory(@NonNull String[] names) {
+      this.names = Collections.unmodifiableList(Arrays.asList(names));
+      this.nameSet = new HashSet<>(this.names);
+    }
+  }
+
+  public AssetIndex(@NonNull FlutterAssetManager flutterAssetManager) {
+    this.flutterAssetManager = flutterAssetManager;
+  }
+
+  @NonNull
+  FlutterAssetManager getFlutterAssetManager() {
+    return flutterAssetManager;
+  }
+
+  /**
+   * Returns the names of the assets in the directory at {@code path}, or an empty list if it is a
+   * file or doesn't exist.
+   */
+  @NonNull
+  public List<String> list(@NonNull String path) throws IOException {
+    return getDirectory(normalize(path)).names;
+  }
+
+  /** Whether an asset file or directory exists at {@code path}. */
+  public boolean exists(@NonNull String path) throws IOException {
+    final String normalized = normalize(path);
+    if (normalized.isEmpty()) {
+      return true;
+    }
+    final int slash = normalized.lastIndexOf('/');
+    final String parent = slash < 0 ? "" : normalized.substring(0, slash);
+    return getDirectory(parent).nameSet.contains(normalized.substring(slash + 1));
+  }
+
+  /**
+   * Returns the paths of all asset files under the directory at {@code path}, relative to it.
+   *
+   * <p>Asset directories are never empty, so an entry without children is a file.
+   */
+  @NonNull
+  public List<String> listAll(@NonNull String path) throws IOException {
+    final String root = normalize(path);
+    final List<String> files = new ArrayList<>();
+    final Deque<String> pending = new ArrayDeque<>();
+    pending.push("");
+    while (!pending.isEmpty()) {
+      final String relativeDirectory = pending.pop();
+      final String directory = join(root, relativeDirectory);
+      for (String name : getDirectory(directory).names) {
+        final String relativePath = join(relativeDirectory, name);
+        if (getDirectory(join(directory, name)).names.isEmpty()) {
+          files.add(relativePath);
+        } else {
+          pending.push(relativePath);
+        }
+      }
+    }
+    Collections.sort(files);
+    return files;
+  }
+
+  @NonNull
+  private Directory getDirectory(@NonNull String path) throws IOException {
+    Directory directory = directories.get(path);
+    if (directory == null) {
+      // Two threads may list the same directory, but they get the same result.
+      final String[] names = flutterAssetManager.list(path);
+      directory = new Directory(names != null ? names : new String[0]);
+      directories.put(path, directory);
+    }
+    return directory;
+  }
+
+  @NonNull
+  private static String normalize(@NonNull String path) {
+    int start = 0;
+    int end = path.length();
+    while (start < end && path.charAt(start) == '/') {
+      start++;
+    }
+    while (end > start && path.charAt(end - 1) == '/') {
+      end--;
+    }
+    return path.substring(start, end);
+  }
+
+  @NonNull
+  private static String join(@NonNull String directory, @NonNull String name) {
+    if (directory.isEmpty()) {
+      return name;
+    }
+    return name.isEmpty() ? directory : directory + "/" + name;
+  }
+}
@@ -0,0 +1,247 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package kr.co.bootpay.webviewflutter;
+
+import android.content.res.AssetFileDescriptor;
+import android.content.res.AssetManager;
+import android.webkit.MimeTypeMap;
+import android.webkit.WebResourceResponse;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Serves Flutter assets and local files to the WebView as {@link WebResourceResponse}s.
+ *
+ * <p>Assets stored uncompressed in the APK and files on disk are memory-mapped, so the WebView
+ * reads them straight from the page cache instead of through a copy on the Java heap. These
+ * responses also honor a single-range {@code Range} header, which media elements use to seek.
+ * Compressed assets can only be read from the start, so they are always sent whole.
+ */
+public class AssetStreamer {
+  /** Returned by {@link #parseRange} for a range that starts past the end of the content. */
+  @VisibleForTesting static final long[] UNSATISFIABLE = new long[0];
+
+  private final FlutterAssetManager flutterAssetManager;
+
+  public AssetStreamer(@NonNull FlutterAssetManager flutterAssetManager) {
+    this.flutterAssetManager = flutterAssetManager;
+  }
+
+  /**
+   * Returns a response with the Flutter asset {@code name}, or null if there is no such asset.
+   *
+   * @param range the value of the request's {@code Range} header, if any
+   * @param headers additional response headers
+   */
+  @Nullable
+  public WebResourceResponse openAsset(
+      @NonNull String name, @Nullable String range, @NonNull Map<String, String> headers) {
+    final String assetPath = flutterAssetManager.getAssetFilePathByName(name);
+    if (assetPath == null) {
+      return null;
+    }
+    final String mimeType = guessMimeType(name);
+
+    AssetFileDescriptor descriptor = null;
+    try {
+      descriptor = flutterAssetManager.assetManager.openFd(assetPath);
+    } catch (IOException e) {
+      // The asset is compressed, so it has no file descriptor.
+    }
+    if (descriptor != null) {
+      // Closing the stream also closes the descriptor.
+      try (FileInputStream input = descriptor.createInputStream()) {
+        return respond(
+            input.getChannel(),
+            descriptor.getStartOffset(),
+            descriptor.getLength(),
+            mimeType,
+            range,
+            headers);
+      } catch (IOException e) {
+        return null;
+      }
+    }
+
+    try {
+      final InputStream input =
+          flutterAssetManager.assetManager.open(assetPath, AssetManager.ACCESS_STREAMING);
+      // The length of a compressed asset isn't known without reading it, and available() doesn't
+      // promise the total length, so no Content-Length is sent.
+      return new WebResourceResponse(mimeType, null, 200, "OK", headers, input);
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Returns a response with the contents of {@code file}, or null if it can't be read.
+   *
+   * @param range the value of the request's {@code Range} header, if any
+   * @param headers additional response headers
+   */
+  @Nullable
+  public WebResourceResponse openFile(
+      @NonNull File file,
+      @NonNull String mimeType,
+      @Nullable String range,
+      @NonNull Map<String, String> headers) {
+    if (!file.isFile()) {
+      return null;
+    }
+    try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
+      return respond(
+          randomAccessFile.getChannel(), 0, randomAccessFile.length(), mimeType, range, headers);
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Maps {@code count} bytes of {@code channel} starting at {@code position} into memory.
+   *
+   * <p>The mapping stays valid after the channel is closed.
+   */
+  @NonNull
+  static InputStream map(@NonNull FileChannel channel, long position, long count)
+      throws IOException {
+    return new ByteBufferInputStream(channel.map(FileChannel.MapMode.READ_ONLY, position, count));
+  }
+
+  /**
+   * Returns the first and last byte of the range requested by the {@code Range} header {@code
+   * range}, {@link #UNSATISFIABLE} if it starts past the end of the content, or null if the whole
+   * content should be sent.
+   *
+   * <p>Only single byte ranges are supported; the whole content is sent for any other header.
+   */
+  @Nullable
+  @VisibleForTesting
+  static long[] parseRange(@Nullable String range, long length) {
+    if (range == null) {
+      return null;
+    }
+    final String value = range.trim();
+    if (!value.startsWith("bytes=") || value.indexOf(',') >= 0) {
+      return null;
+    }
+    final int dash = value.indexOf('-');
+    if (dash < 0) {
+      return null;
+    }
+    final String first = value.substring("bytes=".length(), dash).trim();
+    final String last = value.substring(dash + 1).trim();
+    try {
+      if (first.isEmpty()) {
+        // A suffix range: the last `last` bytes.
+        final long suffixLength = Long.parseLong(last);
+        if (suffixLength <= 0) {
+          return UNSATISFIABLE;
+        }
+        return new long[] {Math.max(0, length - suffixLength), length - 1};
+      }
+      final long start = Long.parseLong(first);
+      final long end = last.isEmpty() ? length - 1 : Long.parseLong(last);
+      if (start >= length) {
+        return UNSATISFIABLE;
+      }
+      return end < start ? null : new long[] {start, Math.min(end, length - 1)};
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  @NonNull
+  static String guessMimeType(@NonNull String path) {
+    final int dot = path.lastIndexOf('.');
+    final String extension = dot < 0 ? "" : path.substring(dot + 1).toLowerCase(Locale.ROOT);
+    switch (extension) {
+      case "html":
+      case "htm":
+        return "text/html";
+      case "js":
+      case "mjs":
+        return "text/javascript";
+      case "css":
+        return "text/css";
+      case "json":
+      case "map":
+        return "application/json";
+      case "svg":
+        return "image/svg+xml";
+      case "wasm":
+        return "application/wasm";
+      case "woff":
+        return "font/woff";
+      case "woff2":
+        return "font/woff2";
+      case "ttf":
+        return "font/ttf";
+      case "otf":
+        return "font/otf";
+      case "webp":
+        return "image/webp";
+      case "mp4":
+        return "video/mp4";
+      case "webm":
+        return "video/webm";
+      default:
+        final String mimeType = MimeTypeMap.getSingleton().getMimeTypeFromExtension(extension);
+        return mimeType != null ? mimeType : "application/octet-stream";
+    }
+  }
+
+  @NonNull
+  private static WebResourceResponse respond(
+      @NonNull FileChannel channel,
+      long offset,
+      long length,
+      @NonNull String mimeType,
+      @Nullable String range,
+      @NonNull Map<String, String> headers)
+      throws IOException {
+    final Map<String, String> responseHeaders = new HashMap<>(headers);
+    responseHeaders.put("Accept-Ranges", "bytes");
+
+    final long[] bounds = parseRange(range, length);
+    if (bounds == UNSATISFIABLE) {
+      responseHeaders.put("Content-Range", "bytes */" + length);
+      return new WebResourceResponse(
+          mimeType,
+          null,
+          416,
+          "Range Not Satisfiable",
+          responseHeaders,
+          new ByteArrayInputStream(new byte[0]));
+    }
+    if (bounds == null) {
+      responseHeaders.put("Content-Length", Long.toString(length));
+      return new WebResourceResponse(
+          mimeType, null, 200, "OK", responseHeaders, map(channel, offset, length));
+    }
+
+    final long count = bounds[1] - bounds[0] + 1;
+    responseHeaders.put("Content-Length", Long.toString(count));
+    responseHeaders.put("Content-Range", "bytes " + bounds[0] + "-" + bounds[1] + "/" + length);
+    return new WebResourceResponse(
+        mimeType,
+        null,
+        206,
+        "Partial Content",
+        responseHeaders,
+        map(channel, offset + bounds[0], count));
+  }
+}
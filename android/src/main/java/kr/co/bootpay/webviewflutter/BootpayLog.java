@@ -0,0 +1,105 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package kr.co.bootpay.webviewflutter;
+
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records plugin events while navigations and payment URLs are handled.
+ *
+ * <p>Logging is off by default, in which case {@link #log} returns before touching its arguments.
+ * Otherwise events are stored in a fixed-size ring buffer without building a message, and are only
+ * formatted when {@link #getRecentLogs} is called. Callers that would have to build an argument
+ * should check {@link #isEnabled} first.
+ */
+public final class BootpayLog {
+  private static final String TAG = "bootpay";
+  private static final int CAPACITY = 128;
+
+  private static final long[] timestamps = new long[CAPACITY];
+  private static final String[] events = new String[CAPACITY];
+  private static final String[] details = new String[CAPACITY];
+  private static int next = 0;
+  private static int size = 0;
+
+  private static volatile PluginLogLevel level = PluginLogLevel.OFF;
+
+  private BootpayLog() {}
+
+  /** Sets how much is logged and drops the recorded events when logging is turned off. */
+  public static void setLevel(@NonNull PluginLogLevel level) {
+    BootpayLog.level = level;
+    if (level == PluginLogLevel.OFF) {
+      clear();
+    }
+  }
+
+  @NonNull
+  public static PluginLogLevel getLevel() {
+    return level;
+  }
+
+  /** Whether events are currently recorded. */
+  public static boolean isEnabled() {
+    return level != PluginLogLevel.OFF;
+  }
+
+  /**
+   * Records an event.
+   *
+   * @param event a constant name for what happened, e.g. "onPageStarted"
+   * @param detail the value the event applies to, such as a URL, or null
+   */
+  public static void log(@NonNull String event, @Nullable String detail) {
+    final PluginLogLevel currentLevel = level;
+    if (currentLevel == PluginLogLevel.OFF) {
+      return;
+    }
+
+    synchronized (BootpayLog.class) {
+      timestamps[next] = System.currentTimeMillis();
+      events[next] = event;
+      details[next] = detail;
+      next = (next + 1) % CAPACITY;
+      if (size < CAPACITY) {
+        size++;
+      }
+    }
+
+    if (currentLevel == PluginLogLevel.LOGCAT) {
+      Log.d(TAG, detail != null ? event + ": " + detail : event);
+    }
+  }
+
+  /** Returns the recorded events, oldest first, formatted as "timestamp event: detail". */
+  @NonNull
+  public static synchronized List<String> getRecentLogs() {
+    final List<String> logs = new ArrayList<>(size);
+    final int start = (next - size + CAPACITY) % CAPACITY;
+    for (int i = 0; i < size; i++) {
+      final int index = (start + i) % CAPACITY;
+      final StringBuilder builder = new StringBuilder();
+      builder.append(timestamps[index]).append(' ').append(events[index]);
+      if (details[index] != null) {
+        builder.append(": ").append(details[index]);
+      }
+      logs.add(builder.toString());
+    }
+    return logs;
+  }
+
+  private static synchronized void clear() {
+    for (int i = 0; i < CAPACITY; i++) {
+      events[i] = null;
+      details[i] = null;
+    }
+    next = 0;
+    size = 0;
+  }
+}
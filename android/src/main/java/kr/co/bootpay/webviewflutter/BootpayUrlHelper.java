@@ -5,7 +5,6 @@ import android.content.Context;
 import android.content.Intent;
 import android.net.Uri;
 import android.webkit.WebView;
-import android.util.Log;
 
 
 import java.net.URISyntaxException;
@@ -14,48 +13,39 @@ import java.net.URISyntaxException;
 
 public class BootpayUrlHelper {
     public boolean doDeepLinkIfPayUrl(WebView view, String url) {
+        // Most navigations are regular web pages, which never need intent parsing or package lookups.
+        if(isWebUrl(url)) return false;
+
+        BootpayLog.log("doDeepLinkIfPayUrl", url);
+
+        if(!isIntent(url) && !isMarket(url) && !isSpecialCase(url)) return false;
 
         Intent intent = getIntentWithPackage(url);
         Context context = view.getContext();
 
-        Log.d("bootpay", "doDeepLinkIfPayUrl: " + url);
-
-        if(isIntent(url)) {
-            if(isInstallApp(intent, context)) return startApp(intent, context);
-            else return startGooglePlay(intent, context);
-        } else if(isMarket(url)) {
-            if(isInstallApp(intent, context)) return startApp(intent, context);
-            else return startGooglePlay(intent, context);
-        } else if(isSpecialCase(url)) {
-            if(isInstallApp(intent, context)) return startApp(intent, context);
-            else return startGooglePlay(intent, context);
-        }
+        if(isInstallApp(intent, context)) return startApp(intent, context);
+        else return startGooglePlay(intent, context);
+    }
 
-//        return url.contains("vguardend");
-        return false;
+    /**
+     * Whether the url uses a scheme that is always loaded by the WebView itself.
+     *
+     * <p>This only compares the start of the string, so it doesn't allocate.
+     */
+    public static boolean isWebUrl(String url) {
+        return url == null
+                || url.regionMatches(true, 0, "https:", 0, 6)
+                || url.regionMatches(true, 0, "http:", 0, 5)
+                || url.regionMatches(true, 0, "about:", 0, 6)
+                || url.regionMatches(true, 0, "data:", 0, 5)
+                || url.regionMatches(true, 0, "blob:", 0, 5);
     }
 
     public Boolean isSpecialCase(String url) {
-        return url.matches("^shinhan\\S+$")
-                || url.startsWith("kftc-bankpay://")
-                || url.startsWith("v3mobileplusweb://")
-                || url.startsWith("hdcardappcardansimclick://")
-                || url.startsWith("nidlogin://")
-                || url.startsWith("mpocket.online.ansimclick://")
-                || url.startsWith("wooripay://")
-                || url.startsWith("ispmobile://")
-                || url.startsWith("kb-acp://")
-                || url.startsWith("kakaotalk://");
-
+        return PaymentSchemeTable.getInstance().lookup(url).isSpecialCase;
     }
 
     public Boolean isIntent(String url) {
-        Log.d(
-                "bootpay",
-                String.format("url %s: %s.", url, url.startsWith("intent:"))
-        );
-
-
         return url.startsWith("intent:");
     }
     public Boolean isMarket(String url) {
@@ -68,28 +58,18 @@ public class BootpayUrlHelper {
             Intent intent = Intent.parseUri(url, Intent.URI_INTENT_SCHEME);
             if(intent.getPackage() == null) {
                 if (url == null) return intent;
-                if (url.startsWith("shinhan-sr-ansimclick")) intent.setPackage("com.shcard.smartpay");
-                else if (url.startsWith("kftc-bankpay")) intent.setPackage("com.kftc.bankpay.android");
-                else if (url.startsWith("ispmobile")) intent.setPackage("kvp.jjy.MispAndroid320");
-                else if (url.startsWith("hdcardappcardansimclick")) intent.setPackage("com.hyundaicard.appcard");
-                else if (url.startsWith("kb-acp")) intent.setPackage("com.kbcard.kbkookmincard");
-                else if (url.startsWith("mpocket.online.ansimclick")) intent.setPackage("kr.co.samsungcard.mpocket");
-                else if (url.startsWith("lotteappcard")) intent.setPackage("com.lcacApp");
-                else if (url.startsWith("cloudpay")) intent.setPackage("com.hanaskcard.paycla");
-                else if (url.startsWith("nhappvardansimclick")) intent.setPackage("nh.smart.nhallonepay");
-                else if (url.startsWith("citispay")) intent.setPackage("kr.co.citibank.citimobile");
-                else if (url.startsWith("kakaotalk")) intent.setPackage("com.kakao.talk");
-//                kvp.jjy.MispAndroid320
+                String packageName = PaymentSchemeTable.getInstance().lookup(url).packageName;
+                if (packageName != null) intent.setPackage(packageName);
             }
             return intent;
         } catch (URISyntaxException e) {
-            e.printStackTrace();
+            BootpayLog.log("getIntentWithPackage failed", url);
             return null;
         }
     }
 
     public boolean isInstallApp(Intent intent, Context context) {
-        return intent != null &&  intent.getPackage() != null && context.getPackageManager().getLaunchIntentForPackage(intent.getPackage()) != null;
+        return intent != null &&  intent.getPackage() != null && InstalledAppCache.getInstance().isInstalled(context, intent.getPackage());
     }
 
 
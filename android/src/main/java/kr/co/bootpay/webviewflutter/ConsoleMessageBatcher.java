@@ -0,0 +1,63 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package kr.co.bootpay.webviewflutter;
+
+import android.view.Choreographer;
+import androidx.annotation.NonNull;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects console messages and hands them to a {@link Sink} once per frame.
+ *
+ * <p>Pages that log heavily then cost one platform channel message per frame instead of one per
+ * line. A batch is also delivered early once it reaches {@link #MAX_BATCH_SIZE}, so messages don't
+ * pile up while frames aren't being drawn.
+ *
+ * <p>This class must only be used on the main thread.
+ */
+public class ConsoleMessageBatcher implements Choreographer.FrameCallback {
+  /** Receives each batch of messages, oldest first. */
+  public interface Sink {
+    void onConsoleMessages(@NonNull List<ConsoleMessageData> messages);
+  }
+
+  static final int MAX_BATCH_SIZE = 256;
+
+  private final Sink sink;
+  private List<ConsoleMessageData> pending = new ArrayList<>();
+  private boolean isFrameCallbackPosted = false;
+
+  public ConsoleMessageBatcher(@NonNull Sink sink) {
+    this.sink = sink;
+  }
+
+  /** Adds a message to the current batch. */
+  public void add(@NonNull ConsoleMessageData message) {
+    pending.add(message);
+    if (pending.size() >= MAX_BATCH_SIZE) {
+      flush();
+    } else if (!isFrameCallbackPosted) {
+      isFrameCallbackPosted = true;
+      Choreographer.getInstance().postFrameCallback(this);
+    }
+  }
+
+  @Override
+  public void doFrame(long frameTimeNanos) {
+    isFrameCallbackPosted = false;
+    flush();
+  }
+
+  /** Delivers the current batch immediately. */
+  public void flush() {
+    if (pending.isEmpty()) {
+      return;
+    }
+    final List<ConsoleMessageData> batch = pending;
+    pending = new ArrayList<>();
+    sink.onConsoleMessages(batch);
+  }
+}
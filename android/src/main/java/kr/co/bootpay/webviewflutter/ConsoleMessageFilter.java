@@ -0,0 +1,81 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package kr.co.bootpay.webviewflutter;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.List;
+
+/**
+ * Decides which JavaScript console messages are sent to Dart.
+ *
+ * <p>While disabled, every message is sent on its own as a proxied {@code ConsoleMessage}. While
+ * enabled, messages below the minimum level or from an excluded source are dropped before anything
+ * is sent, and the rest are sent inline by a {@link ConsoleMessageBatcher}.
+ */
+public class ConsoleMessageFilter {
+  private static final ConsoleMessageFilter instance = new ConsoleMessageFilter();
+
+  private volatile boolean enabled = false;
+  private volatile int minimumSeverity = 0;
+  @NonNull private volatile String[] excludedSourcePrefixes = new String[0];
+
+  @NonNull
+  public static ConsoleMessageFilter getInstance() {
+    return instance;
+  }
+
+  // Visible for testing. The plugin uses the shared instance.
+  ConsoleMessageFilter() {}
+
+  /**
+   * Sets whether messages are filtered and batched.
+   *
+   * @param minimumLevel messages less severe than this level are dropped
+   * @param excludedSourcePrefixes messages whose source URL starts with one of these are dropped
+   */
+  public void set(
+      boolean enabled,
+      @NonNull ConsoleMessageLevel minimumLevel,
+      @NonNull List<String> excludedSourcePrefixes) {
+    this.minimumSeverity = severityOf(minimumLevel);
+    this.excludedSourcePrefixes = excludedSourcePrefixes.toArray(new String[0]);
+    this.enabled = enabled;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /** Whether a message with {@code level} from {@code sourceId} should be sent to Dart. */
+  public boolean accepts(@NonNull ConsoleMessageLevel level, @Nullable String sourceId) {
+    if (severityOf(level) < minimumSeverity) {
+      return false;
+    }
+    if (sourceId != null) {
+      for (String prefix : excludedSourcePrefixes) {
+        if (sourceId.startsWith(prefix)) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  // Android reports `console.debug` as TIP, and the Dart side treats UNKNOWN as a log message.
+  private static int severityOf(@NonNull ConsoleMessageLevel level) {
+    switch (level) {
+      case DEBUG:
+      case TIP:
+        return 0;
+      case WARNING:
+        return 2;
+      case ERROR:
+        return 3;
+      default:
+        return 1;
+    }
+  }
+}
@@ -7,6 +7,9 @@ package kr.co.bootpay.webviewflutter;
 import android.webkit.CookieManager;
 import android.webkit.WebView;
 import androidx.annotation.NonNull;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import kotlin.Result;
 import kotlin.Unit;
 import kotlin.jvm.functions.Function1;
@@ -16,6 +19,9 @@ import kotlin.jvm.functions.Function1;
  *
  * <p>This class may handle instantiating and adding native object instances that are attached to a
  * Dart instance or handle method calls on the associated native class or an instance of the class.
+ *
+ * <p>Its methods are annotated with `@TaskQueue` in the Pigeon source, so their message handlers
+ * run on a serial background task queue.
  */
 public class CookieManagerProxyApi extends PigeonApiCookieManager {
   public CookieManagerProxyApi(@NonNull ProxyApiRegistrar pigeonRegistrar) {
@@ -44,12 +50,56 @@ public class CookieManagerProxyApi extends PigeonApiCookieManager {
   public void removeAllCookies(
       @NonNull CookieManager pigeon_instance,
       @NonNull Function1<? super Result<Boolean>, Unit> callback) {
-    pigeon_instance.removeAllCookies(aBoolean -> ResultCompat.success(aBoolean, callback));
+    // The callback is run on the calling thread's Looper, which the background task queue of this
+    // API doesn't have.
+    getPigeonRegistrar()
+        .runOnMainThread(
+            () ->
+                pigeon_instance.removeAllCookies(
+                    aBoolean -> ResultCompat.success(aBoolean, callback)));
   }
 
   @Override
   public void setAcceptThirdPartyCookies(
-      @NonNull CookieManager pigeon_instance, @NonNull WebView webView, boolean accept) {
-    pigeon_instance.setAcceptThirdPartyCookies(webView, accept);
+      @NonNull CookieManager pigeon_instance,
+      @NonNull WebView webView,
+      boolean accept,
+      @NonNull Function1<? super Result<Unit>, Unit> callback) {
+    // Changes the settings of the WebView, which must be done on the main thread. The reply waits
+    // for it, so the setting applies to loads started after the call completes.
+    getPigeonRegistrar()
+        .runOnMainThread(
+            () -> {
+              pigeon_instance.setAcceptThirdPartyCookies(webView, accept);
+              ResultCompat.success(null, callback);
+            });
+  }
+
+  @Override
+  public void setCookies(
+      @NonNull CookieManager pigeon_instance, @NonNull Map<String, List<String>> cookies) {
+    for (Map.Entry<String, List<String>> entry : cookies.entrySet()) {
+      for (String value : entry.getValue()) {
+        pigeon_instance.setCookie(entry.getKey(), value);
+      }
+    }
+    // Writes every cookie to storage at once instead of leaving it to the periodic sync.
+    pigeon_instance.flush();
+  }
+
+  @NonNull
+  @Override
+  public Map<String, String> getCookies(
+      @NonNull CookieManager pigeon_instance, @NonNull List<String> urls) {
+    final Map<String, String> cookies = new HashMap<>();
+    for (String url : urls) {
+      cookies.put(url, pigeon_instance.getCookie(url));
+    }
+    return cookies;
+  }
+
+  @Override
+  public void flush(@NonNull CookieManager pigeon_instance) {
+    pigeon_instance.flush();
   }
 }
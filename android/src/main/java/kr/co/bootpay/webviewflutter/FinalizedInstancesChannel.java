@@ -0,0 +1,54 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package kr.co.bootpay.webviewflutter;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+import io.flutter.plugin.common.BasicMessageChannel;
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.common.StandardMessageCodec;
+
+/**
+ * Sends the identifiers reclaimed by a {@link PigeonFinalizationSweeper} sweep to Dart in a single
+ * message.
+ *
+ * <p>The generated instance manager API removes one identifier per message, so a busy page would
+ * cost one platform channel round trip per reclaimed instance. The Dart side of this channel is
+ * {@code FinalizedInstancesHandler} and replies {@code true} once it removed every identifier.
+ *
+ * <p>Sweeps that reclaimed a single identifier, and batches Dart didn't handle, are passed to the
+ * fallback listener, which sends one message per identifier.
+ */
+public class FinalizedInstancesChannel implements PigeonFinalizationSweeper.Listener {
+  @VisibleForTesting
+  static final String CHANNEL_NAME = "kr.co.bootpay.webviewflutter/removeStrongReferences";
+
+  private final BasicMessageChannel<Object> channel;
+  private final PigeonFinalizationSweeper.Listener fallback;
+
+  public FinalizedInstancesChannel(
+      @NonNull BinaryMessenger binaryMessenger,
+      @NonNull PigeonFinalizationSweeper.Listener fallback) {
+    this.channel =
+        new BasicMessageChannel<>(binaryMessenger, CHANNEL_NAME, StandardMessageCodec.INSTANCE);
+    this.fallback = fallback;
+  }
+
+  @Override
+  public void onFinalized(@NonNull long[] identifiers) {
+    if (identifiers.length == 1) {
+      fallback.onFinalized(identifiers);
+      return;
+    }
+    channel.send(
+        identifiers,
+        reply -> {
+          // The reply is null if Dart hasn't set up its handler yet or the handler failed.
+          if (!Boolean.TRUE.equals(reply)) {
+            fallback.onFinalized(identifiers);
+          }
+        });
+  }
+}
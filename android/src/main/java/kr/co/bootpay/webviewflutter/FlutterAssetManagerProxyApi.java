@@ -6,9 +6,8 @@ package kr.co.bootpay.webviewflutter;
 
 import android.webkit.WebView;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -17,6 +16,8 @@ import java.util.List;
  * <p>Handles creating {@link WebView}s that intercommunicate with a paired Dart object.
  */
 public class FlutterAssetManagerProxyApi extends PigeonApiFlutterAssetManager {
+  @Nullable private AssetIndex assetIndex;
+
   /** Constructs a new instance of {@link FlutterAssetManagerProxyApi}. */
   public FlutterAssetManagerProxyApi(@NonNull ProxyApiRegistrar pigeonRegistrar) {
     super(pigeonRegistrar);
@@ -32,13 +33,17 @@ public class FlutterAssetManagerProxyApi extends PigeonApiFlutterAssetManager {
   @Override
   public List<String> list(@NonNull FlutterAssetManager pigeon_instance, @NonNull String path) {
     try {
-      String[] paths = pigeon_instance.list(path);
-
-      if (paths == null) {
-        return new ArrayList<>();
-      }
+      return getAssetIndex(pigeon_instance).list(path);
+    } catch (IOException ex) {
+      throw new RuntimeException(ex.getMessage());
+    }
+  }
 
-      return Arrays.asList(paths);
+  @NonNull
+  @Override
+  public List<String> listAll(@NonNull FlutterAssetManager pigeon_instance, @NonNull String path) {
+    try {
+      return getAssetIndex(pigeon_instance).listAll(path);
     } catch (IOException ex) {
       throw new RuntimeException(ex.getMessage());
     }
@@ -51,6 +56,16 @@ public class FlutterAssetManagerProxyApi extends PigeonApiFlutterAssetManager {
     return pigeon_instance.getAssetFilePathByName(name);
   }
 
+  // Dart only ever uses the registrar's instance, so there is a single index for the lifetime of
+  // the plugin.
+  @NonNull
+  private synchronized AssetIndex getAssetIndex(@NonNull FlutterAssetManager flutterAssetManager) {
+    if (assetIndex == null || assetIndex.getFlutterAssetManager() != flutterAssetManager) {
+      assetIndex = new AssetIndex(flutterAssetManager);
+    }
+    return assetIndex;
+  }
+
   @NonNull
   @Override
   public ProxyApiRegistrar getPigeonRegistrar() {
@@ -0,0 +1,171 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package kr.co.bootpay.webviewflutter;
+
+import android.content.BroadcastReceiver;
+import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+import android.net.Uri;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches whether payment apps are installed.
+ *
+ * <p>{@code PackageManager.getLaunchIntentForPackage} is a binder call that can take several
+ * milliseconds, and it would otherwise run on the main thread for every payment deep link. Cached
+ * results are dropped when a package is added, removed or replaced.
+ */
+public class InstalledAppCache {
+  private static final InstalledAppCache instance = new InstalledAppCache();
+
+  private final ConcurrentHashMap<String, Boolean> installedPackages = new ConcurrentHashMap<>();
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+  private final Executor warmUpExecutor;
+
+  // Incremented by every invalidation, so a query that started before one doesn't cache a result
+  // that may be stale. Only written while holding the lock on this.
+  private volatile long generation = 0;
+
+  @Nullable private BroadcastReceiver packageChangedReceiver;
+  private int listenerCount = 0;
+
+  public InstalledAppCache() {
+    this(createWarmUpExecutor());
+  }
+
+  @VisibleForTesting
+  InstalledAppCache(@NonNull Executor warmUpExecutor) {
+    this.warmUpExecutor = warmUpExecutor;
+  }
+
+  /** The cache shared by every {@link BootpayUrlHelper}. */
+  @NonNull
+  public static InstalledAppCache getInstance() {
+    return instance;
+  }
+
+  /** Returns whether the app with the given package has a launch intent. */
+  public boolean isInstalled(@NonNull Context context, @NonNull String packageName) {
+    final Boolean cached = installedPackages.get(packageName);
+    if (cached != null) {
+      hitCount.incrementAndGet();
+      return cached;
+    }
+    missCount.incrementAndGet();
+    return queryAndCache(context, packageName);
+  }
+
+  /** Drops the cached result for {@code packageName}, or for every package when it is null. */
+  public synchronized void invalidate(@Nullable String packageName) {
+    generation++;
+    if (packageName == null) {
+      installedPackages.clear();
+    } else {
+      installedPackages.remove(packageName);
+    }
+  }
+
+  /** Queries each package on a background thread so later lookups are served from the cache. */
+  public void warmUp(@NonNull Context context, @NonNull Collection<String> packageNames) {
+    final Context applicationContext = context.getApplicationContext();
+    warmUpExecutor.execute(
+        () -> {
+          for (String packageName : packageNames) {
+            if (!installedPackages.containsKey(packageName)) {
+              queryAndCache(applicationContext, packageName);
+            }
+          }
+        });
+  }
+
+  /**
+   * Starts invalidating cached results when packages change.
+   *
+   * <p>Each call must be balanced with a call to {@link #stopListening}.
+   */
+  public synchronized void startListening(@NonNull Context context) {
+    listenerCount++;
+    if (packageChangedReceiver != null) {
+      return;
+    }
+
+    packageChangedReceiver =
+        new BroadcastReceiver() {
+          @Override
+          public void onReceive(Context context, Intent intent) {
+            final Uri data = intent.getData();
+            invalidate(data != null ? data.getSchemeSpecificPart() : null);
+          }
+        };
+    final IntentFilter filter = new IntentFilter();
+    filter.addAction(Intent.ACTION_PACKAGE_ADDED);
+    filter.addAction(Intent.ACTION_PACKAGE_REMOVED);
+    filter.addAction(Intent.ACTION_PACKAGE_REPLACED);
+    filter.addDataScheme("package");
+    context.getApplicationContext().registerReceiver(packageChangedReceiver, filter);
+  }
+
+  /** Stops invalidating cached results once every {@link #startListening} call is balanced. */
+  public synchronized void stopListening(@NonNull Context context) {
+    if (listenerCount == 0 || --listenerCount > 0 || packageChangedReceiver == null) {
+      return;
+    }
+    context.getApplicationContext().unregisterReceiver(packageChangedReceiver);
+    packageChangedReceiver = null;
+    invalidate(null);
+  }
+
+  /** The number of lookups answered from the cache. */
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  /** The number of lookups that had to query the {@code PackageManager}. */
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  private boolean queryAndCache(@NonNull Context context, @NonNull String packageName) {
+    final long queryGeneration = generation;
+    final boolean installed =
+        context.getPackageManager().getLaunchIntentForPackage(packageName) != null;
+    synchronized (this) {
+      if (generation == queryGeneration) {
+        installedPackages.put(packageName, installed);
+      }
+    }
+    return installed;
+  }
+
+  // One thread is shared by every engine's warm-up, and it stops when there is nothing to do.
+  @NonNull
+  private static Executor createWarmUpExecutor() {
+    final ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            1,
+            1,
+            10,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            runnable -> {
+              final Thread thread = new Thread(runnable, "BootpayInstalledAppCache");
+              thread.setDaemon(true);
+              return thread;
+            });
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+}
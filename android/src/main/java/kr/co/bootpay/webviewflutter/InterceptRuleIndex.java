@@ -0,0 +1,213 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package kr.co.bootpay.webviewflutter;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * An immutable, precompiled form of a table of {@link InterceptRule}s.
+ *
+ * <p>Rules are matched in table order: {@link #match} returns the first rule that matches a URL.
+ * Instead of testing every rule, host rules are kept in a hash map keyed by host, and prefix rules
+ * are kept in a character trie that is walked once along the URL. Glob rules are stored in the same
+ * trie under the literal text before their first {@code *}, so only globs whose literal prefix
+ * matches are tested, and each test is a scan for the glob's literal segments rather than a regular
+ * expression.
+ *
+ * <p>Instances are safe to use from any thread.
+ */
+public class InterceptRuleIndex {
+  /** An index without rules. */
+  public static final InterceptRuleIndex EMPTY = new InterceptRuleIndex(new InterceptRule[0]);
+
+  private static final int NO_RULE = Integer.MAX_VALUE;
+
+  private final InterceptRule[] rules;
+  private final Map<String, Integer> firstRuleByHost = new HashMap<>();
+  private final TrieNode root = new TrieNode();
+  // The literal segments of each glob rule, or null for other rules.
+  private final String[][] globSegments;
+
+  private InterceptRuleIndex(@NonNull InterceptRule[] rules) {
+    this.rules = rules;
+    this.globSegments = new String[rules.length][];
+    for (int i = 0; i < rules.length; i++) {
+      final InterceptRule rule = rules[i];
+      switch (rule.getMatchType()) {
+        case HOST:
+          final String host = rule.getPattern().toLowerCase(Locale.ROOT);
+          if (!firstRuleByHost.containsKey(host)) {
+            firstRuleByHost.put(host, i);
+          }
+          break;
+        case PREFIX:
+          final TrieNode node = root.getOrCreate(rule.getPattern());
+          node.firstPrefixRule = Math.min(node.firstPrefixRule, i);
+          break;
+        case GLOB:
+          final String pattern = rule.getPattern();
+          globSegments[i] = pattern.split("\\*", -1);
+          root.getOrCreate(globSegments[i][0]).addGlobRule(i);
+          break;
+      }
+    }
+  }
+
+  /** Compiles {@code rules} into an index. */
+  @NonNull
+  public static InterceptRuleIndex compile(@NonNull List<InterceptRule> rules) {
+    if (rules.isEmpty()) {
+      return EMPTY;
+    }
+    return new InterceptRuleIndex(rules.toArray(new InterceptRule[0]));
+  }
+
+  public boolean isEmpty() {
+    return rules.length == 0;
+  }
+
+  /** Returns the first rule that matches {@code url}, or null if none does. */
+  @Nullable
+  public InterceptRule match(@NonNull String url) {
+    int best = NO_RULE;
+
+    if (!firstRuleByHost.isEmpty()) {
+      final String host = hostOf(url);
+      if (host != null) {
+        final Integer rule = firstRuleByHost.get(host);
+        if (rule != null) {
+          best = rule;
+        }
+      }
+    }
+
+    TrieNode node = root;
+    int depth = 0;
+    while (node != null) {
+      if (node.firstPrefixRule < best) {
+        best = node.firstPrefixRule;
+      }
+      for (int i = 0; i < node.globRuleCount; i++) {
+        final int rule = node.globRules[i];
+        // Glob rules are added in table order, so the rest can't improve on `best` either.
+        if (rule >= best) {
+          break;
+        }
+        if (matchesGlob(globSegments[rule], url)) {
+          best = rule;
+          break;
+        }
+      }
+      if (depth == url.length()) {
+        break;
+      }
+      node = node.get(url.charAt(depth++));
+    }
+
+    return best == NO_RULE ? null : rules[best];
+  }
+
+  /**
+   * Returns the lowercase host of {@code url}, or null if it has none.
+   *
+   * <p>This avoids {@code Uri.parse}, which allocates and parses the whole URL.
+   */
+  @Nullable
+  static String hostOf(@NonNull String url) {
+    final int schemeEnd = url.indexOf("://");
+    if (schemeEnd < 0) {
+      return null;
+    }
+    int start = schemeEnd + 3;
+    int end = start;
+    while (end < url.length()) {
+      final char c = url.charAt(end);
+      if (c == '/' || c == '?' || c == '#') {
+        break;
+      }
+      if (c == '@') {
+        start = end + 1;
+      }
+      end++;
+    }
+    int portStart = url.lastIndexOf(':', end - 1);
+    if (portStart >= start && url.charAt(start) != '[') {
+      end = portStart;
+    }
+    return start < end ? url.substring(start, end).toLowerCase(Locale.ROOT) : null;
+  }
+
+  // The first segment is already known to be a prefix of `url`, because the glob is stored in the
+  // trie under it.
+  private static boolean matchesGlob(@NonNull String[] segments, @NonNull String url) {
+    final int last = segments.length - 1;
+    final String suffix = segments[last];
+    if (last == 0) {
+      return url.equals(suffix);
+    }
+    final int suffixStart = url.length() - suffix.length();
+    if (suffixStart < segments[0].length() || !url.endsWith(suffix)) {
+      return false;
+    }
+    int position = segments[0].length();
+    for (int i = 1; i < last; i++) {
+      final int found = url.indexOf(segments[i], position);
+      if (found < 0 || found + segments[i].length() > suffixStart) {
+        return false;
+      }
+      position = found + segments[i].length();
+    }
+    return true;
+  }
+
+  private static final class TrieNode {
+    private char[] keys = new char[0];
+    private TrieNode[] children = new TrieNode[0];
+    private int firstPrefixRule = NO_RULE;
+    private int[] globRules = new int[0];
+    private int globRuleCount = 0;
+
+    @Nullable
+    TrieNode get(char key) {
+      for (int i = 0; i < keys.length; i++) {
+        if (keys[i] == key) {
+          return children[i];
+        }
+      }
+      return null;
+    }
+
+    @NonNull
+    TrieNode getOrCreate(@NonNull String path) {
+      TrieNode node = this;
+      for (int i = 0; i < path.length(); i++) {
+        final char key = path.charAt(i);
+        TrieNode child = node.get(key);
+        if (child == null) {
+          child = new TrieNode();
+          node.keys = Arrays.copyOf(node.keys, node.keys.length + 1);
+          node.children = Arrays.copyOf(node.children, node.children.length + 1);
+          node.keys[node.keys.length - 1] = key;
+          node.children[node.children.length - 1] = child;
+        }
+        node = child;
+      }
+      return node;
+    }
+
+    void addGlobRule(int rule) {
+      if (globRuleCount == globRules.length) {
+        globRules = Arrays.copyOf(globRules, Math.max(2, globRuleCount * 2));
+      }
+      globRules[globRuleCount++] = rule;
+    }
+  }
+}
@@ -4,20 +4,47 @@
 
 package kr.co.bootpay.webviewflutter;
 
+import android.util.Base64;
+import android.view.Choreographer;
 import android.webkit.JavascriptInterface;
 import androidx.annotation.NonNull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Added as a JavaScript interface to the WebView for any JavaScript channel that the Dart code sets
  * up.
  *
- * <p>Exposes a single method named `postMessage` to JavaScript, which sends a message to the Dart
- * code.
+ * <p>Exposes two methods to JavaScript, which send a message to the Dart code: `postMessage` for
+ * strings and `postBinaryMessage` for base64 encoded binary data, which is decoded before it is
+ * sent.
+ *
+ * <p>While batching is enabled, messages are queued on the JavaBridge thread and sent to Dart in
+ * one platform channel message per frame, or as soon as {@code maxBatchSize} messages are queued.
+ * This also replaces the main thread task posted for every message with one per batch.
  */
 public class JavaScriptChannel {
+  static final int DEFAULT_MAX_BATCH_SIZE = 256;
+
   final String javaScriptChannelName;
   private final JavaScriptChannelProxyApi api;
 
+  // Strings and byte arrays, in the order they were posted.
+  private final ConcurrentLinkedQueue<Object> pendingMessages = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger pendingMessageCount = new AtomicInteger();
+  private final AtomicBoolean isFrameCallbackPosted = new AtomicBoolean();
+  private final Choreographer.FrameCallback flushCallback =
+      frameTimeNanos -> {
+        isFrameCallbackPosted.set(false);
+        flush();
+      };
+
+  private volatile boolean isBatching = false;
+  private volatile int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
   /** Creates a {@link JavaScriptChannel} that passes arguments of callback methods to Dart. */
   public JavaScriptChannel(@NonNull String channelName, @NonNull JavaScriptChannelProxyApi api) {
     this.javaScriptChannelName = channelName;
@@ -28,10 +55,79 @@ public class JavaScriptChannel {
   @SuppressWarnings("unused")
   @JavascriptInterface
   public void postMessage(@NonNull final String message) {
+    if (isBatching) {
+      enqueue(message);
+      return;
+    }
     api.getPigeonRegistrar()
         .runOnMainThread(
             () -> {
               api.postMessage(JavaScriptChannel.this, message, reply -> null);
             });
   }
+
+  // Suppressing unused warning as this is invoked from JavaScript.
+  @SuppressWarnings("unused")
+  @JavascriptInterface
+  public void postBinaryMessage(@NonNull final String base64Message) {
+    final byte[] message;
+    try {
+      message = Base64.decode(base64Message, Base64.DEFAULT);
+    } catch (IllegalArgumentException e) {
+      BootpayLog.log("postBinaryMessage dropped invalid base64", javaScriptChannelName);
+      return;
+    }
+    if (message == null) {
+      return;
+    }
+    if (isBatching) {
+      enqueue(message);
+      return;
+    }
+    api.getPigeonRegistrar()
+        .runOnMainThread(
+            () -> {
+              api.postBinaryMessage(JavaScriptChannel.this, message, reply -> null);
+            });
+  }
+
+  /**
+   * Sets whether messages are sent to Dart in batches.
+   *
+   * <p>Queued messages are sent immediately when batching is disabled.
+   */
+  public void setBatching(boolean enabled, int maxBatchSize) {
+    this.maxBatchSize = Math.max(1, maxBatchSize);
+    isBatching = enabled;
+    if (!enabled) {
+      flush();
+    }
+  }
+
+  /** Sends the queued messages to Dart. Must be called on the main thread. */
+  void flush() {
+    final List<Object> batch = new ArrayList<>();
+    Object message;
+    while ((message = pendingMessages.poll()) != null) {
+      batch.add(message);
+    }
+    if (batch.isEmpty()) {
+      return;
+    }
+    pendingMessageCount.addAndGet(-batch.size());
+    api.postMessages(this, batch, reply -> null);
+  }
+
+  // Called on the JavaBridge thread.
+  private void enqueue(@NonNull Object message) {
+    pendingMessages.add(message);
+    // Only the message that fills a batch schedules an early flush.
+    if (pendingMessageCount.incrementAndGet() == maxBatchSize) {
+      api.getPigeonRegistrar().runOnMainThread(this::flush);
+    } else if (isFrameCallbackPosted.compareAndSet(false, true)) {
+      // The Choreographer belongs to the main thread's looper.
+      api.getPigeonRegistrar()
+          .runOnMainThread(() -> Choreographer.getInstance().postFrameCallback(flushCallback));
+    }
+  }
 }
@@ -24,6 +24,12 @@ public class JavaScriptChannelProxyApi extends PigeonApiJavaScriptChannel {
     return new JavaScriptChannel(channelName, this);
   }
 
+  @Override
+  public void setBatching(
+      @NonNull JavaScriptChannel pigeon_instance, boolean enabled, long maxBatchSize) {
+    pigeon_instance.setBatching(enabled, (int) maxBatchSize);
+  }
+
   @NonNull
   @Override
   public ProxyApiRegistrar getPigeonRegistrar() {
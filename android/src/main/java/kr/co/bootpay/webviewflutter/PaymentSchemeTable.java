@@ -0,0 +1,197 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package kr.co.bootpay.webviewflutter;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Maps payment app URL scheme prefixes to the package that handles them.
+ *
+ * <p>The prefixes are stored in an immutable trie, so a single pass over a URL finds the package of
+ * the longest matching prefix and whether any matching prefix marks the URL as a special case that
+ * must be opened in an external app. Registering a prefix rebuilds the trie and swaps it in, so
+ * lookups never lock.
+ */
+public class PaymentSchemeTable {
+  private static final PaymentSchemeTable instance = createDefault();
+
+  private final Map<String, Entry> entries = new LinkedHashMap<>();
+  private volatile Match root = new Match(new char[0], new Match[0], null, false);
+
+  /** The table shared by every {@link BootpayUrlHelper}. */
+  @NonNull
+  public static PaymentSchemeTable getInstance() {
+    return instance;
+  }
+
+  /** Creates a table containing the card, bank and wallet apps supported by default. */
+  @NonNull
+  static PaymentSchemeTable createDefault() {
+    final PaymentSchemeTable table = new PaymentSchemeTable();
+    table.register("shinhan", null, true);
+    table.register("shinhan-sr-ansimclick", "com.shcard.smartpay", false);
+    table.register("kftc-bankpay", "com.kftc.bankpay.android", false);
+    table.register("kftc-bankpay://", null, true);
+    table.register("v3mobileplusweb://", null, true);
+    table.register("hdcardappcardansimclick", "com.hyundaicard.appcard", false);
+    table.register("hdcardappcardansimclick://", null, true);
+    table.register("nidlogin://", null, true);
+    table.register("mpocket.online.ansimclick", "kr.co.samsungcard.mpocket", false);
+    table.register("mpocket.online.ansimclick://", null, true);
+    table.register("wooripay://", null, true);
+    table.register("ispmobile", "kvp.jjy.MispAndroid320", false);
+    table.register("ispmobile://", null, true);
+    table.register("kb-acp", "com.kbcard.kbkookmincard", false);
+    table.register("kb-acp://", null, true);
+    table.register("lotteappcard", "com.lcacApp", false);
+    table.register("cloudpay", "com.hanaskcard.paycla", false);
+    table.register("nhappvardansimclick", "nh.smart.nhallonepay", false);
+    table.register("citispay", "kr.co.citibank.citimobile", false);
+    table.register("kakaotalk", "com.kakao.talk", false);
+    table.register("kakaotalk://", null, true);
+    return table;
+  }
+
+  /**
+   * Adds or replaces the entry for a URL prefix.
+   *
+   * @param prefix the start of the URL, e.g. "ispmobile://"
+   * @param packageName the package of the app that handles URLs starting with {@code prefix}, or
+   *     null if the prefix doesn't determine the package
+   * @param isSpecialCase whether URLs starting with {@code prefix} must be opened in an external app
+   */
+  public synchronized void register(
+      @NonNull String prefix, @Nullable String packageName, boolean isSpecialCase) {
+    entries.put(prefix, new Entry(packageName, isSpecialCase));
+    root = build(entries);
+  }
+
+  /** Returns the package names of every registered payment app. */
+  @NonNull
+  public synchronized Set<String> getPackageNames() {
+    final Set<String> packageNames = new HashSet<>();
+    for (Entry entry : entries.values()) {
+      if (entry.packageName != null) {
+        packageNames.add(entry.packageName);
+      }
+    }
+    return packageNames;
+  }
+
+  /**
+   * Walks the trie along {@code url} and returns the deepest node reached.
+   *
+   * <p>The returned {@link Match} is shared and carries the result for every prefix of the URL that
+   * was registered, so the lookup doesn't allocate.
+   */
+  @NonNull
+  public Match lookup(@NonNull String url) {
+    Match node = root;
+    for (int i = 0; i < url.length(); i++) {
+      final Match child = node.child(url.charAt(i));
+      if (child == null) {
+        break;
+      }
+      node = child;
+    }
+    return node;
+  }
+
+  private static Match build(Map<String, Entry> entries) {
+    final Builder rootBuilder = new Builder();
+    for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+      Builder node = rootBuilder;
+      for (char c : entry.getKey().toCharArray()) {
+        Builder child = node.children.get(c);
+        if (child == null) {
+          child = new Builder();
+          node.children.put(c, child);
+        }
+        node = child;
+      }
+      node.entry = entry.getValue();
+    }
+    return rootBuilder.freeze(null, false);
+  }
+
+  /** A node of the trie and the result of looking up a URL that ends the walk at this node. */
+  public static final class Match {
+    private final char[] keys;
+    private final Match[] children;
+
+    /** Package of the app for the longest matching prefix, or null if no prefix sets one. */
+    @Nullable public final String packageName;
+
+    /** Whether any matching prefix requires the URL to be opened in an external app. */
+    public final boolean isSpecialCase;
+
+    Match(char[] keys, Match[] children, @Nullable String packageName, boolean isSpecialCase) {
+      this.keys = keys;
+      this.children = children;
+      this.packageName = packageName;
+      this.isSpecialCase = isSpecialCase;
+    }
+
+    @Nullable
+    Match child(char c) {
+      int low = 0;
+      int high = keys.length - 1;
+      while (low <= high) {
+        final int mid = (low + high) >>> 1;
+        if (keys[mid] < c) {
+          low = mid + 1;
+        } else if (keys[mid] > c) {
+          high = mid - 1;
+        } else {
+          return children[mid];
+        }
+      }
+      return null;
+    }
+  }
+
+  private static final class Entry {
+    @Nullable final String packageName;
+    final boolean isSpecialCase;
+
+    Entry(@Nullable String packageName, boolean isSpecialCase) {
+      this.packageName = packageName;
+      this.isSpecialCase = isSpecialCase;
+    }
+  }
+
+  private static final class Builder {
+    final TreeMap<Character, Builder> children = new TreeMap<>();
+    @Nullable Entry entry;
+
+    // Values matched by a prefix are inherited by every longer prefix below it.
+    Match freeze(@Nullable String inheritedPackageName, boolean inheritedIsSpecialCase) {
+      String packageName = inheritedPackageName;
+      boolean isSpecialCase = inheritedIsSpecialCase;
+      if (entry != null) {
+        if (entry.packageName != null) {
+          packageName = entry.packageName;
+        }
+        isSpecialCase |= entry.isSpecialCase;
+      }
+
+      final char[] keys = new char[children.size()];
+      final Match[] frozenChildren = new Match[children.size()];
+      int i = 0;
+      for (Map.Entry<Character, Builder> child : children.entrySet()) {
+        keys[i] = child.getKey();
+        frozenChildren[i] = child.getValue().freeze(packageName, isSpecialCase);
+        i++;
+      }
+      return new Match(keys, frozenChildren, packageName, isSpecialCase);
+    }
+  }
+}
@@ -0,0 +1,215 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package kr.co.bootpay.webviewflutter;
+
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Looper;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Periodically removes garbage collected instances from a {@link PigeonInstanceRegistry}.
+ *
+ * <p>The interval adapts to the workload. It doubles, up to ten times the base interval, after each
+ * sweep that reclaims nothing. It halves, down to a sixth of the base interval, while many
+ * short-lived instances such as {@code WebResourceRequest}s and {@code ConsoleMessage}s are
+ * created or reclaimed. Sweeps stop entirely while the registry is empty and resume when an
+ * instance is added.
+ *
+ * <p>Sweeps run on the main thread by default. They can be moved to a background thread, in which
+ * case only the delivery of the reclaimed identifiers is posted to the main thread.
+ */
+public class PigeonFinalizationSweeper {
+  /** Receives the identifiers reclaimed by a sweep, always on the main thread. */
+  public interface Listener {
+    void onFinalized(@NonNull long[] identifiers);
+  }
+
+  // The number of instances added or reclaimed between two sweeps that counts as heavy use.
+  private static final int BUSY_THRESHOLD = 64;
+
+  private final PigeonInstanceRegistry registry;
+  private volatile Listener listener;
+  private final Handler mainHandler = new Handler(Looper.getMainLooper());
+  private final Runnable sweep = this::sweep;
+
+  private Handler sweepHandler = mainHandler;
+  @Nullable private HandlerThread sweepThread;
+
+  private long baseIntervalMillis;
+  private long intervalMillis;
+  private boolean isScheduled = false;
+  private boolean isStopped = false;
+  private int addedSinceLastSweep = 0;
+
+  private long sweepCount = 0;
+  private long reclaimedCount = 0;
+  private long lastReclaimedCount = 0;
+  private long maxReclaimedPerSweep = 0;
+  private long sweepNanos = 0;
+
+  public PigeonFinalizationSweeper(
+      @NonNull PigeonInstanceRegistry registry,
+      long baseIntervalMillis,
+      @NonNull Listener listener) {
+    this.registry = registry;
+    this.listener = listener;
+    this.baseIntervalMillis = baseIntervalMillis;
+    this.intervalMillis = baseIntervalMillis;
+  }
+
+  /** Sets the interval used when the workload is steady and sweeps immediately. */
+  public void setBaseInterval(long baseIntervalMillis) {
+    synchronized (this) {
+      this.baseIntervalMillis = baseIntervalMillis;
+      intervalMillis = baseIntervalMillis;
+      sweepHandler.removeCallbacks(sweep);
+      isScheduled = false;
+    }
+    sweep();
+  }
+
+  /** Returns the listener that receives the reclaimed identifiers. */
+  @NonNull
+  public Listener getListener() {
+    return listener;
+  }
+
+  /** Replaces the listener that receives the reclaimed identifiers. */
+  public void setListener(@NonNull Listener listener) {
+    this.listener = listener;
+  }
+
+  /** Moves sweeps to a background thread, or back to the main thread. */
+  public synchronized void setUseBackgroundThread(boolean useBackgroundThread) {
+    if (isStopped || useBackgroundThread == (sweepThread != null)) {
+      return;
+    }
+    sweepHandler.removeCallbacks(sweep);
+    if (useBackgroundThread) {
+      sweepThread = new HandlerThread("PigeonFinalizationSweeper");
+      sweepThread.start();
+      sweepHandler = new Handler(sweepThread.getLooper());
+    } else {
+      sweepThread.quitSafely();
+      sweepThread = null;
+      sweepHandler = mainHandler;
+    }
+    if (isScheduled) {
+      sweepHandler.postDelayed(sweep, intervalMillis);
+    }
+  }
+
+  /** Notes that an instance was added, resuming sweeps if they were idle. */
+  public synchronized void onInstanceAdded() {
+    if (isStopped) {
+      return;
+    }
+    addedSinceLastSweep++;
+    if (!isScheduled) {
+      schedule(baseIntervalMillis);
+    } else if (addedSinceLastSweep == BUSY_THRESHOLD && intervalMillis > getMinInterval()) {
+      // Many instances are being created, so reclaim them sooner than the idle interval.
+      sweepHandler.removeCallbacks(sweep);
+      schedule(getMinInterval());
+    }
+  }
+
+  /** Stops sweeping. */
+  public synchronized void stop() {
+    isStopped = true;
+    isScheduled = false;
+    sweepHandler.removeCallbacks(sweep);
+    if (sweepThread != null) {
+      sweepThread.quitSafely();
+      sweepThread = null;
+      sweepHandler = mainHandler;
+    }
+  }
+
+  /**
+   * Returns the number of sweeps, the total, last and largest number of instances reclaimed by a
+   * sweep, the total time spent sweeping in microseconds and the current interval in milliseconds.
+   */
+  @NonNull
+  public synchronized Map<String, Long> getStats() {
+    final Map<String, Long> stats = new HashMap<>();
+    stats.put("sweeps", sweepCount);
+    stats.put("reclaimed", reclaimedCount);
+    stats.put("lastReclaimed", lastReclaimedCount);
+    stats.put("maxReclaimedPerSweep", maxReclaimedPerSweep);
+    stats.put("sweepTimeMicros", sweepNanos / 1000);
+    stats.put("intervalMillis", intervalMillis);
+    return stats;
+  }
+
+  private void sweep() {
+    synchronized (this) {
+      if (isStopped) {
+        return;
+      }
+      isScheduled = false;
+    }
+
+    final long start = System.nanoTime();
+    long[] identifiers = new long[16];
+    int count = 0;
+    long identifier;
+    while ((identifier = registry.pollFinalized()) >= 0) {
+      if (count == identifiers.length) {
+        identifiers = Arrays.copyOf(identifiers, count * 2);
+      }
+      identifiers[count++] = identifier;
+    }
+    final long elapsed = System.nanoTime() - start;
+
+    if (count > 0) {
+      deliver(Arrays.copyOf(identifiers, count));
+    }
+
+    synchronized (this) {
+      sweepCount++;
+      reclaimedCount += count;
+      lastReclaimedCount = count;
+      maxReclaimedPerSweep = Math.max(maxReclaimedPerSweep, count);
+      sweepNanos += elapsed;
+
+      if (count >= BUSY_THRESHOLD || addedSinceLastSweep >= BUSY_THRESHOLD) {
+        intervalMillis = Math.max(intervalMillis / 2, getMinInterval());
+      } else if (count == 0 && addedSinceLastSweep == 0) {
+        intervalMillis = Math.min(intervalMillis * 2, baseIntervalMillis * 10);
+      } else {
+        intervalMillis = baseIntervalMillis;
+      }
+      addedSinceLastSweep = 0;
+
+      // Nothing can be reclaimed until an instance is added again.
+      if (!isStopped && !isScheduled && registry.size() > 0) {
+        schedule(intervalMillis);
+      }
+    }
+  }
+
+  private void deliver(long[] identifiers) {
+    if (Looper.myLooper() == Looper.getMainLooper()) {
+      listener.onFinalized(identifiers);
+    } else {
+      mainHandler.post(() -> listener.onFinalized(identifiers));
+    }
+  }
+
+  private void schedule(long delayMillis) {
+    isScheduled = true;
+    sweepHandler.postDelayed(sweep, delayMillis);
+  }
+
+  private long getMinInterval() {
+    return Math.max(1, baseIntervalMillis / 6);
+  }
+}
@@ -0,0 +1,255 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package kr.co.bootpay.webviewflutter;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+
+/**
+ * Pairs identifiers with the instances tracked by {@link
+ * AndroidWebkitLibraryPigeonInstanceManager}.
+ *
+ * <p>Each instance is held by a single {@link Entry}, which is both its weak reference and the
+ * holder of its optional strong reference. Entries are stored in two open-addressing tables: one
+ * keyed by the primitive identifier and one keyed by the identity of the instance, so neither
+ * lookup boxes a {@code Long} or calls {@code equals}/{@code hashCode} on the instance.
+ *
+ * <p>All methods are synchronized, so the registry can be used from binder threads as well as the
+ * main thread.
+ */
+public class PigeonInstanceRegistry {
+  /** The weak reference to an instance, its identifier and its optional strong reference. */
+  static final class Entry extends WeakReference<Object> {
+    final long identifier;
+    final int identityHash;
+    @Nullable Object strongInstance;
+
+    Entry(@NonNull Object instance, @NonNull ReferenceQueue<Object> queue, long identifier) {
+      super(instance, queue);
+      this.identifier = identifier;
+      this.identityHash = System.identityHashCode(instance);
+      this.strongInstance = instance;
+    }
+  }
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final ReferenceQueue<Object> referenceQueue = new ReferenceQueue<>();
+
+  private Entry[] byIdentifier = new Entry[INITIAL_CAPACITY];
+  private int identifierCount = 0;
+
+  // Holds the most recently added entry of each instance.
+  private Entry[] byInstance = new Entry[INITIAL_CAPACITY];
+  private int instanceCount = 0;
+
+  /**
+   * Adds {@code instance} with a strong reference.
+   *
+   * <p>The same instance can be added with several identifiers; {@link #getIdentifier} returns the
+   * most recent one.
+   *
+   * @throws IllegalArgumentException if {@code identifier} is negative or already used
+   */
+  public synchronized void add(@NonNull Object instance, long identifier) {
+    if (identifier < 0) {
+      throw new IllegalArgumentException("Identifier must be >= 0: " + identifier);
+    }
+    if (findByIdentifier(identifier) != null) {
+      throw new IllegalArgumentException("Identifier has already been added: " + identifier);
+    }
+
+    final Entry entry = new Entry(instance, referenceQueue, identifier);
+
+    if ((identifierCount + 1) * 2 > byIdentifier.length) {
+      byIdentifier = rehash(byIdentifier, true);
+    }
+    insert(byIdentifier, entry, true);
+    identifierCount++;
+
+    final int existing = indexOfInstance(instance, entry.identityHash);
+    if (existing >= 0) {
+      byInstance[existing] = entry;
+    } else {
+      if ((instanceCount + 1) * 2 > byInstance.length) {
+        byInstance = rehash(byInstance, false);
+      }
+      insert(byInstance, entry, false);
+      instanceCount++;
+    }
+  }
+
+  /** Returns the instance paired with {@code identifier}, or null if it was garbage collected. */
+  @Nullable
+  public synchronized Object get(long identifier) {
+    final Entry entry = findByIdentifier(identifier);
+    return entry != null ? entry.get() : null;
+  }
+
+  /**
+   * Returns the identifier of {@code instance}, or -1 if it isn't tracked.
+   *
+   * @param strengthen whether to also add back a strong reference to the instance
+   */
+  public synchronized long getIdentifier(@Nullable Object instance, boolean strengthen) {
+    if (instance == null) {
+      return -1;
+    }
+    final int index = indexOfInstance(instance, System.identityHashCode(instance));
+    if (index < 0) {
+      return -1;
+    }
+    final Entry entry = byInstance[index];
+    if (strengthen) {
+      entry.strongInstance = instance;
+    }
+    return entry.identifier;
+  }
+
+  /** Drops the strong reference paired with {@code identifier} and returns the instance it held. */
+  @Nullable
+  public synchronized Object removeStrongReference(long identifier) {
+    final Entry entry = findByIdentifier(identifier);
+    if (entry == null) {
+      return null;
+    }
+    final Object instance = entry.strongInstance;
+    entry.strongInstance = null;
+    return instance;
+  }
+
+  /**
+   * Removes the next instance that was garbage collected and returns its identifier, or -1 if
+   * there is none.
+   */
+  public synchronized long pollFinalized() {
+    Entry entry;
+    while ((entry = (Entry) referenceQueue.poll()) != null) {
+      // The entry may already have been dropped by clear().
+      final int index = indexOfEntry(byIdentifier, entry, true);
+      if (index < 0) {
+        continue;
+      }
+      removeAt(byIdentifier, index, true);
+      identifierCount--;
+
+      final int instanceIndex = indexOfEntry(byInstance, entry, false);
+      if (instanceIndex >= 0) {
+        removeAt(byInstance, instanceIndex, false);
+        instanceCount--;
+      }
+      return entry.identifier;
+    }
+    return -1;
+  }
+
+  /** The number of identifiers that have not been finalized. */
+  public synchronized int size() {
+    return identifierCount;
+  }
+
+  /** Removes every instance. */
+  public synchronized void clear() {
+    Arrays.fill(byIdentifier, null);
+    Arrays.fill(byInstance, null);
+    identifierCount = 0;
+    instanceCount = 0;
+  }
+
+  @Nullable
+  private Entry findByIdentifier(long identifier) {
+    final int mask = byIdentifier.length - 1;
+    int index = mix(identifier) & mask;
+    Entry entry;
+    while ((entry = byIdentifier[index]) != null) {
+      if (entry.identifier == identifier) {
+        return entry;
+      }
+      index = (index + 1) & mask;
+    }
+    return null;
+  }
+
+  private int indexOfInstance(@NonNull Object instance, int identityHash) {
+    final int mask = byInstance.length - 1;
+    int index = mix(identityHash) & mask;
+    Entry entry;
+    while ((entry = byInstance[index]) != null) {
+      if (entry.identityHash == identityHash && entry.get() == instance) {
+        return index;
+      }
+      index = (index + 1) & mask;
+    }
+    return -1;
+  }
+
+  private static int indexOfEntry(Entry[] table, Entry target, boolean keyedByIdentifier) {
+    final int mask = table.length - 1;
+    int index = slot(target, keyedByIdentifier) & mask;
+    Entry entry;
+    while ((entry = table[index]) != null) {
+      if (entry == target) {
+        return index;
+      }
+      index = (index + 1) & mask;
+    }
+    return -1;
+  }
+
+  private static void insert(Entry[] table, Entry entry, boolean keyedByIdentifier) {
+    final int mask = table.length - 1;
+    int index = slot(entry, keyedByIdentifier) & mask;
+    while (table[index] != null) {
+      index = (index + 1) & mask;
+    }
+    table[index] = entry;
+  }
+
+  // Removes the entry at `index` and shifts back the entries of the same probe sequence, so lookups
+  // never need tombstones.
+  private static void removeAt(Entry[] table, int index, boolean keyedByIdentifier) {
+    final int mask = table.length - 1;
+    int hole = index;
+    table[hole] = null;
+    int next = hole;
+    while (true) {
+      next = (next + 1) & mask;
+      final Entry entry = table[next];
+      if (entry == null) {
+        return;
+      }
+      final int home = slot(entry, keyedByIdentifier) & mask;
+      final boolean homeIsBetweenHoleAndNext =
+          hole <= next ? hole < home && home <= next : hole < home || home <= next;
+      if (!homeIsBetweenHoleAndNext) {
+        table[hole] = entry;
+        table[next] = null;
+        hole = next;
+      }
+    }
+  }
+
+  private static Entry[] rehash(Entry[] table, boolean keyedByIdentifier) {
+    final Entry[] newTable = new Entry[table.length * 2];
+    for (Entry entry : table) {
+      if (entry != null) {
+        insert(newTable, entry, keyedByIdentifier);
+      }
+    }
+    return newTable;
+  }
+
+  private static int slot(Entry entry, boolean keyedByIdentifier) {
+    return keyedByIdentifier ? mix(entry.identifier) : mix(entry.identityHash);
+  }
+
+  private static int mix(long value) {
+    final long hash = value * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ (hash >>> 32));
+  }
+}
@@ -0,0 +1,104 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package kr.co.bootpay.webviewflutter;
+
+import android.content.Context;
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.webkit.WebView;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+
+/**
+ * Keeps a few WebViews ready to be used as popup windows.
+ *
+ * <p>Chromium only accepts a WebView that has never navigated as the target of a {@code
+ * window.open} call, so closed popups can't be reused. Instead, each time a popup is taken from the
+ * pool, a replacement is created the next time the main thread is idle. The pool only hands out
+ * WebViews created with the same context as the parent window. This class must only be used on the
+ * main thread.
+ */
+public class PopupWebViewPool {
+  private static final PopupWebViewPool instance = new PopupWebViewPool();
+
+  // Payment pages rarely open more than a couple of popups in a row.
+  private static final int MAX_SIZE = 2;
+
+  private final ArrayDeque<WebView> idleWebViews = new ArrayDeque<>();
+  private final MessageQueue.IdleHandler fillOnIdle = this::fillOne;
+
+  // The context of the most recent parent window, which the pool is filled for.
+  @Nullable private WeakReference<Context> fillContext;
+  private boolean isFillScheduled = false;
+
+  private long hitCount = 0;
+  private long missCount = 0;
+
+  /** The pool shared by every {@link WebChromeClientProxyApi.SecureWebChromeClient}. */
+  @NonNull
+  public static PopupWebViewPool getInstance() {
+    return instance;
+  }
+
+  /** Returns an unused WebView created with {@code context}, creating one if none is ready. */
+  @NonNull
+  public WebView acquire(@NonNull Context context) {
+    final Context currentFillContext = fillContext != null ? fillContext.get() : null;
+    if (currentFillContext != context) {
+      clear();
+      fillContext = new WeakReference<>(context);
+    }
+
+    WebView webView = idleWebViews.poll();
+    if (webView != null) {
+      hitCount++;
+    } else {
+      missCount++;
+      webView = new WebView(context);
+    }
+    scheduleFill();
+    return webView;
+  }
+
+  /** Destroys every pooled WebView and stops filling the pool until the next popup is opened. */
+  public void clear() {
+    WebView webView;
+    while ((webView = idleWebViews.poll()) != null) {
+      webView.destroy();
+    }
+    fillContext = null;
+  }
+
+  /** The number of popups opened with a WebView from the pool. */
+  public long getHitCount() {
+    return hitCount;
+  }
+
+  /** The number of popups that had to create a WebView. */
+  public long getMissCount() {
+    return missCount;
+  }
+
+  private boolean fillOne() {
+    final Context context = fillContext != null ? fillContext.get() : null;
+    if (context == null || idleWebViews.size() >= MAX_SIZE) {
+      isFillScheduled = false;
+      return false;
+    }
+    idleWebViews.add(new WebView(context));
+    isFillScheduled = idleWebViews.size() < MAX_SIZE;
+    return isFillScheduled;
+  }
+
+  private void scheduleFill() {
+    if (isFillScheduled || idleWebViews.size() >= MAX_SIZE) {
+      return;
+    }
+    isFillScheduled = true;
+    Looper.myQueue().addIdleHandler(fillOnIdle);
+  }
+}
@@ -0,0 +1,231 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package kr.co.bootpay.webviewflutter;
+
+import android.view.View;
+import android.view.ViewGroup;
+import android.view.ViewParent;
+import android.webkit.WebView;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Tracks the popup windows opened by each WebView.
+ *
+ * <p>The popups of a WebView are kept in a tag of that WebView, so they are only reachable through
+ * it and this class holds only weak references to the WebViews that opened them. When a WebView is
+ * destroyed, its platform view is disposed, or it navigates away while {@link
+ * #setCloseOnNavigation} is enabled, the popups it opened are closed and destroyed with it, so
+ * abandoned popups don't keep their renderer memory.
+ *
+ * <p>Open popups are counted from the tags of the WebViews that opened them, and only while those
+ * WebViews are attached to a window. A WebView that is dropped without being closed therefore stops
+ * counting towards {@link #setLimits} as soon as it is detached.
+ *
+ * <p>Popups can be limited by how deeply they are nested and by how many are open at once. There
+ * are no limits by default, and popups stay open when their parent navigates, since payment pages
+ * commonly redirect while a card issuer popup is open. This class must only be used on the main
+ * thread.
+ */
+public class PopupWindowManager {
+  /** A limit that allows any number of popups. */
+  public static final int NO_LIMIT = -1;
+
+  private static final PopupWindowManager instance = new PopupWindowManager();
+
+  // The tag of a WebView that opened a popup or is one.
+  private static final class Node {
+    // The WebView that opened this one, or null if this one isn't a popup.
+    @Nullable final WebView parent;
+    final int depth;
+    final List<WebView> children = new ArrayList<>();
+
+    Node(@Nullable WebView parent, int depth) {
+      this.parent = parent;
+      this.depth = depth;
+    }
+  }
+
+  private int maxDepth = NO_LIMIT;
+  private int maxCount = NO_LIMIT;
+  private boolean closeOnNavigation = false;
+
+  // The WebViews that opened popups and aren't popups themselves. Their tags hold every popup.
+  private final Map<WebView, Boolean> roots = new WeakHashMap<>();
+
+  private long openedCount = 0;
+  private long rejectedCount = 0;
+  private long closedWithParentCount = 0;
+
+  /** The manager shared by every {@link WebChromeClientProxyApi.SecureWebChromeClient}. */
+  @NonNull
+  public static PopupWindowManager getInstance() {
+    return instance;
+  }
+
+  /**
+   * Sets how many popups may be open at once and how deeply they may be nested.
+   *
+   * <p>A popup opened by a WebView that isn't a popup has a depth of 1. A negative limit, such as
+   * {@link #NO_LIMIT}, means there is no limit.
+   */
+  public void setLimits(int maxDepth, int maxCount) {
+    this.maxDepth = maxDepth < 0 ? NO_LIMIT : maxDepth;
+    this.maxCount = maxCount < 0 ? NO_LIMIT : maxCount;
+  }
+
+  /** Sets whether the popups of a WebView are closed when it starts loading a new page. */
+  public void setCloseOnNavigation(boolean closeOnNavigation) {
+    this.closeOnNavigation = closeOnNavigation;
+  }
+
+  /** Whether {@code parent} may open another popup, counting the attempt if it may not. */
+  public boolean canOpen(@NonNull WebView parent) {
+    final boolean exceedsDepth = maxDepth != NO_LIMIT && getDepth(parent) + 1 > maxDepth;
+    final boolean exceedsCount = maxCount != NO_LIMIT && getLiveCount() >= maxCount;
+    if (exceedsDepth || exceedsCount) {
+      rejectedCount++;
+      return false;
+    }
+    return true;
+  }
+
+  /** Records that {@code parent} opened {@code popup}. */
+  public void add(@NonNull WebView parent, @NonNull WebView popup) {
+    Node parentNode = getNode(parent);
+    if (parentNode == null) {
+      parentNode = new Node(null, 0);
+      parent.setTag(R.id.bootpay_popup_windows, parentNode);
+      roots.put(parent, Boolean.TRUE);
+    }
+    parentNode.children.add(popup);
+    popup.setTag(R.id.bootpay_popup_windows, new Node(parent, parentNode.depth + 1));
+    openedCount++;
+  }
+
+  /** Closes {@code popup} and every popup it opened, then destroys it. */
+  public void close(@NonNull WebView popup) {
+    closeChildren(popup);
+
+    final Node node = getNode(popup);
+    if (node != null && node.parent != null) {
+      popup.setTag(R.id.bootpay_popup_windows, null);
+      final Node parentNode = getNode(node.parent);
+      if (parentNode != null) {
+        parentNode.children.remove(popup);
+      }
+    }
+
+    final ViewParent viewParent = popup.getParent();
+    if (viewParent instanceof ViewGroup) {
+      ((ViewGroup) viewParent).removeView(popup);
+    }
+    popup.setVisibility(View.GONE);
+    popup.destroy();
+  }
+
+  /** Closes every popup opened by {@code parent}. */
+  public void closeChildren(@NonNull WebView parent) {
+    final Node node = getNode(parent);
+    if (node == null) {
+      return;
+    }
+    // A WebView that isn't a popup only has a tag while it has popups.
+    if (node.parent == null) {
+      parent.setTag(R.id.bootpay_popup_windows, null);
+      roots.remove(parent);
+    }
+    if (node.children.isEmpty()) {
+      return;
+    }
+    final List<WebView> children = new ArrayList<>(node.children);
+    node.children.clear();
+    for (WebView child : children) {
+      closedWithParentCount++;
+      close(child);
+    }
+  }
+
+  /** Closes the popups of {@code parent} if popups are closed when their parent navigates. */
+  public void onNavigation(@NonNull WebView parent) {
+    if (closeOnNavigation) {
+      closeChildren(parent);
+    }
+  }
+
+  /**
+   * Returns the number of open popups, the depth of the most nested one, and the lifetime counts of
+   * opened, rejected and closed-with-parent popups.
+   */
+  @NonNull
+  public Map<String, Long> getStats() {
+    int deepest = 0;
+    for (WebView root : roots.keySet()) {
+      if (root.isAttachedToWindow()) {
+        deepest = Math.max(deepest, getDeepestPopup(root));
+      }
+    }
+
+    final Map<String, Long> stats = new HashMap<>();
+    stats.put("live", (long) getLiveCount());
+    stats.put("depth", (long) deepest);
+    stats.put("opened", openedCount);
+    stats.put("rejected", rejectedCount);
+    stats.put("closedWithParent", closedWithParentCount);
+    return stats;
+  }
+
+  private int getLiveCount() {
+    int count = 0;
+    for (WebView root : roots.keySet()) {
+      if (root.isAttachedToWindow()) {
+        count += countPopups(root);
+      }
+    }
+    return count;
+  }
+
+  // The number of popups opened by `webView` and, recursively, by those popups.
+  private static int countPopups(@NonNull WebView webView) {
+    final Node node = getNode(webView);
+    if (node == null) {
+      return 0;
+    }
+    int count = node.children.size();
+    for (WebView child : node.children) {
+      count += countPopups(child);
+    }
+    return count;
+  }
+
+  // The depth of the most nested popup below `webView`, or 0 if it opened none.
+  private static int getDeepestPopup(@NonNull WebView webView) {
+    final Node node = getNode(webView);
+    if (node == null || node.children.isEmpty()) {
+      return 0;
+    }
+    int deepest = node.depth + 1;
+    for (WebView child : node.children) {
+      deepest = Math.max(deepest, getDeepestPopup(child));
+    }
+    return deepest;
+  }
+
+  private static int getDepth(@NonNull WebView webView) {
+    final Node node = getNode(webView);
+    return node != null ? node.depth : 0;
+  }
+
+  @Nullable
+  private static Node getNode(@NonNull WebView webView) {
+    final Object tag = webView.getTag(R.id.bootpay_popup_windows);
+    return tag instanceof Node ? (Node) tag : null;
+  }
+}
@@ -4,7 +4,6 @@
 
 package kr.co.bootpay.webviewflutter;
 
-import android.app.Activity;
 import android.content.Context;
 import android.os.Build;
 import android.os.Handler;
@@ -14,12 +13,107 @@ import androidx.annotation.ChecksSdkIntAtLeast;
 import androidx.annotation.NonNull;
 import androidx.annotation.RequiresApi;
 import io.flutter.plugin.common.BinaryMessenger;
+import java.io.File;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class ProxyApiRegistrar extends AndroidWebkitLibraryPigeonProxyApiRegistrar {
   @NonNull private Context context;
 
   @NonNull private final FlutterAssetManager flutterAssetManager;
 
+  @NonNull private final SdkBundleStore sdkBundleStore;
+
+  @NonNull private final RequestInterceptor requestInterceptor;
+
+  @NonNull private final WebViewStateStore webViewStateStore = new WebViewStateStore();
+
+  @NonNull private final WebViewPool webViewPool;
+
+  @NonNull private final Handler mainThreadHandler = new Handler(Looper.getMainLooper());
+
+  @NonNull private final AtomicLong inlineMainThreadDispatchCount = new AtomicLong();
+
+  @NonNull private final AtomicLong postedMainThreadDispatchCount = new AtomicLong();
+
+  private volatile long callbackCoalescingWindowMillis = 0;
+
+  // Each ProxyApi is stateless apart from its reference to this registrar, so a single instance of
+  // each is created with the registrar and shared. The codec requests these for every value it
+  // writes.
+  @NonNull
+  private final WebResourceRequestProxyApi webResourceRequestProxyApi =
+      new WebResourceRequestProxyApi(this);
+
+  @NonNull
+  private final WebResourceErrorProxyApi webResourceErrorProxyApi =
+      new WebResourceErrorProxyApi(this);
+
+  @NonNull
+  private final WebResourceErrorCompatProxyApi webResourceErrorCompatProxyApi =
+      new WebResourceErrorCompatProxyApi(this);
+
+  @NonNull private final WebViewPointProxyApi webViewPointProxyApi = new WebViewPointProxyApi(this);
+
+  @NonNull
+  private final ConsoleMessageProxyApi consoleMessageProxyApi =
+      new ConsoleMessageProxyApi(this);
+
+  @NonNull
+  private final CookieManagerProxyApi cookieManagerProxyApi =
+      new CookieManagerProxyApi(this);
+
+  @NonNull
+  private final WebResourceResponseProxyApi webResourceResponseProxyApi =
+      new WebResourceResponseProxyApi(this);
+
+  @NonNull private final WebViewProxyApi webViewProxyApi = new WebViewProxyApi(this);
+
+  @NonNull private final WebSettingsProxyApi webSettingsProxyApi = new WebSettingsProxyApi(this);
+
+  @NonNull
+  private final JavaScriptChannelProxyApi javaScriptChannelProxyApi =
+      new JavaScriptChannelProxyApi(this);
+
+  @NonNull
+  private final WebViewClientProxyApi webViewClientProxyApi =
+      new WebViewClientProxyApi(this);
+
+  @NonNull
+  private final DownloadListenerProxyApi downloadListenerProxyApi =
+      new DownloadListenerProxyApi(this);
+
+  @NonNull
+  private final WebChromeClientProxyApi webChromeClientProxyApi =
+      new WebChromeClientProxyApi(this);
+
+  @NonNull
+  private final FlutterAssetManagerProxyApi flutterAssetManagerProxyApi =
+      new FlutterAssetManagerProxyApi(this);
+
+  @NonNull private final WebStorageProxyApi webStorageProxyApi = new WebStorageProxyApi(this);
+
+  @NonNull
+  private final FileChooserParamsProxyApi fileChooserParamsProxyApi =
+      new FileChooserParamsProxyApi(this);
+
+  @NonNull
+  private final PermissionRequestProxyApi permissionRequestProxyApi =
+      new PermissionRequestProxyApi(this);
+
+  @NonNull
+  private final CustomViewCallbackProxyApi customViewCallbackProxyApi =
+      new CustomViewCallbackProxyApi(this);
+
+  @NonNull private final ViewProxyApi viewProxyApi = new ViewProxyApi(this);
+
+  @NonNull
+  private final GeolocationPermissionsCallbackProxyApi geolocationPermissionsCallbackProxyApi =
+      new GeolocationPermissionsCallbackProxyApi(this);
+
+  @NonNull
+  private final HttpAuthHandlerProxyApi httpAuthHandlerProxyApi =
+      new HttpAuthHandlerProxyApi(this);
+
   public ProxyApiRegistrar(
       @NonNull BinaryMessenger binaryMessenger,
       @NonNull Context context,
@@ -27,6 +121,15 @@ public class ProxyApiRegistrar extends AndroidWebkitLibraryPigeonProxyApiRegistr
     super(binaryMessenger);
     this.context = context;
     this.flutterAssetManager = flutterAssetManager;
+    final AssetStreamer assetStreamer = new AssetStreamer(flutterAssetManager);
+    this.sdkBundleStore =
+        new SdkBundleStore(assetStreamer, new File(context.getFilesDir(), "bootpay_sdk_bundles"));
+    this.requestInterceptor = new RequestInterceptor(assetStreamer, sdkBundleStore);
+    this.webViewPool = new WebViewPool(context, webViewProxyApi::createWebView);
+
+    // Reclaimed identifiers are sent to Dart in one message per sweep.
+    final PigeonFinalizationSweeper sweeper = getInstanceManager().getFinalizationSweeper();
+    sweeper.setListener(new FinalizedInstancesChannel(binaryMessenger, sweeper.getListener()));
   }
 
   // Interface for an injectable SDK version checker.
@@ -37,14 +140,41 @@ public class ProxyApiRegistrar extends AndroidWebkitLibraryPigeonProxyApiRegistr
 
   // Added to be overridden for tests. The test implementation calls `callback` immediately, instead
   // of waiting for the main thread to run it.
+  //
+  // Most WebViewClient and WebChromeClient callbacks are already invoked on the main thread, so the
+  // runnable is only posted when the caller is on another thread (e.g. the JavaBridge thread).
   void runOnMainThread(Runnable runnable) {
-    if (context instanceof Activity) {
-      ((Activity) context).runOnUiThread(runnable);
+    if (Looper.myLooper() == Looper.getMainLooper()) {
+      inlineMainThreadDispatchCount.incrementAndGet();
+      runnable.run();
     } else {
-      new Handler(Looper.getMainLooper()).post(runnable);
+      postedMainThreadDispatchCount.incrementAndGet();
+      mainThreadHandler.post(runnable);
     }
   }
 
+  /** The number of {@link #runOnMainThread} calls that ran immediately on the calling thread. */
+  public long getInlineMainThreadDispatchCount() {
+    return inlineMainThreadDispatchCount.get();
+  }
+
+  /** The number of {@link #runOnMainThread} calls that were posted to the main thread. */
+  public long getPostedMainThreadDispatchCount() {
+    return postedMainThreadDispatchCount.get();
+  }
+
+  /**
+   * The window, in milliseconds, over which high-frequency callbacks (scroll and progress changes)
+   * are coalesced before being sent to Dart. A value of 0 sends every event.
+   */
+  public long getCallbackCoalescingWindowMillis() {
+    return callbackCoalescingWindowMillis;
+  }
+
+  public void setCallbackCoalescingWindowMillis(long milliseconds) {
+    callbackCoalescingWindowMillis = Math.max(0, milliseconds);
+  }
+
   // For logging exception received from Host -> Dart message calls.
   void logError(String tag, Throwable exception) {
     Log.e(
@@ -59,128 +189,128 @@ public class ProxyApiRegistrar extends AndroidWebkitLibraryPigeonProxyApiRegistr
   @NonNull
   @Override
   public PigeonApiWebResourceRequest getPigeonApiWebResourceRequest() {
-    return new WebResourceRequestProxyApi(this);
+    return webResourceRequestProxyApi;
   }
 
   @RequiresApi(api = Build.VERSION_CODES.M)
   @NonNull
   @Override
   public PigeonApiWebResourceError getPigeonApiWebResourceError() {
-    return new WebResourceErrorProxyApi(this);
+    return webResourceErrorProxyApi;
   }
 
   @NonNull
   @Override
   public PigeonApiWebResourceErrorCompat getPigeonApiWebResourceErrorCompat() {
-    return new WebResourceErrorCompatProxyApi(this);
+    return webResourceErrorCompatProxyApi;
   }
 
   @NonNull
   @Override
   public PigeonApiWebViewPoint getPigeonApiWebViewPoint() {
-    return new WebViewPointProxyApi(this);
+    return webViewPointProxyApi;
   }
 
   @NonNull
   @Override
   public PigeonApiConsoleMessage getPigeonApiConsoleMessage() {
-    return new ConsoleMessageProxyApi(this);
+    return consoleMessageProxyApi;
   }
 
   @NonNull
   @Override
   public PigeonApiCookieManager getPigeonApiCookieManager() {
-    return new CookieManagerProxyApi(this);
+    return cookieManagerProxyApi;
   }
 
   @NonNull
   @Override
   public PigeonApiWebResourceResponse getPigeonApiWebResourceResponse() {
-    return new WebResourceResponseProxyApi(this);
+    return webResourceResponseProxyApi;
   }
 
   @NonNull
   @Override
   public PigeonApiWebView getPigeonApiWebView() {
-    return new WebViewProxyApi(this);
+    return webViewProxyApi;
   }
 
   @NonNull
   @Override
   public PigeonApiWebSettings getPigeonApiWebSettings() {
-    return new WebSettingsProxyApi(this);
+    return webSettingsProxyApi;
   }
 
   @NonNull
   @Override
   public PigeonApiJavaScriptChannel getPigeonApiJavaScriptChannel() {
-    return new JavaScriptChannelProxyApi(this);
+    return javaScriptChannelProxyApi;
   }
 
   @NonNull
   @Override
   public PigeonApiWebViewClient getPigeonApiWebViewClient() {
-    return new WebViewClientProxyApi(this);
+    return webViewClientProxyApi;
   }
 
   @NonNull
   @Override
   public PigeonApiDownloadListener getPigeonApiDownloadListener() {
-    return new DownloadListenerProxyApi(this);
+    return downloadListenerProxyApi;
   }
 
   @NonNull
   @Override
   public PigeonApiWebChromeClient getPigeonApiWebChromeClient() {
-    return new WebChromeClientProxyApi(this);
+    return webChromeClientProxyApi;
   }
 
   @NonNull
   @Override
   public PigeonApiFlutterAssetManager getPigeonApiFlutterAssetManager() {
-    return new FlutterAssetManagerProxyApi(this);
+    return flutterAssetManagerProxyApi;
   }
 
   @NonNull
   @Override
   public PigeonApiWebStorage getPigeonApiWebStorage() {
-    return new WebStorageProxyApi(this);
+    return webStorageProxyApi;
   }
 
   @NonNull
   @Override
   public PigeonApiFileChooserParams getPigeonApiFileChooserParams() {
-    return new FileChooserParamsProxyApi(this);
+    return fileChooserParamsProxyApi;
   }
 
   @NonNull
   @Override
   public PigeonApiPermissionRequest getPigeonApiPermissionRequest() {
-    return new PermissionRequestProxyApi(this);
+    return permissionRequestProxyApi;
   }
 
   @NonNull
   @Override
   public PigeonApiCustomViewCallback getPigeonApiCustomViewCallback() {
-    return new CustomViewCallbackProxyApi(this);
+    return customViewCallbackProxyApi;
   }
 
   @NonNull
   @Override
   public PigeonApiView getPigeonApiView() {
-    return new ViewProxyApi(this);
+    return viewProxyApi;
   }
 
   @NonNull
   @Override
   public PigeonApiGeolocationPermissionsCallback getPigeonApiGeolocationPermissionsCallback() {
-    return new GeolocationPermissionsCallbackProxyApi(this);
+    return geolocationPermissionsCallbackProxyApi;
   }
 
   @NonNull
   @Override
   public PigeonApiHttpAuthHandler getPigeonApiHttpAuthHandler() {
-    return new HttpAuthHandlerProxyApi(this);
+    return httpAuthHandlerProxyApi;
   }
 
   @NonNull
@@ -196,4 +326,25 @@ public class ProxyApiRegistrar extends AndroidWebkitLibraryPigeonProxyApiRegistr
   public FlutterAssetManager getFlutterAssetManager() {
     return flutterAssetManager;
   }
+
+  @NonNull
+  public RequestInterceptor getRequestInterceptor() {
+    return requestInterceptor;
+  }
+
+  @NonNull
+  public SdkBundleStore getSdkBundleStore() {
+    return sdkBundleStore;
+  }
+
+  /** The pool of WebViews handed out by {@link WebViewProxyApi#pigeon_defaultConstructor}. */
+  @NonNull
+  public WebViewPool getWebViewPool() {
+    return webViewPool;
+  }
+
+  @NonNull
+  public WebViewStateStore getWebViewStateStore() {
+    return webViewStateStore;
+  }
 }
@@ -0,0 +1,182 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package kr.co.bootpay.webviewflutter;
+
+import android.webkit.WebResourceRequest;
+import android.webkit.WebResourceResponse;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Answers {@code WebViewClient.shouldInterceptRequest} from a table of {@link InterceptRule}s set
+ * from Dart.
+ *
+ * <p>A matched request is blocked, served from a Flutter asset, served from a file on disk, or left
+ * to the network. When a rule's target ends with {@code /}, it names a directory and the path of
+ * the request is resolved against it: for prefix rules, the part of the URL after the prefix, and
+ * for host and glob rules, the path of the URL. A request whose file doesn't exist goes to the
+ * network. Local files are streamed by the {@link AssetStreamer}, which also answers range
+ * requests.
+ *
+ * <p>Files of {@link SdkBundle}s registered with the {@link SdkBundleStore} are served before any
+ * rule is matched.
+ *
+ * <p>{@link #intercept} is called on the WebView's IO thread for every resource, so the rule table
+ * is swapped as a whole and never locked.
+ */
+public class RequestInterceptor {
+  private final AssetStreamer assetStreamer;
+  private final SdkBundleStore sdkBundleStore;
+
+  private volatile InterceptRuleIndex index = InterceptRuleIndex.EMPTY;
+
+  public RequestInterceptor(
+      @NonNull AssetStreamer assetStreamer, @NonNull SdkBundleStore sdkBundleStore) {
+    this.assetStreamer = assetStreamer;
+    this.sdkBundleStore = sdkBundleStore;
+  }
+
+  /** Replaces the rule table. */
+  public void setRules(@NonNull List<InterceptRule> rules) {
+    index = InterceptRuleIndex.compile(rules);
+  }
+
+  /**
+   * Returns the response for {@code request}, or null if it should go to the network.
+   *
+   * <p>Called on the WebView's IO thread.
+   */
+  @Nullable
+  public WebResourceResponse intercept(@NonNull WebResourceRequest request) {
+    final InterceptRuleIndex currentIndex = index;
+    if (currentIndex.isEmpty() && sdkBundleStore.isEmpty()) {
+      return null;
+    }
+
+    final String url = request.getUrl().toString();
+    final String range = getRange(request);
+    if (!sdkBundleStore.isEmpty() && "GET".equalsIgnoreCase(request.getMethod())) {
+      final WebResourceResponse response = sdkBundleStore.open(url, range);
+      if (response != null) {
+        return response;
+      }
+    }
+    return currentIndex.isEmpty()
+        ? null
+        : intercept(currentIndex, url, request.getMethod(), range);
+  }
+
+  @Nullable
+  @VisibleForTesting
+  WebResourceResponse intercept(
+      @NonNull InterceptRuleIndex index,
+      @NonNull String url,
+      @Nullable String method,
+      @Nullable String range) {
+    final InterceptRule rule = index.match(url);
+    if (rule == null) {
+      return null;
+    }
+
+    switch (rule.getAction()) {
+      case BLOCK:
+        return new WebResourceResponse(
+            "text/plain",
+            "utf-8",
+            403,
+            "Forbidden",
+            Collections.emptyMap(),
+            new ByteArrayInputStream(new byte[0]));
+      case ASSET:
+      case DISK_CACHE:
+        // Local files only stand in for reads.
+        if (method != null && !method.equalsIgnoreCase("GET")) {
+          return null;
+        }
+        final String path = resolveTarget(rule, url);
+        if (path == null) {
+          return null;
+        }
+        return rule.getAction() == InterceptAction.ASSET
+            ? assetStreamer.openAsset(path, range, Collections.emptyMap())
+            : assetStreamer.openFile(
+                new File(path), AssetStreamer.guessMimeType(path), range, Collections.emptyMap());
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * Returns the asset name or file path that serves {@code url}, or null if the request path can't
+   * be used safely.
+   */
+  @Nullable
+  static String resolveTarget(@NonNull InterceptRule rule, @NonNull String url) {
+    final String target = rule.getTarget();
+    if (target == null || target.isEmpty()) {
+      return null;
+    }
+    if (!target.endsWith("/")) {
+      return target;
+    }
+
+    final String relativePath;
+    if (rule.getMatchType() == InterceptMatchType.PREFIX) {
+      relativePath = url.substring(rule.getPattern().length());
+    } else {
+      final int schemeEnd = url.indexOf("://");
+      final int pathStart = url.indexOf('/', schemeEnd < 0 ? 0 : schemeEnd + 3);
+      relativePath = pathStart < 0 ? "" : url.substring(pathStart + 1);
+    }
+
+    final String path = stripQueryAndFragment(relativePath);
+    // The path comes from the page, so it must not escape the target directory.
+    if (path.isEmpty()
+        || path.startsWith("/")
+        || path.equals("..")
+        || path.startsWith("../")
+        || path.contains("/../")
+        || path.endsWith("/..")
+        || path.indexOf('\\') >= 0) {
+      return null;
+    }
+    return target + path;
+  }
+
+  @Nullable
+  private static String getRange(@NonNull WebResourceRequest request) {
+    final Map<String, String> headers = request.getRequestHeaders();
+    if (headers == null) {
+      return null;
+    }
+    // Header names are case-insensitive.
+    for (Map.Entry<String, String> header : headers.entrySet()) {
+      if ("Range".equalsIgnoreCase(header.getKey())) {
+        return header.getValue();
+      }
+    }
+    return null;
+  }
+
+  @NonNull
+  private static String stripQueryAndFragment(@NonNull String path) {
+    int end = path.length();
+    final int query = path.indexOf('?');
+    if (query >= 0) {
+      end = query;
+    }
+    final int fragment = path.indexOf('#');
+    if (fragment >= 0 && fragment < end) {
+      end = fragment;
+    }
+    return path.substring(0, end);
+  }
+}
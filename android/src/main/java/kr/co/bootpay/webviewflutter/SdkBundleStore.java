@@ -0,0 +1,499 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package kr.co.bootpay.webviewflutter;
+
+import android.webkit.WebResourceResponse;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves the scripts and stylesheets of registered {@link SdkBundle}s without going to the network.
+ *
+ * <p>A bundle ships with the app as Flutter assets and is identified by the version the app was
+ * built with. {@link #update} downloads newer copies of its files over HTTPS into the app's files
+ * directory. It sends the ETag the server returned for each file, so unchanged files aren't
+ * downloaded again. Every downloaded file must have the SHA-256 digest pinned for it by the bundle,
+ * and the new copies are only used once every file has been checked. Downloaded files are
+ * discarded when the app registers a bundle with a different version or digest, since the app then
+ * ships or expects other files.
+ *
+ * <p>{@link #open} is called on the WebView's IO thread for every resource, so lookups are a single
+ * hash map read. Files are streamed by the {@link AssetStreamer}.
+ */
+public class SdkBundleStore {
+  /** Receives whether {@link #update} downloaded any new files. */
+  public interface UpdateCallback {
+    void onComplete(boolean updated, @Nullable Throwable error);
+  }
+
+  private static final String MANIFEST = "manifest.properties";
+  private static final String BASE_VERSION_KEY = "baseVersion";
+  private static final String DIRECTORY_KEY = "directory";
+  private static final String SHA256_KEY_PREFIX = "sha256.";
+  private static final String ETAG_KEY_PREFIX = "etag.";
+  private static final int TIMEOUT_MILLIS = 10_000;
+
+  /** A file of a bundle and where it is read from. */
+  static final class Entry {
+    @NonNull final String bundleName;
+    @NonNull final String assetName;
+    // A downloaded copy that replaces the asset, if any.
+    @Nullable final File file;
+    // The ETag sent to the WebView.
+    @NonNull final String etag;
+    // The ETag the server returned for the downloaded copy, if any.
+    @Nullable final String serverEtag;
+    // The SHA-256 digest of the downloaded copy, if any.
+    @Nullable final String sha256;
+
+    Entry(@NonNull String bundleName, @NonNull String assetName, @NonNull String version) {
+      this(bundleName, assetName, null, quote(version), null, null);
+    }
+
+    Entry(
+        @NonNull String bundleName,
+        @NonNull String assetName,
+        @Nullable File file,
+        @NonNull String etag,
+        @Nullable String serverEtag,
+        @Nullable String sha256) {
+      this.bundleName = bundleName;
+      this.assetName = assetName;
+      this.file = file;
+      this.etag = etag;
+      this.serverEtag = serverEtag;
+      this.sha256 = sha256;
+    }
+
+    @NonNull
+    Entry withFile(@NonNull File file) {
+      return new Entry(bundleName, assetName, file, etag, serverEtag, sha256);
+    }
+  }
+
+  /** A file downloaded by {@link #download}. */
+  private static final class Download {
+    @Nullable final String etag;
+    @NonNull final String sha256;
+
+    Download(@Nullable String etag, @NonNull String sha256) {
+      this.etag = etag;
+      this.sha256 = sha256;
+    }
+  }
+
+  private final AssetStreamer assetStreamer;
+  private final File rootDirectory;
+  private final Map<String, SdkBundle> bundlesByName = new ConcurrentHashMap<>();
+  private final Map<String, Entry> entriesByUrl = new ConcurrentHashMap<>();
+
+  @Nullable private ExecutorService updateExecutor;
+
+  public SdkBundleStore(
+      @NonNull AssetStreamer assetStreamer, @NonNull File rootDirectory) {
+    this.assetStreamer = assetStreamer;
+    this.rootDirectory = rootDirectory;
+  }
+
+  /**
+   * Registers {@code bundle}, replacing a bundle with the same name.
+   *
+   * <p>Files downloaded for the same version of the bundle are used again if they still have the
+   * pinned digests. Runs under the same lock as the end of {@link #updateNow}, so it never reads or
+   * deletes files that an update is switching to.
+   */
+  public synchronized void register(@NonNull SdkBundle bundle) {
+    final Properties manifest = readManifest(bundle.getName());
+    final boolean hasDownloads =
+        manifest != null && bundle.getVersion().equals(manifest.getProperty(BASE_VERSION_KEY));
+    if (manifest != null && !hasDownloads) {
+      deleteRecursively(getBundleDirectory(bundle.getName()));
+    }
+    final File downloads =
+        hasDownloads
+            ? new File(getBundleDirectory(bundle.getName()), manifest.getProperty(DIRECTORY_KEY))
+            : null;
+
+    final Map<String, Entry> entries = new HashMap<>();
+    for (Map.Entry<String, String> asset : bundle.getAssets().entrySet()) {
+      final String url = asset.getKey();
+      Entry entry = new Entry(bundle.getName(), asset.getValue(), bundle.getVersion());
+      final String sha256 =
+          downloads != null ? manifest.getProperty(SHA256_KEY_PREFIX + url) : null;
+      if (sha256 != null && sha256.equals(getPinnedSha256(bundle, url))) {
+        final File file = new File(downloads, fileNameOf(url));
+        if (file.isFile()) {
+          entry =
+              new Entry(
+                  bundle.getName(),
+                  asset.getValue(),
+                  file,
+                  quote(sha256),
+                  manifest.getProperty(ETAG_KEY_PREFIX + url),
+                  sha256);
+        }
+      }
+      entries.put(url, entry);
+    }
+
+    bundlesByName.put(bundle.getName(), bundle);
+    removeEntries(bundle.getName());
+    entriesByUrl.putAll(entries);
+  }
+
+  /** Whether any bundle is registered. */
+  public boolean isEmpty() {
+    return entriesByUrl.isEmpty();
+  }
+
+  /**
+   * Returns the response for {@code url} if it is a file of a registered bundle, or null otherwise.
+   *
+   * <p>Called on the WebView's IO thread.
+   *
+   * @param range the value of the request's {@code Range} header, if any
+   */
+  @Nullable
+  public WebResourceResponse open(@NonNull String url, @Nullable String range) {
+    Entry entry = entriesByUrl.get(url);
+    if (entry == null) {
+      // Cache-busting query parameters don't change which file is served.
+      final int query = url.indexOf('?');
+      if (query < 0 || (entry = entriesByUrl.get(url.substring(0, query))) == null) {
+        return null;
+      }
+    }
+
+    final Map<String, String> headers = new HashMap<>();
+    headers.put("ETag", entry.etag);
+    // Scripts loaded with the `crossorigin` attribute require CORS headers.
+    headers.put("Access-Control-Allow-Origin", "*");
+    return entry.file != null
+        ? assetStreamer.openFile(
+            entry.file, AssetStreamer.guessMimeType(entry.assetName), range, headers)
+        : assetStreamer.openAsset(entry.assetName, range, headers);
+  }
+
+  /** Returns the downloaded copy served for {@code url}, or null if the asset is served. */
+  @VisibleForTesting
+  @Nullable
+  File getFile(@NonNull String url) {
+    final Entry entry = entriesByUrl.get(url);
+    return entry != null ? entry.file : null;
+  }
+
+  /**
+   * Checks every file of the bundle named {@code name} for a newer version on its server, on a
+   * background thread.
+   *
+   * <p>New files are only used once every file of the bundle has been checked successfully.
+   */
+  public synchronized void update(@NonNull String name, @NonNull UpdateCallback callback) {
+    if (updateExecutor == null) {
+      updateExecutor = createUpdateExecutor();
+    }
+    updateExecutor.execute(
+        () -> {
+          try {
+            callback.onComplete(updateNow(name), null);
+          } catch (IOException | RuntimeException e) {
+            callback.onComplete(false, e);
+          }
+        });
+  }
+
+  /** Stops the thread that runs {@link #update}s. Updates that haven't started are dropped. */
+  public synchronized void close() {
+    if (updateExecutor != null) {
+      updateExecutor.shutdownNow();
+      updateExecutor = null;
+    }
+  }
+
+  @VisibleForTesting
+  boolean updateNow(@NonNull String name) throws IOException {
+    final SdkBundle bundle = bundlesByName.get(name);
+    if (bundle == null) {
+      throw new IllegalArgumentException("No SDK bundle named " + name + " is registered.");
+    }
+    for (String url : bundle.getAssets().keySet()) {
+      if (!isSecure(url)) {
+        throw new IllegalArgumentException(
+            "SDK bundle files must be downloaded over HTTPS: " + url);
+      }
+      if (getPinnedSha256(bundle, url) == null) {
+        throw new IllegalArgumentException("No SHA-256 digest is pinned for " + url);
+      }
+    }
+
+    final File bundleDirectory = getBundleDirectory(name);
+    final File staging = new File(bundleDirectory, "staging");
+    deleteRecursively(staging);
+    if (!staging.mkdirs()) {
+      throw new IOException("Could not create " + staging);
+    }
+
+    File directory = null;
+    try {
+      final Map<String, Entry> entries = new HashMap<>();
+      boolean updated = false;
+      for (String url : bundle.getAssets().keySet()) {
+        final Entry current = entriesByUrl.get(url);
+        final File target = new File(staging, fileNameOf(url));
+        final Download download =
+            download(url, current != null ? current.serverEtag : null, target);
+        if (download != null) {
+          if (!download.sha256.equals(getPinnedSha256(bundle, url))) {
+            throw new IOException("The SHA-256 digest of " + url + " doesn't match the pinned one");
+          }
+          updated = true;
+          entries.put(
+              url,
+              new Entry(
+                  name,
+                  bundle.getAssets().get(url),
+                  target,
+                  quote(download.sha256),
+                  download.etag,
+                  download.sha256));
+        } else if (current != null && current.file != null) {
+          // Unchanged downloads are copied, so the current directory keeps serving every file
+          // until the entries switch to the new one.
+          copy(current.file, target);
+          entries.put(url, current.withFile(target));
+        }
+      }
+      if (!updated) {
+        deleteRecursively(staging);
+        return false;
+      }
+
+      synchronized (this) {
+        // The bundle may have been registered again while downloading.
+        if (bundlesByName.get(name) != bundle) {
+          deleteRecursively(staging);
+          return false;
+        }
+
+        long version = System.currentTimeMillis();
+        while (new File(bundleDirectory, "v" + version).exists()) {
+          version++;
+        }
+        final String directoryName = "v" + version;
+        directory = new File(bundleDirectory, directoryName);
+        if (!staging.renameTo(directory)) {
+          throw new IOException("Could not create " + directory);
+        }
+
+        final Properties manifest = new Properties();
+        manifest.setProperty(BASE_VERSION_KEY, bundle.getVersion());
+        manifest.setProperty(DIRECTORY_KEY, directoryName);
+        for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+          final String url = entry.getKey();
+          final Entry staged = entry.getValue();
+          manifest.setProperty(SHA256_KEY_PREFIX + url, staged.sha256);
+          if (staged.serverEtag != null) {
+            manifest.setProperty(ETAG_KEY_PREFIX + url, staged.serverEtag);
+          }
+          entriesByUrl.put(url, staged.withFile(new File(directory, staged.file.getName())));
+        }
+        writeManifest(bundleDirectory, manifest);
+
+        final File[] children = bundleDirectory.listFiles();
+        if (children != null) {
+          for (File child : children) {
+            if (child.isDirectory() && !child.getName().equals(directoryName)) {
+              deleteRecursively(child);
+            }
+          }
+        }
+      }
+      return true;
+    } catch (IOException | RuntimeException e) {
+      // The current entries and their directory are untouched, so they keep being served.
+      deleteRecursively(staging);
+      if (directory != null) {
+        deleteRecursively(directory);
+      }
+      throw e;
+    }
+  }
+
+  /** Whether {@code url} is downloaded over a secure connection. */
+  @VisibleForTesting
+  boolean isSecure(@NonNull String url) {
+    return url.regionMatches(true, 0, "https://", 0, "https://".length());
+  }
+
+  // Downloads `url` into `target`, or returns null if it hasn't changed since the server returned
+  // `etag`.
+  @Nullable
+  private static Download download(
+      @NonNull String url, @Nullable String etag, @NonNull File target) throws IOException {
+    final HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+    try {
+      connection.setConnectTimeout(TIMEOUT_MILLIS);
+      connection.setReadTimeout(TIMEOUT_MILLIS);
+      if (etag != null) {
+        connection.setRequestProperty("If-None-Match", etag);
+      }
+      final int status = connection.getResponseCode();
+      if (status == HttpURLConnection.HTTP_NOT_MODIFIED) {
+        return null;
+      }
+      if (status != HttpURLConnection.HTTP_OK) {
+        throw new IOException("Unexpected status " + status + " for " + url);
+      }
+      final MessageDigest digest = newDigest("SHA-256");
+      try (InputStream input = new DigestInputStream(connection.getInputStream(), digest)) {
+        copy(input, target);
+      }
+      return new Download(connection.getHeaderField("ETag"), toHex(digest.digest()));
+    } finally {
+      connection.disconnect();
+    }
+  }
+
+  private static void copy(@NonNull File source, @NonNull File target) throws IOException {
+    try (InputStream input = new FileInputStream(source)) {
+      copy(input, target);
+    }
+  }
+
+  private static void copy(@NonNull InputStream input, @NonNull File target) throws IOException {
+    try (OutputStream output = new FileOutputStream(target)) {
+      final byte[] buffer = new byte[16 * 1024];
+      int count;
+      while ((count = input.read(buffer)) > 0) {
+        output.write(buffer, 0, count);
+      }
+    }
+  }
+
+  private void removeEntries(@NonNull String bundleName) {
+    entriesByUrl.values().removeIf(entry -> entry.bundleName.equals(bundleName));
+  }
+
+  @NonNull
+  private File getBundleDirectory(@NonNull String name) {
+    return new File(rootDirectory, fileNameOf(name));
+  }
+
+  @Nullable
+  private Properties readManifest(@NonNull String name) {
+    final File file = new File(getBundleDirectory(name), MANIFEST);
+    if (!file.isFile()) {
+      return null;
+    }
+    final Properties manifest = new Properties();
+    try (InputStream input = new FileInputStream(file)) {
+      manifest.load(input);
+    } catch (IOException e) {
+      return null;
+    }
+    return manifest.getProperty(BASE_VERSION_KEY) != null
+            && manifest.getProperty(DIRECTORY_KEY) != null
+        ? manifest
+        : null;
+  }
+
+  // Writes to a temporary file first, so a crash never leaves a partial manifest.
+  private static void writeManifest(@NonNull File directory, @NonNull Properties manifest)
+      throws IOException {
+    final File temporary = new File(directory, MANIFEST + ".tmp");
+    try (OutputStream output = new FileOutputStream(temporary)) {
+      manifest.store(output, null);
+    }
+    if (!temporary.renameTo(new File(directory, MANIFEST))) {
+      throw new IOException("Could not write the manifest in " + directory);
+    }
+  }
+
+  @Nullable
+  private static String getPinnedSha256(@NonNull SdkBundle bundle, @NonNull String url) {
+    final String sha256 = bundle.getSha256().get(url);
+    return sha256 != null ? sha256.toLowerCase(Locale.ROOT) : null;
+  }
+
+  @NonNull
+  static String fileNameOf(@NonNull String key) {
+    return toHex(newDigest("SHA-1").digest(key.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  @NonNull
+  private static MessageDigest newDigest(@NonNull String algorithm) {
+    try {
+      return MessageDigest.getInstance(algorithm);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @NonNull
+  private static String toHex(@NonNull byte[] bytes) {
+    final StringBuilder hex = new StringBuilder(bytes.length * 2);
+    for (byte b : bytes) {
+      hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+    }
+    return hex.toString();
+  }
+
+  @NonNull
+  private static String quote(@NonNull String value) {
+    return "\"" + value + "\"";
+  }
+
+  private static void deleteRecursively(@NonNull File file) {
+    final File[] children = file.listFiles();
+    if (children != null) {
+      for (File child : children) {
+        deleteRecursively(child);
+      }
+    }
+    //noinspection ResultOfMethodCallIgnored
+    file.delete();
+  }
+
+  // Updates are rare, so the daemon thread that runs them stops once the queue has been idle.
+  @NonNull
+  private static ExecutorService createUpdateExecutor() {
+    final ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            1,
+            1,
+            10,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            runnable -> {
+              final Thread thread = new Thread(runnable, "BootpaySdkBundleStore");
+              thread.setDaemon(true);
+              return thread;
+            });
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+}
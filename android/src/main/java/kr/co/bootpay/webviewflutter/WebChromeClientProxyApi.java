@@ -4,6 +4,7 @@
 
 package kr.co.bootpay.webviewflutter;
 
+import android.graphics.Bitmap;
 import android.net.Uri;
 import android.os.Build;
 import android.os.Message;
@@ -23,6 +24,7 @@ import androidx.annotation.Nullable;
 import androidx.annotation.RequiresApi;
 import androidx.annotation.VisibleForTesting;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import android.annotation.SuppressLint;
@@ -63,6 +65,15 @@ public class WebChromeClientProxyApi extends PigeonApiWebChromeClient {
     private boolean returnValueForOnJsConfirm = false;
     private boolean returnValueForOnJsPrompt = false;
 
+    // Progress change waiting to be sent to Dart when callback coalescing is enabled. Only accessed
+    // on the main thread.
+    private final Runnable flushPendingProgress = this::flushPendingProgress;
+    @Nullable private WebView pendingProgressView;
+    private int pendingProgress;
+
+    // Created on the first message that passes the console message filter.
+    @Nullable private ConsoleMessageBatcher consoleMessageBatcher;
+
     /** Creates a {@link WebChromeClient} that passes arguments of callbacks methods to Dart. */
     public WebChromeClientImpl(@NonNull WebChromeClientProxyApi api) {
       this.api = api;
@@ -70,7 +81,33 @@ public class WebChromeClientProxyApi extends PigeonApiWebChromeClient {
 
     @Override
     public void onProgressChanged(@NonNull WebView view, int progress) {
-      if (api != null) api.onProgressChanged(this, view, (long) progress, reply -> null);
+      if (api == null) return;
+
+      final long coalescingWindow = api.getPigeonRegistrar().getCallbackCoalescingWindowMillis();
+      // Completion is always delivered immediately so page-load handling is never delayed.
+      if (coalescingWindow <= 0 || progress >= 100) {
+        if (pendingProgressView != null) {
+          pendingProgressView.removeCallbacks(flushPendingProgress);
+          pendingProgressView = null;
+        }
+        api.onProgressChanged(this, view, (long) progress, reply -> null);
+        return;
+      }
+
+      if (pendingProgressView == null) {
+        view.postDelayed(flushPendingProgress, coalescingWindow);
+      }
+      pendingProgressView = view;
+      pendingProgress = progress;
+    }
+
+    private void flushPendingProgress() {
+      final WebView view = pendingProgressView;
+      if (view == null || api == null) {
+        return;
+      }
+      pendingProgressView = null;
+      api.onProgressChanged(this, view, (long) pendingProgress, reply -> null);
     }
 
     @Override
@@ -136,7 +173,31 @@ public class WebChromeClientProxyApi extends PigeonApiWebChromeClient {
 
     @Override
     public boolean onConsoleMessage(ConsoleMessage consoleMessage) {
-      if (api != null) api.onConsoleMessage(this, consoleMessage, reply -> null);
+      if (api == null) return returnValueForOnConsoleMessage;
+
+      final ConsoleMessageFilter filter = ConsoleMessageFilter.getInstance();
+      if (!filter.isEnabled()) {
+        api.onConsoleMessage(this, consoleMessage, reply -> null);
+        return returnValueForOnConsoleMessage;
+      }
+
+      final ConsoleMessageLevel level =
+          api.getPigeonRegistrar().getPigeonApiConsoleMessage().level(consoleMessage);
+      if (filter.accepts(level, consoleMessage.sourceId())) {
+        if (consoleMessageBatcher == null) {
+          consoleMessageBatcher =
+              new ConsoleMessageBatcher(
+                  messages -> {
+                    if (api != null) api.onConsoleMessages(this, messages, reply -> null);
+                  });
+        }
+        consoleMessageBatcher.add(
+            new ConsoleMessageData(
+                consoleMessage.lineNumber(),
+                consoleMessage.message(),
+                level,
+                consoleMessage.sourceId()));
+      }
       return returnValueForOnConsoleMessage;
     }
 
@@ -259,7 +320,10 @@ public class WebChromeClientProxyApi extends PigeonApiWebChromeClient {
   public static class SecureWebChromeClient extends WebChromeClient {
     @Nullable WebViewClient webViewClient;
     WebChromeClientProxyApi api;
-    WebView mainView;
+
+    // Settings of the WebView that last opened a popup, reused until they change.
+    @Nullable private WebSettingsSnapshot parentSettings;
+    @Nullable private WebView parentSettingsView;
 
     public SecureWebChromeClient() {}
     public SecureWebChromeClient(WebChromeClientProxyApi api) {
@@ -272,9 +336,7 @@ public class WebChromeClientProxyApi extends PigeonApiWebChromeClient {
     @Override
     public void onCloseWindow(WebView window) {
       super.onCloseWindow(window);
-      if(mainView != null) mainView.removeView(window);
-      window.setVisibility(View.GONE);
-      window.destroy();
+      PopupWindowManager.getInstance().close(window);
     }
 
     @Override
@@ -284,7 +346,7 @@ public class WebChromeClientProxyApi extends PigeonApiWebChromeClient {
         boolean isUserGesture,
         @NonNull Message resultMsg) {
 
-      return onCreateWindow(view, resultMsg, new WebView(view.getContext()));
+      return onCreateWindow(view, resultMsg, null);
     }
 
     /**
@@ -313,12 +375,20 @@ public class WebChromeClientProxyApi extends PigeonApiWebChromeClient {
       if (webViewClient == null) {
         return false;
       }
-      this.mainView = view;
+      if (!PopupWindowManager.getInstance().canOpen(view)) {
+        BootpayLog.log("onCreateWindow rejected", view.getUrl());
+        return false;
+      }
 
       final WebViewClient windowWebViewClient =
           new WebViewClient() {
             BootpayUrlHelper bootpayUrlHelper = new BootpayUrlHelper();
 
+            @Override
+            public void onPageStarted(WebView windowWebView, String url, Bitmap favicon) {
+              PopupWindowManager.getInstance().onNavigation(windowWebView);
+            }
+
             @RequiresApi(api = Build.VERSION_CODES.N)
             @Override
             public boolean shouldOverrideUrlLoading(
@@ -353,62 +423,20 @@ public class WebChromeClientProxyApi extends PigeonApiWebChromeClient {
           };
 
       if (newWebView == null) {
-        newWebView = new WebView(view.getContext());
+        newWebView = PopupWebViewPool.getInstance().acquire(view.getContext());
       }
 
-      newWebView.getSettings().setMediaPlaybackRequiresUserGesture( view.getSettings().getMediaPlaybackRequiresUserGesture() );
       newWebView.setWebViewClient(windowWebViewClient);
       newWebView.setFocusable(true);
       newWebView.setFocusableInTouchMode(true);
 
-
-      newWebView.getSettings().setBuiltInZoomControls(view.getSettings().getBuiltInZoomControls());
-      newWebView.getSettings().setDisplayZoomControls(view.getSettings().getDisplayZoomControls());
-      newWebView.getSettings().setAllowFileAccess(view.getSettings().getAllowFileAccess());
-      newWebView.getSettings().setAllowContentAccess(view.getSettings().getAllowContentAccess());
-      newWebView.getSettings().setLoadWithOverviewMode(view.getSettings().getLoadWithOverviewMode());
-//      newWebView.getSettings().setEnableSmoothTransition(view.getSettings().);
-//      newWebView.getSettings().setSaveFormData(view.getSettings().getSaveFormData());
-//      newWebView.getSettings().setSavePassword(view.getSettings().getSavePassword());
-      newWebView.getSettings().setTextZoom(view.getSettings().getTextZoom());
-
-
-      newWebView.getSettings().setUseWideViewPort(view.getSettings().getUseWideViewPort());
-      newWebView.getSettings().setSupportMultipleWindows(true);
-      newWebView.getSettings().setLayoutAlgorithm(view.getSettings().getLayoutAlgorithm());
-      newWebView.getSettings().setStandardFontFamily(view.getSettings().getStandardFontFamily());
-      newWebView.getSettings().setFixedFontFamily(view.getSettings().getFixedFontFamily());
-      newWebView.getSettings().setSansSerifFontFamily(view.getSettings().getSansSerifFontFamily());
-      newWebView.getSettings().setSerifFontFamily(view.getSettings().getSerifFontFamily());
-      newWebView.getSettings().setCursiveFontFamily(view.getSettings().getCursiveFontFamily());
-      newWebView.getSettings().setFantasyFontFamily(view.getSettings().getFantasyFontFamily());
-      newWebView.getSettings().setMinimumFontSize(view.getSettings().getMinimumFontSize());
-      newWebView.getSettings().setMinimumLogicalFontSize(view.getSettings().getMinimumLogicalFontSize());
-      newWebView.getSettings().setDefaultFontSize(view.getSettings().getDefaultFontSize());
-      newWebView.getSettings().setDefaultFixedFontSize(view.getSettings().getDefaultFixedFontSize());
-      newWebView.getSettings().setLoadsImagesAutomatically(view.getSettings().getLoadsImagesAutomatically());
-      newWebView.getSettings().setBlockNetworkImage(view.getSettings().getBlockNetworkImage());
-      newWebView.getSettings().setJavaScriptEnabled(view.getSettings().getJavaScriptEnabled());
-      newWebView.getSettings().setDatabaseEnabled(view.getSettings().getDatabaseEnabled());
-      newWebView.getSettings().setDomStorageEnabled(view.getSettings().getDomStorageEnabled());
-
-      newWebView.getSettings().setJavaScriptCanOpenWindowsAutomatically(view.getSettings().getJavaScriptCanOpenWindowsAutomatically());
-      newWebView.getSettings().setDefaultTextEncodingName(view.getSettings().getDefaultTextEncodingName());
-      newWebView.getSettings().setUserAgentString(view.getSettings().getUserAgentString());
-      newWebView.getSettings().setCacheMode(view.getSettings().getCacheMode());
-
-      if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
-        newWebView.getSettings().setMixedContentMode(view.getSettings().getMixedContentMode());
-      }
-      if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
-        newWebView.getSettings().setSafeBrowsingEnabled(view.getSettings().getSafeBrowsingEnabled());
-      }
-//      if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
-//        newWebView.getSettings().setForceDark(view.getSettings().getForceDark());
-//      }
-      if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
-        newWebView.getSettings().setDisabledActionModeMenuItems(view.getSettings().getDisabledActionModeMenuItems());
+      if (parentSettingsView != view) {
+        parentSettings = null;
+        parentSettingsView = view;
       }
+      parentSettings = WebSettingsSnapshot.reuseOrCapture(parentSettings, view.getSettings());
+      parentSettings.applyTo(newWebView.getSettings());
+
 //      newWebView.requestFocus(View.FOCUS_DOWN);
       newWebView.setOnTouchListener((v, event) -> {
         switch (event.getAction()) {
@@ -423,7 +451,11 @@ public class WebChromeClientProxyApi extends PigeonApiWebChromeClient {
       });
 
 //      newWebView.setWebViewClient(windowWebViewClient);
-      newWebView.setWebChromeClient(new WebChromeClientImpl(this.api));
+      final WebChromeClientImpl popupWebChromeClient = new WebChromeClientImpl(this.api);
+      // The popup has the same settings, so windows it opens can reuse the snapshot.
+      popupWebChromeClient.parentSettings = parentSettings;
+      popupWebChromeClient.parentSettingsView = newWebView;
+      newWebView.setWebChromeClient(popupWebChromeClient);
 
 //      view.scrollTo(0, 0);
 
@@ -443,6 +475,7 @@ public class WebChromeClientProxyApi extends PigeonApiWebChromeClient {
                       ViewGroup.LayoutParams.MATCH_PARENT,
                       Gravity.NO_GRAVITY)
       );
+      PopupWindowManager.getInstance().add(view, newWebView);
 
 //      newWebView.requestFocus();
 
@@ -516,6 +549,27 @@ public class WebChromeClientProxyApi extends PigeonApiWebChromeClient {
     pigeon_instance.setReturnValueForOnJsPrompt(value);
   }
 
+  @Override
+  public void setPopupPolicy(long maxDepth, long maxCount, boolean closeOnNavigation) {
+    final PopupWindowManager popupWindowManager = PopupWindowManager.getInstance();
+    popupWindowManager.setLimits((int) maxDepth, (int) maxCount);
+    popupWindowManager.setCloseOnNavigation(closeOnNavigation);
+  }
+
+  @NonNull
+  @Override
+  public Map<String, Long> getPopupStats() {
+    return PopupWindowManager.getInstance().getStats();
+  }
+
+  @Override
+  public void setConsoleMessageFilter(
+      boolean enabled,
+      @NonNull ConsoleMessageLevel minimumLevel,
+      @NonNull List<String> excludedSourcePrefixes) {
+    ConsoleMessageFilter.getInstance().set(enabled, minimumLevel, excludedSourcePrefixes);
+  }
+
   @NonNull
   @Override
   public ProxyApiRegistrar getPigeonRegistrar() {
@@ -21,79 +21,94 @@ public class WebSettingsProxyApi extends PigeonApiWebSettings {
   @Override
   public void setDomStorageEnabled(@NonNull WebSettings pigeon_instance, boolean flag) {
     pigeon_instance.setDomStorageEnabled(flag);
+    WebSettingsSnapshot.invalidateAll();
   }
 
   @Override
   public void setJavaScriptCanOpenWindowsAutomatically(
       @NonNull WebSettings pigeon_instance, boolean flag) {
     pigeon_instance.setJavaScriptCanOpenWindowsAutomatically(flag);
+    WebSettingsSnapshot.invalidateAll();
   }
 
   @Override
   public void setSupportMultipleWindows(@NonNull WebSettings pigeon_instance, boolean support) {
     pigeon_instance.setSupportMultipleWindows(support);
+    WebSettingsSnapshot.invalidateAll();
   }
 
   @Override
   public void setJavaScriptEnabled(@NonNull WebSettings pigeon_instance, boolean flag) {
     pigeon_instance.setJavaScriptEnabled(flag);
+    WebSettingsSnapshot.invalidateAll();
   }
 
   @Override
   public void setUserAgentString(
       @NonNull WebSettings pigeon_instance, @Nullable String userAgentString) {
     pigeon_instance.setUserAgentString(userAgentString);
+    WebSettingsSnapshot.invalidateAll();
   }
 
   @Override
   public void setMediaPlaybackRequiresUserGesture(
       @NonNull WebSettings pigeon_instance, boolean require) {
     pigeon_instance.setMediaPlaybackRequiresUserGesture(require);
+    WebSettingsSnapshot.invalidateAll();
   }
 
   @Override
   public void setSupportZoom(@NonNull WebSettings pigeon_instance, boolean support) {
     pigeon_instance.setSupportZoom(support);
+    WebSettingsSnapshot.invalidateAll();
   }
 
   @Override
   public void setLoadWithOverviewMode(@NonNull WebSettings pigeon_instance, boolean overview) {
     pigeon_instance.setLoadWithOverviewMode(overview);
+    WebSettingsSnapshot.invalidateAll();
   }
 
   @Override
   public void setUseWideViewPort(@NonNull WebSettings pigeon_instance, boolean use) {
     pigeon_instance.setUseWideViewPort(use);
+    WebSettingsSnapshot.invalidateAll();
   }
 
   @Override
   public void setDisplayZoomControls(@NonNull WebSettings pigeon_instance, boolean enabled) {
     pigeon_instance.setDisplayZoomControls(enabled);
+    WebSettingsSnapshot.invalidateAll();
   }
 
   @Override
   public void setBuiltInZoomControls(@NonNull WebSettings pigeon_instance, boolean enabled) {
     pigeon_instance.setBuiltInZoomControls(enabled);
+    WebSettingsSnapshot.invalidateAll();
   }
 
   @Override
   public void setAllowFileAccess(@NonNull WebSettings pigeon_instance, boolean enabled) {
     pigeon_instance.setAllowFileAccess(enabled);
+    WebSettingsSnapshot.invalidateAll();
   }
 
   @Override
   public void setAllowContentAccess(@NonNull WebSettings pigeon_instance, boolean enabled) {
     pigeon_instance.setAllowContentAccess(enabled);
+    WebSettingsSnapshot.invalidateAll();
   }
 
   @Override
   public void setGeolocationEnabled(@NonNull WebSettings pigeon_instance, boolean enabled) {
     pigeon_instance.setGeolocationEnabled(enabled);
+    WebSettingsSnapshot.invalidateAll();
   }
 
   @Override
   public void setTextZoom(@NonNull WebSettings pigeon_instance, long textZoom) {
     pigeon_instance.setTextZoom((int) textZoom);
+    WebSettingsSnapshot.invalidateAll();
   }
 
   @NonNull
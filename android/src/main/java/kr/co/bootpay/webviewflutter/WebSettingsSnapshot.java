@@ -0,0 +1,161 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package kr.co.bootpay.webviewflutter;
+
+import android.os.Build;
+import android.webkit.WebSettings;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An immutable copy of the {@link WebSettings} of a WebView that popup windows inherit.
+ *
+ * <p>Every getter of {@link WebSettings} crosses into Chromium, so the settings of a parent
+ * WebView are read once and the snapshot is reused for each popup it opens. Any change made through
+ * {@link WebSettingsProxyApi} calls {@link #invalidateAll}, which makes {@link #isCurrent} return
+ * false for every snapshot taken before it.
+ */
+public final class WebSettingsSnapshot {
+  private static final AtomicInteger generation = new AtomicInteger();
+
+  private final int capturedGeneration;
+
+  private final boolean mediaPlaybackRequiresUserGesture;
+  private final boolean builtInZoomControls;
+  private final boolean displayZoomControls;
+  private final boolean allowFileAccess;
+  private final boolean allowContentAccess;
+  private final boolean loadWithOverviewMode;
+  private final int textZoom;
+  private final boolean useWideViewPort;
+  private final WebSettings.LayoutAlgorithm layoutAlgorithm;
+  private final String standardFontFamily;
+  private final String fixedFontFamily;
+  private final String sansSerifFontFamily;
+  private final String serifFontFamily;
+  private final String cursiveFontFamily;
+  private final String fantasyFontFamily;
+  private final int minimumFontSize;
+  private final int minimumLogicalFontSize;
+  private final int defaultFontSize;
+  private final int defaultFixedFontSize;
+  private final boolean loadsImagesAutomatically;
+  private final boolean blockNetworkImage;
+  private final boolean javaScriptEnabled;
+  private final boolean databaseEnabled;
+  private final boolean domStorageEnabled;
+  private final boolean javaScriptCanOpenWindowsAutomatically;
+  private final String defaultTextEncodingName;
+  private final String userAgentString;
+  private final int cacheMode;
+  private final int mixedContentMode;
+  private final boolean safeBrowsingEnabled;
+  private final int disabledActionModeMenuItems;
+
+  private WebSettingsSnapshot(@NonNull WebSettings settings) {
+    capturedGeneration = generation.get();
+
+    mediaPlaybackRequiresUserGesture = settings.getMediaPlaybackRequiresUserGesture();
+    builtInZoomControls = settings.getBuiltInZoomControls();
+    displayZoomControls = settings.getDisplayZoomControls();
+    allowFileAccess = settings.getAllowFileAccess();
+    allowContentAccess = settings.getAllowContentAccess();
+    loadWithOverviewMode = settings.getLoadWithOverviewMode();
+    textZoom = settings.getTextZoom();
+    useWideViewPort = settings.getUseWideViewPort();
+    layoutAlgorithm = settings.getLayoutAlgorithm();
+    standardFontFamily = settings.getStandardFontFamily();
+    fixedFontFamily = settings.getFixedFontFamily();
+    sansSerifFontFamily = settings.getSansSerifFontFamily();
+    serifFontFamily = settings.getSerifFontFamily();
+    cursiveFontFamily = settings.getCursiveFontFamily();
+    fantasyFontFamily = settings.getFantasyFontFamily();
+    minimumFontSize = settings.getMinimumFontSize();
+    minimumLogicalFontSize = settings.getMinimumLogicalFontSize();
+    defaultFontSize = settings.getDefaultFontSize();
+    defaultFixedFontSize = settings.getDefaultFixedFontSize();
+    loadsImagesAutomatically = settings.getLoadsImagesAutomatically();
+    blockNetworkImage = settings.getBlockNetworkImage();
+    javaScriptEnabled = settings.getJavaScriptEnabled();
+    databaseEnabled = settings.getDatabaseEnabled();
+    domStorageEnabled = settings.getDomStorageEnabled();
+    javaScriptCanOpenWindowsAutomatically = settings.getJavaScriptCanOpenWindowsAutomatically();
+    defaultTextEncodingName = settings.getDefaultTextEncodingName();
+    userAgentString = settings.getUserAgentString();
+    cacheMode = settings.getCacheMode();
+    mixedContentMode = settings.getMixedContentMode();
+    safeBrowsingEnabled =
+        Build.VERSION.SDK_INT >= Build.VERSION_CODES.O && settings.getSafeBrowsingEnabled();
+    disabledActionModeMenuItems =
+        Build.VERSION.SDK_INT >= Build.VERSION_CODES.N
+            ? settings.getDisabledActionModeMenuItems()
+            : 0;
+  }
+
+  /** Reads the settings that popups inherit from {@code settings}. */
+  @NonNull
+  public static WebSettingsSnapshot capture(@NonNull WebSettings settings) {
+    return new WebSettingsSnapshot(settings);
+  }
+
+  /** Marks every existing snapshot as outdated. */
+  public static void invalidateAll() {
+    generation.incrementAndGet();
+  }
+
+  /** Whether no settings were changed through the plugin since this snapshot was taken. */
+  public boolean isCurrent() {
+    return capturedGeneration == generation.get();
+  }
+
+  /** Returns {@code snapshot} if it is current, otherwise a new snapshot of {@code settings}. */
+  @NonNull
+  public static WebSettingsSnapshot reuseOrCapture(
+      @Nullable WebSettingsSnapshot snapshot, @NonNull WebSettings settings) {
+    return snapshot != null && snapshot.isCurrent() ? snapshot : capture(settings);
+  }
+
+  /** Copies the captured values to {@code settings}. */
+  public void applyTo(@NonNull WebSettings settings) {
+    settings.setMediaPlaybackRequiresUserGesture(mediaPlaybackRequiresUserGesture);
+    settings.setBuiltInZoomControls(builtInZoomControls);
+    settings.setDisplayZoomControls(displayZoomControls);
+    settings.setAllowFileAccess(allowFileAccess);
+    settings.setAllowContentAccess(allowContentAccess);
+    settings.setLoadWithOverviewMode(loadWithOverviewMode);
+    settings.setTextZoom(textZoom);
+    settings.setUseWideViewPort(useWideViewPort);
+    settings.setLayoutAlgorithm(layoutAlgorithm);
+    settings.setStandardFontFamily(standardFontFamily);
+    settings.setFixedFontFamily(fixedFontFamily);
+    settings.setSansSerifFontFamily(sansSerifFontFamily);
+    settings.setSerifFontFamily(serifFontFamily);
+    settings.setCursiveFontFamily(cursiveFontFamily);
+    settings.setFantasyFontFamily(fantasyFontFamily);
+    settings.setMinimumFontSize(minimumFontSize);
+    settings.setMinimumLogicalFontSize(minimumLogicalFontSize);
+    settings.setDefaultFontSize(defaultFontSize);
+    settings.setDefaultFixedFontSize(defaultFixedFontSize);
+    settings.setLoadsImagesAutomatically(loadsImagesAutomatically);
+    settings.setBlockNetworkImage(blockNetworkImage);
+    settings.setJavaScriptEnabled(javaScriptEnabled);
+    settings.setDatabaseEnabled(databaseEnabled);
+    settings.setDomStorageEnabled(domStorageEnabled);
+    settings.setJavaScriptCanOpenWindowsAutomatically(javaScriptCanOpenWindowsAutomatically);
+    settings.setDefaultTextEncodingName(defaultTextEncodingName);
+    settings.setUserAgentString(userAgentString);
+    settings.setCacheMode(cacheMode);
+    settings.setMixedContentMode(mixedContentMode);
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+      settings.setSafeBrowsingEnabled(safeBrowsingEnabled);
+    }
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
+      settings.setDisabledActionModeMenuItems(disabledActionModeMenuItems);
+    }
+    // Popups must be able to open their own windows.
+    settings.setSupportMultipleWindows(true);
+  }
+}
@@ -6,6 +6,9 @@ package kr.co.bootpay.webviewflutter;
 
 import android.webkit.WebStorage;
 import androidx.annotation.NonNull;
+import kotlin.Result;
+import kotlin.Unit;
+import kotlin.jvm.functions.Function1;
 
 /**
  * Host api implementation for {@link WebStorage}.
@@ -18,6 +21,12 @@ public class WebStorageProxyApi extends PigeonApiWebStorage {
     super(pigeonRegistrar);
   }
 
+  @NonNull
+  @Override
+  public ProxyApiRegistrar getPigeonRegistrar() {
+    return (ProxyApiRegistrar) super.getPigeonRegistrar();
+  }
+
   @NonNull
   @Override
   public WebStorage instance() {
@@ -25,7 +34,16 @@ public class WebStorageProxyApi extends PigeonApiWebStorage {
   }
 
   @Override
-  public void deleteAllData(@NonNull WebStorage pigeon_instance) {
-    pigeon_instance.deleteAllData();
+  public void deleteAllData(
+      @NonNull WebStorage pigeon_instance,
+      @NonNull Function1<? super Result<Unit>, Unit> callback) {
+    // The message handlers of this API run on a background task queue. The reply waits for the
+    // data to be deleted.
+    getPigeonRegistrar()
+        .runOnMainThread(
+            () -> {
+              pigeon_instance.deleteAllData();
+              ResultCompat.success(null, callback);
+            });
   }
 }
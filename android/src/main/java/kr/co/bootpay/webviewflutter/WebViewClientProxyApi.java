@@ -14,6 +14,7 @@ import android.webkit.WebResourceResponse;
 import android.webkit.WebView;
 import android.webkit.WebViewClient;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.RequiresApi;
 import androidx.webkit.WebResourceErrorCompat;
 import androidx.webkit.WebViewClientCompat;
@@ -41,6 +42,10 @@ import android.webkit.ValueCallback;
 import android.webkit.WebChromeClient;
 import android.webkit.WebResourceRequest;
 import android.widget.FrameLayout;
+import java.util.List;
+import kotlin.Result;
+import kotlin.Unit;
+import kotlin.jvm.functions.Function1;
 
 /**
  * Host api implementation for {@link WebViewClient}.
@@ -66,12 +71,15 @@ public class WebViewClientProxyApi extends PigeonApiWebViewClient {
 
     @Override
     public void onPageStarted(@NonNull WebView view, @NonNull String url, @NonNull Bitmap favicon) {
+      PopupWindowManager.getInstance().onNavigation(view);
+      BootpayLog.log("onPageStarted", url);
       api.getPigeonRegistrar()
           .runOnMainThread(() -> api.onPageStarted(this, view, url, reply -> null));
     }
 
     @Override
     public void onPageFinished(@NonNull WebView view, @NonNull String url) {
+      BootpayLog.log("onPageFinished", url);
       api.getPigeonRegistrar()
           .runOnMainThread(() -> api.onPageFinished(this, view, url, reply -> null));
     }
@@ -81,6 +89,11 @@ public class WebViewClientProxyApi extends PigeonApiWebViewClient {
         @NonNull WebView view,
         @NonNull WebResourceRequest request,
         @NonNull WebResourceResponse response) {
+      if (BootpayLog.isEnabled()) {
+        BootpayLog.log(
+            "onReceivedHttpError",
+            response.getStatusCode() + " " + request.getUrl().toString());
+      }
       api.getPigeonRegistrar()
           .runOnMainThread(
               () -> api.onReceivedHttpError(this, view, request, response, reply -> null));
@@ -91,6 +104,10 @@ public class WebViewClientProxyApi extends PigeonApiWebViewClient {
         @NonNull WebView view,
         @NonNull WebResourceRequest request,
         @NonNull WebResourceError error) {
+      if (BootpayLog.isEnabled()) {
+        BootpayLog.log(
+            "onReceivedError", error.getErrorCode() + " " + request.getUrl().toString());
+      }
       api.getPigeonRegistrar()
           .runOnMainThread(
               () -> api.onReceivedRequestError(this, view, request, error, reply -> null));
@@ -99,6 +116,9 @@ public class WebViewClientProxyApi extends PigeonApiWebViewClient {
     @SuppressLint("WebViewClientOnReceivedSslError")
     @Override
     public void onReceivedSslError(WebView view, final SslErrorHandler handler, SslError error) {
+      if (BootpayLog.isEnabled()) {
+        BootpayLog.log("onReceivedSslError", error.getPrimaryError() + " " + error.getUrl());
+      }
       api.onReceivedError(WebViewClientImpl.this, view, (long) error.getPrimaryError(), "sslerror:" + error.toString(), view.getUrl(), reply -> { return null; });
 
       // for SSLErrorHandler
@@ -138,6 +158,7 @@ public class WebViewClientProxyApi extends PigeonApiWebViewClient {
         int errorCode,
         @NonNull String description,
         @NonNull String failingUrl) {
+      BootpayLog.log("onReceivedError", failingUrl);
       api.getPigeonRegistrar()
           .runOnMainThread(
               () ->
@@ -149,6 +170,7 @@ public class WebViewClientProxyApi extends PigeonApiWebViewClient {
     public boolean shouldOverrideUrlLoading(
         @NonNull WebView view, @NonNull WebResourceRequest request) {
       String url = request.getUrl().toString();
+      BootpayLog.log("shouldOverrideUrlLoading", url);
       if(bootpayUrlHelper.doDeepLinkIfPayUrl(view, url)) {
         //do deep link by doDeepLinkIfPayUrl function
       } else {
@@ -168,7 +190,7 @@ public class WebViewClientProxyApi extends PigeonApiWebViewClient {
     @SuppressWarnings("deprecation")
     @Override
     public boolean shouldOverrideUrlLoading(@NonNull WebView view, @NonNull String url) {
-
+      BootpayLog.log("shouldOverrideUrlLoading", url);
       if(bootpayUrlHelper.doDeepLinkIfPayUrl(view, url)) {
         //do deep link by doDeepLinkIfPayUrl function
       } else {
@@ -204,6 +226,13 @@ public class WebViewClientProxyApi extends PigeonApiWebViewClient {
       // truly lost.
     }
 
+    @Nullable
+    @Override
+    public WebResourceResponse shouldInterceptRequest(
+        @NonNull WebView view, @NonNull WebResourceRequest request) {
+      return api.getPigeonRegistrar().getRequestInterceptor().intercept(request);
+    }
+
     /** Sets return value for {@link #shouldOverrideUrlLoading}. */
     public void setReturnValueForShouldOverrideUrlLoading(boolean value) {
       returnValueForShouldOverrideUrlLoading = value;
@@ -224,6 +253,7 @@ public class WebViewClientProxyApi extends PigeonApiWebViewClient {
 
     @Override
     public void onPageStarted(@NonNull WebView view, @NonNull String url, @NonNull Bitmap favicon) {
+      PopupWindowManager.getInstance().onNavigation(view);
       api.getPigeonRegistrar()
           .runOnMainThread(() -> api.onPageStarted(this, view, url, reply -> null));
     }
@@ -315,6 +345,13 @@ public class WebViewClientProxyApi extends PigeonApiWebViewClient {
       // truly lost.
     }
 
+    @Nullable
+    @Override
+    public WebResourceResponse shouldInterceptRequest(
+        @NonNull WebView view, @NonNull WebResourceRequest request) {
+      return api.getPigeonRegistrar().getRequestInterceptor().intercept(request);
+    }
+
     /** Sets return value for {@link #shouldOverrideUrlLoading}. */
     public void setReturnValueForShouldOverrideUrlLoading(boolean value) {
       returnValueForShouldOverrideUrlLoading = value;
@@ -358,6 +395,57 @@ public class WebViewClientProxyApi extends PigeonApiWebViewClient {
     }
   }
 
+  @Override
+  public void registerPaymentScheme(
+      @NonNull String prefix, @Nullable String packageName, boolean isSpecialCase) {
+    PaymentSchemeTable.getInstance().register(prefix, packageName, isSpecialCase);
+  }
+
+  @Override
+  public void setLogLevel(@NonNull PluginLogLevel level) {
+    BootpayLog.setLevel(level);
+  }
+
+  @NonNull
+  @Override
+  public List<String> getRecentLogs() {
+    return BootpayLog.getRecentLogs();
+  }
+
+  @Override
+  public void setInlineWebResourceRequests(boolean enabled) {
+    getPigeonRegistrar().setInlineWebResourceRequests(enabled);
+  }
+
+  @Override
+  public void setInterceptRules(@NonNull List<InterceptRule> rules) {
+    getPigeonRegistrar().getRequestInterceptor().setRules(rules);
+  }
+
+  @Override
+  public void registerSdkBundle(@NonNull SdkBundle bundle) {
+    getPigeonRegistrar().getSdkBundleStore().register(bundle);
+  }
+
+  @Override
+  public void updateSdkBundle(
+      @NonNull String name, @NonNull Function1<? super Result<Boolean>, Unit> callback) {
+    getPigeonRegistrar()
+        .getSdkBundleStore()
+        .update(
+            name,
+            (updated, error) ->
+                getPigeonRegistrar()
+                    .runOnMainThread(
+                        () -> {
+                          if (error != null) {
+                            ResultCompat.failure(error, callback);
+                          } else {
+                            ResultCompat.success(updated, callback);
+                          }
+                        }));
+  }
+
   @NonNull
   @Override
   public ProxyApiRegistrar getPigeonRegistrar() {
@@ -46,11 +46,21 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware {
             new FlutterViewFactory(proxyApiRegistrar.getInstanceManager()));
 
     proxyApiRegistrar.setUp();
+
+    final InstalledAppCache installedAppCache = InstalledAppCache.getInstance();
+    installedAppCache.startListening(binding.getApplicationContext());
+    installedAppCache.warmUp(
+        binding.getApplicationContext(), PaymentSchemeTable.getInstance().getPackageNames());
   }
 
   @Override
   public void onDetachedFromEngine(@NonNull FlutterPluginBinding binding) {
+    InstalledAppCache.getInstance().stopListening(binding.getApplicationContext());
+    PopupWebViewPool.getInstance().clear();
     if (proxyApiRegistrar != null) {
+      proxyApiRegistrar.getWebViewPool().setSize(0);
+      proxyApiRegistrar.getSdkBundleStore().close();
+      proxyApiRegistrar.getWebViewStateStore().close();
       proxyApiRegistrar.tearDown();
       proxyApiRegistrar.getInstanceManager().stopFinalizationListener();
       proxyApiRegistrar = null;
@@ -66,6 +76,9 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware {
 
   @Override
   public void onDetachedFromActivityForConfigChanges() {
+    // Pooled WebViews were created with the Activity, so they must not outlive it.
+    PopupWebViewPool.getInstance().clear();
+    proxyApiRegistrar.getWebViewPool().clear();
     proxyApiRegistrar.setContext(pluginBinding.getApplicationContext());
   }
 
@@ -77,6 +90,9 @@ public class WebViewFlutterPlugin implements FlutterPlugin, ActivityAware {
 
   @Override
   public void onDetachedFromActivity() {
+    // Pooled WebViews were created with the Activity, so they must not outlive it.
+    PopupWebViewPool.getInstance().clear();
+    proxyApiRegistrar.getWebViewPool().clear();
     proxyApiRegistrar.setContext(pluginBinding.getApplicationContext());
   }
 
@@ -0,0 +1,219 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package kr.co.bootpay.webviewflutter;
+
+import android.app.ActivityManager;
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.res.Configuration;
+import android.os.Looper;
+import android.os.MessageQueue;
+import androidx.annotation.NonNull;
+import java.util.ArrayDeque;
+
+/**
+ * Keeps initialized {@link WebViewProxyApi.WebViewPlatformView}s ready to be handed out.
+ *
+ * <p>Creating the first WebView of a process loads the Chromium provider, which can take hundreds
+ * of milliseconds. When a pool size is set, WebViews are created one at a time while the main
+ * thread is idle, and {@link #acquire} returns one of them instead of creating a new WebView.
+ *
+ * <p>WebViews are never returned to the pool. A WebView keeps its identifier in the instance
+ * manager and the history of the pages it loaded, so reusing one could let a stale Dart object or
+ * the back button reach the previous session.
+ *
+ * <p>The pool is disabled on low RAM devices, is capped by the memory class of the app and is
+ * emptied when the system asks the app to trim memory. This class must only be used on the main
+ * thread.
+ */
+public class WebViewPool {
+  /** Creates a new WebView for the pool. */
+  public interface Factory {
+    @NonNull
+    WebViewProxyApi.WebViewPlatformView create();
+  }
+
+  // Upper bound of the pool size regardless of the memory available.
+  private static final int MAX_SIZE = 4;
+
+  // Heap budget, in megabytes, that allows one more pooled WebView.
+  private static final int MEMORY_CLASS_PER_WEB_VIEW = 64;
+
+  private final Context context;
+  private final Factory factory;
+  private final ArrayDeque<WebViewProxyApi.WebViewPlatformView> idleWebViews = new ArrayDeque<>();
+
+  private final MessageQueue.IdleHandler fillOnIdle = this::fillOne;
+  private final ComponentCallbacks2 trimMemoryCallbacks =
+      new ComponentCallbacks2() {
+        @Override
+        public void onTrimMemory(int level) {
+          if (level == TRIM_MEMORY_RUNNING_LOW
+              || level == TRIM_MEMORY_RUNNING_CRITICAL
+              || level >= TRIM_MEMORY_BACKGROUND) {
+            clear();
+          }
+        }
+
+        @Override
+        public void onConfigurationChanged(@NonNull Configuration newConfig) {}
+
+        @Override
+        public void onLowMemory() {
+          clear();
+        }
+      };
+
+  private int size = 0;
+  private boolean isFillScheduled = false;
+  private boolean isListeningForTrimMemory = false;
+
+  private long hitCount = 0;
+  private long missCount = 0;
+  private long creationCount = 0;
+  private long totalCreationNanos = 0;
+  private long savedNanos = 0;
+
+  /**
+   * Creates an empty pool.
+   *
+   * @param context the context used to read the memory class and to listen for memory trim
+   *     callbacks. This should be the application context.
+   */
+  public WebViewPool(@NonNull Context context, @NonNull Factory factory) {
+    this.context = context;
+    this.factory = factory;
+  }
+
+  /**
+   * Sets how many WebViews are kept ready.
+   *
+   * <p>The requested size is reduced to what the device memory allows. A size of 0 disables the
+   * pool and destroys the WebViews it holds.
+   *
+   * @return the size that will be used
+   */
+  public int setSize(int requestedSize) {
+    size = Math.min(Math.max(0, requestedSize), getMemoryCap());
+    trimTo(size);
+    if (size > 0) {
+      startListeningForTrimMemory();
+      scheduleFill();
+    } else {
+      stopListeningForTrimMemory();
+    }
+    return size;
+  }
+
+  /**
+   * Returns a pooled WebView created with {@code currentContext}, or creates a new one when the
+   * pool is empty.
+   */
+  @NonNull
+  public WebViewProxyApi.WebViewPlatformView acquire(@NonNull Context currentContext) {
+    WebViewProxyApi.WebViewPlatformView webView;
+    while ((webView = idleWebViews.poll()) != null) {
+      // A WebView keeps the context it was created with, so one created before an Activity was
+      // attached must not be handed out once it is.
+      if (webView.getContext() == currentContext) {
+        hitCount++;
+        savedNanos += getAverageCreationNanos();
+        scheduleFill();
+        return webView;
+      }
+      webView.destroy();
+    }
+
+    missCount++;
+    webView = create();
+    scheduleFill();
+    return webView;
+  }
+
+  /** Destroys every pooled WebView. */
+  public void clear() {
+    trimTo(0);
+  }
+
+  /** The number of WebViews handed out from the pool. */
+  public long getHitCount() {
+    return hitCount;
+  }
+
+  /** The number of WebViews that had to be created because the pool was empty. */
+  public long getMissCount() {
+    return missCount;
+  }
+
+  /** The number of WebViews ready to be handed out. */
+  public int getIdleCount() {
+    return idleWebViews.size();
+  }
+
+  /** The estimated time, in milliseconds, that pool hits saved over creating a new WebView. */
+  public long getTimeSavedMillis() {
+    return savedNanos / 1_000_000;
+  }
+
+  private boolean fillOne() {
+    if (idleWebViews.size() >= size) {
+      isFillScheduled = false;
+      return false;
+    }
+    idleWebViews.add(create());
+    isFillScheduled = idleWebViews.size() < size;
+    return isFillScheduled;
+  }
+
+  private void scheduleFill() {
+    if (isFillScheduled || idleWebViews.size() >= size) {
+      return;
+    }
+    isFillScheduled = true;
+    Looper.myQueue().addIdleHandler(fillOnIdle);
+  }
+
+  private WebViewProxyApi.WebViewPlatformView create() {
+    final long start = System.nanoTime();
+    final WebViewProxyApi.WebViewPlatformView webView = factory.create();
+    totalCreationNanos += System.nanoTime() - start;
+    creationCount++;
+    return webView;
+  }
+
+  private long getAverageCreationNanos() {
+    return creationCount == 0 ? 0 : totalCreationNanos / creationCount;
+  }
+
+  private void trimTo(int maxIdleCount) {
+    while (idleWebViews.size() > maxIdleCount) {
+      idleWebViews.removeLast().destroy();
+    }
+  }
+
+  private int getMemoryCap() {
+    final ActivityManager activityManager =
+        (ActivityManager) context.getSystemService(Context.ACTIVITY_SERVICE);
+    if (activityManager == null || activityManager.isLowRamDevice()) {
+      return 0;
+    }
+    return Math.min(
+        MAX_SIZE, Math.max(1, activityManager.getMemoryClass() / MEMORY_CLASS_PER_WEB_VIEW));
+  }
+
+  private void startListeningForTrimMemory() {
+    if (!isListeningForTrimMemory) {
+      context.registerComponentCallbacks(trimMemoryCallbacks);
+      isListeningForTrimMemory = true;
+    }
+  }
+
+  private void stopListeningForTrimMemory() {
+    if (isListeningForTrimMemory) {
+      context.unregisterComponentCallbacks(trimMemoryCallbacks);
+      isListeningForTrimMemory = false;
+    }
+  }
+}
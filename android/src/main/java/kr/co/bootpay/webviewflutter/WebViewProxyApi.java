@@ -8,6 +8,7 @@ import android.annotation.SuppressLint;
 import android.content.Context;
 import android.hardware.display.DisplayManager;
 import android.os.Build;
+import android.os.Bundle;
 import android.view.View;
 import android.view.ViewParent;
 import android.webkit.DownloadListener;
@@ -19,6 +20,8 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import io.flutter.embedding.android.FlutterView;
 import io.flutter.plugin.platform.PlatformView;
+import java.io.File;
+import java.util.HashMap;
 import java.util.Map;
 import kotlin.Result;
 import kotlin.Unit;
@@ -39,6 +42,15 @@ public class WebViewProxyApi extends PigeonApiWebView {
 
     private WebChromeClientProxyApi.SecureWebChromeClient currentWebChromeClient;
 
+    // Scroll change waiting to be sent to Dart when callback coalescing is enabled. Only accessed on
+    // the main thread.
+    private final Runnable flushPendingScrollChange = this::flushPendingScrollChange;
+    private boolean hasPendingScrollChange = false;
+    private int pendingLeft;
+    private int pendingTop;
+    private int pendingOldLeft;
+    private int pendingOldTop;
+
     WebViewPlatformView(@NonNull WebViewProxyApi api) {
       super(api.getPigeonRegistrar().getContext());
       this.api = api;
@@ -55,8 +67,11 @@ public class WebViewProxyApi extends PigeonApiWebView {
       return this;
     }
 
+    // Popups aren't reachable from Dart, so they are closed with the view that shows them.
     @Override
-    public void dispose() {}
+    public void dispose() {
+      PopupWindowManager.getInstance().closeChildren(this);
+    }
 
     // TODO(bparrishMines): This should be removed once https://github.com/flutter/engine/pull/40771 makes it to stable.
     // Temporary fix for https://github.com/flutter/flutter/issues/92165. The FlutterView is setting
@@ -116,11 +131,45 @@ public class WebViewProxyApi extends PigeonApiWebView {
     @Override
     protected void onScrollChanged(int left, int top, int oldLeft, int oldTop) {
       super.onScrollChanged(left, top, oldLeft, oldTop);
-      api.getPigeonRegistrar()
-          .runOnMainThread(
-              () ->
-                  api.onScrollChanged(
-                      this, (long) left, (long) top, (long) oldLeft, (long) oldTop, reply -> null));
+      final long coalescingWindow = api.getPigeonRegistrar().getCallbackCoalescingWindowMillis();
+      if (coalescingWindow <= 0) {
+        api.getPigeonRegistrar()
+            .runOnMainThread(
+                () ->
+                    api.onScrollChanged(
+                        this,
+                        (long) left,
+                        (long) top,
+                        (long) oldLeft,
+                        (long) oldTop,
+                        reply -> null));
+        return;
+      }
+
+      // Merge every scroll change within the window into a single event that starts at the first
+      // old position and ends at the latest position.
+      if (!hasPendingScrollChange) {
+        hasPendingScrollChange = true;
+        pendingOldLeft = oldLeft;
+        pendingOldTop = oldTop;
+        postDelayed(flushPendingScrollChange, coalescingWindow);
+      }
+      pendingLeft = left;
+      pendingTop = top;
+    }
+
+    private void flushPendingScrollChange() {
+      if (!hasPendingScrollChange) {
+        return;
+      }
+      hasPendingScrollChange = false;
+      api.onScrollChanged(
+          this,
+          (long) pendingLeft,
+          (long) pendingTop,
+          (long) pendingOldLeft,
+          (long) pendingOldTop,
+          reply -> null);
     }
   }
 
@@ -131,13 +180,19 @@ public class WebViewProxyApi extends PigeonApiWebView {
   @NonNull
   @Override
   public WebView pigeon_defaultConstructor() {
+    return getPigeonRegistrar().getWebViewPool().acquire(getPigeonRegistrar().getContext());
+  }
+
+  /** Creates a WebView without taking one from the {@link WebViewPool}. */
+  @NonNull
+  WebViewPlatformView createWebView() {
     DisplayListenerProxy displayListenerProxy = new DisplayListenerProxy();
     DisplayManager displayManager =
         (DisplayManager)
             getPigeonRegistrar().getContext().getSystemService(Context.DISPLAY_SERVICE);
     displayListenerProxy.onPreWebViewInitialization(displayManager);
 
-    final WebView webView = new WebViewPlatformView(this);
+    final WebViewPlatformView webView = new WebViewPlatformView(this);
     displayListenerProxy.onPostWebViewInitialization(displayManager);
 
     return webView;
@@ -279,6 +334,128 @@ public class WebViewProxyApi extends PigeonApiWebView {
 
   @Override
   public void destroy(@NonNull WebView pigeon_instance) {
+    PopupWindowManager.getInstance().closeChildren(pigeon_instance);
     pigeon_instance.destroy();
   }
+
+  @Override
+  public void setCallbackCoalescingWindow(long milliseconds) {
+    getPigeonRegistrar().setCallbackCoalescingWindowMillis(milliseconds);
+  }
+
+  @Override
+  public long setPoolSize(long size) {
+    return getPigeonRegistrar().getWebViewPool().setSize((int) size);
+  }
+
+  @NonNull
+  @Override
+  public Map<String, Long> getPoolStats() {
+    final WebViewPool webViewPool = getPigeonRegistrar().getWebViewPool();
+    final Map<String, Long> stats = new HashMap<>();
+    stats.put("hits", webViewPool.getHitCount());
+    stats.put("misses", webViewPool.getMissCount());
+    stats.put("idle", (long) webViewPool.getIdleCount());
+    stats.put("timeSavedMillis", webViewPool.getTimeSavedMillis());
+    return stats;
+  }
+
+  @Override
+  public void setBackgroundFinalizationSweep(boolean enabled) {
+    getPigeonRegistrar()
+        .getInstanceManager()
+        .getFinalizationSweeper()
+        .setUseBackgroundThread(enabled);
+  }
+
+  @NonNull
+  @Override
+  public Map<String, Long> getFinalizationSweepStats() {
+    return getPigeonRegistrar().getInstanceManager().getFinalizationSweeper().getStats();
+  }
+
+  @Override
+  public void saveState(
+      @NonNull WebView pigeon_instance,
+      @NonNull Function1<? super Result<byte[]>, Unit> callback) {
+    final Bundle state = new Bundle();
+    if (pigeon_instance.saveState(state) == null) {
+      ResultCompat.success(null, callback);
+      return;
+    }
+    getPigeonRegistrar()
+        .getWebViewStateStore()
+        .encode(state, (bytes, error) -> replyOnMainThread(bytes, error, callback));
+  }
+
+  @Override
+  public void saveStateToFile(
+      @NonNull WebView pigeon_instance,
+      @NonNull String path,
+      @NonNull Function1<? super Result<Boolean>, Unit> callback) {
+    final Bundle state = new Bundle();
+    if (pigeon_instance.saveState(state) == null) {
+      ResultCompat.success(false, callback);
+      return;
+    }
+    getPigeonRegistrar()
+        .getWebViewStateStore()
+        .write(state, new File(path), (saved, error) -> replyOnMainThread(saved, error, callback));
+  }
+
+  @Override
+  public void restoreState(
+      @NonNull WebView pigeon_instance,
+      @NonNull byte[] state,
+      @NonNull Function1<? super Result<Boolean>, Unit> callback) {
+    getPigeonRegistrar()
+        .getWebViewStateStore()
+        .decode(
+            state,
+            (bundle, error) -> restoreOnMainThread(pigeon_instance, bundle, error, callback));
+  }
+
+  @Override
+  public void restoreStateFromFile(
+      @NonNull WebView pigeon_instance,
+      @NonNull String path,
+      @NonNull Function1<? super Result<Boolean>, Unit> callback) {
+    getPigeonRegistrar()
+        .getWebViewStateStore()
+        .read(
+            new File(path),
+            (bundle, error) -> restoreOnMainThread(pigeon_instance, bundle, error, callback));
+  }
+
+  private <T> void replyOnMainThread(
+      @Nullable T result,
+      @Nullable Throwable error,
+      @NonNull Function1<? super Result<T>, Unit> callback) {
+    getPigeonRegistrar()
+        .runOnMainThread(
+            () -> {
+              if (error != null) {
+                ResultCompat.failure(error, callback);
+              } else {
+                ResultCompat.success(result, callback);
+              }
+            });
+  }
+
+  private void restoreOnMainThread(
+      @NonNull WebView webView,
+      @Nullable Bundle state,
+      @Nullable Throwable error,
+      @NonNull Function1<? super Result<Boolean>, Unit> callback) {
+    getPigeonRegistrar()
+        .runOnMainThread(
+            () -> {
+              if (error != null) {
+                ResultCompat.failure(error, callback);
+              } else {
+                final boolean restored = state != null && webView.restoreState(state) != null;
+                ResultCompat.success(restored, callback);
+              }
+            });
+  }
 }
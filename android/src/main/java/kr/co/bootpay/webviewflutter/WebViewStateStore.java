@@ -0,0 +1,260 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package kr.co.bootpay.webviewflutter;
+
+import android.os.Build;
+import android.os.Bundle;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Converts the back/forward state of a WebView, as saved by {@code WebView.saveState}, to bytes and
+ * files and back.
+ *
+ * <p>Only saving and restoring the {@link Bundle} has to happen on the main thread. Compressing the
+ * state and file I/O run on a background thread.
+ *
+ * <p>{@code WebView.saveState} only puts byte arrays into the {@link Bundle}, which are opaque to
+ * the app and validated by the WebView when restored. The bytes are those arrays and their keys,
+ * compressed behind a header with the SDK version that wrote them. The bytes may come from Dart or
+ * any file, so they are never read as a {@code Parcel}; the restored {@link Bundle} only ever holds
+ * byte arrays. State from another platform version is ignored rather than restored.
+ */
+public class WebViewStateStore {
+  /** Receives the result of a background operation, or the error it failed with. */
+  public interface Callback<T> {
+    void onComplete(@Nullable T result, @Nullable Throwable error);
+  }
+
+  // "BWS" followed by the version of the format.
+  private static final int MAGIC = 0x42575302;
+  // WebView state is a few kilobytes per page of history.
+  private static final int MAX_STATE_BYTES = 16 * 1024 * 1024;
+
+  @Nullable private ExecutorService executor;
+
+  /** Passes the bytes of {@code state} to {@code callback}, on a background thread. */
+  public void encode(@NonNull Bundle state, @NonNull Callback<byte[]> callback) {
+    execute(() -> pack(toEntries(state), Build.VERSION.SDK_INT), callback);
+  }
+
+  /** Writes the bytes of {@code state} to {@code file}, on a background thread. */
+  public void write(
+      @NonNull Bundle state, @NonNull File file, @NonNull Callback<Boolean> callback) {
+    execute(
+        () -> {
+          writeAtomically(file, pack(toEntries(state), Build.VERSION.SDK_INT));
+          return true;
+        },
+        callback);
+  }
+
+  /**
+   * Passes the state in {@code bytes} to {@code callback}, or null if it was written by another
+   * platform version, on a background thread.
+   */
+  public void decode(@NonNull byte[] bytes, @NonNull Callback<Bundle> callback) {
+    execute(() -> toBundleIfCompatible(bytes), callback);
+  }
+
+  /**
+   * Passes the state in {@code file} to {@code callback}, or null if there is no such file or it
+   * was written by another platform version, on a background thread.
+   */
+  public void read(@NonNull File file, @NonNull Callback<Bundle> callback) {
+    execute(
+        () -> {
+          if (!file.isFile()) {
+            return null;
+          }
+          return toBundleIfCompatible(readFully(file));
+        },
+        callback);
+  }
+
+  /**
+   * Stops the background thread once the operations that were already started have completed, so
+   * state that is being written isn't lost.
+   */
+  public synchronized void close() {
+    if (executor != null) {
+      executor.shutdown();
+      executor = null;
+    }
+  }
+
+  /**
+   * Returns {@code entries} compressed behind the header, which records {@code sdkVersion}.
+   *
+   * <p>WebView state is mostly URLs and titles, which compress well.
+   */
+  @NonNull
+  @VisibleForTesting
+  static byte[] pack(@NonNull Map<String, byte[]> entries, int sdkVersion) throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    final DataOutputStream header = new DataOutputStream(bytes);
+    header.writeInt(MAGIC);
+    header.writeInt(sdkVersion);
+    try (DataOutputStream output = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+      output.writeInt(entries.size());
+      for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+        output.writeUTF(entry.getKey());
+        output.writeInt(entry.getValue().length);
+        output.write(entry.getValue());
+      }
+    }
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Returns the entries in {@code state}, or null if it was written by another SDK version.
+   *
+   * @throws IOException if {@code state} wasn't written by {@link #pack}
+   */
+  @Nullable
+  @VisibleForTesting
+  static Map<String, byte[]> unpack(@NonNull byte[] state, int sdkVersion) throws IOException {
+    final ByteArrayInputStream bytes = new ByteArrayInputStream(state);
+    final DataInputStream header = new DataInputStream(bytes);
+    if (state.length < 8 || header.readInt() != MAGIC) {
+      throw new IOException("Not a saved WebView state.");
+    }
+    if (header.readInt() != sdkVersion) {
+      return null;
+    }
+    final Map<String, byte[]> entries = new LinkedHashMap<>();
+    try (DataInputStream input = new DataInputStream(new InflaterInputStream(bytes))) {
+      // Lengths are checked before anything is allocated for them.
+      int remaining = MAX_STATE_BYTES;
+      final int count = input.readInt();
+      for (int i = 0; i < count; i++) {
+        final String key = input.readUTF();
+        final int length = input.readInt();
+        if (length < 0 || length > remaining) {
+          throw new IOException("Not a saved WebView state.");
+        }
+        remaining -= length;
+        final byte[] value = new byte[length];
+        input.readFully(value);
+        entries.put(key, value);
+      }
+    }
+    return entries;
+  }
+
+  // Values that aren't byte arrays are left out. WebView.saveState doesn't write any.
+  @SuppressWarnings("deprecation")
+  @NonNull
+  private static Map<String, byte[]> toEntries(@NonNull Bundle state) {
+    final Map<String, byte[]> entries = new LinkedHashMap<>();
+    for (String key : state.keySet()) {
+      final Object value = state.get(key);
+      if (value instanceof byte[]) {
+        entries.put(key, (byte[]) value);
+      }
+    }
+    return entries;
+  }
+
+  @Nullable
+  private static Bundle toBundleIfCompatible(@NonNull byte[] state) throws IOException {
+    final Map<String, byte[]> entries = unpack(state, Build.VERSION.SDK_INT);
+    if (entries == null) {
+      return null;
+    }
+    final Bundle bundle = new Bundle();
+    for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+      bundle.putByteArray(entry.getKey(), entry.getValue());
+    }
+    return bundle;
+  }
+
+  // The state is usually saved while the app is being stopped, so a partly written file must never
+  // replace the previous one.
+  private static void writeAtomically(@NonNull File file, @NonNull byte[] bytes)
+      throws IOException {
+    final File directory = file.getAbsoluteFile().getParentFile();
+    if (directory != null && !directory.isDirectory() && !directory.mkdirs()) {
+      throw new IOException("Could not create " + directory);
+    }
+    final File temporaryFile = new File(file.getPath() + ".tmp");
+    try (FileOutputStream output = new FileOutputStream(temporaryFile)) {
+      output.write(bytes);
+      output.getFD().sync();
+    }
+    if (!temporaryFile.renameTo(file)) {
+      temporaryFile.delete();
+      throw new IOException("Could not write " + file);
+    }
+  }
+
+  @NonNull
+  private static byte[] readFully(@NonNull File file) throws IOException {
+    final byte[] bytes = new byte[(int) file.length()];
+    try (InputStream input = new FileInputStream(file)) {
+      new DataInputStream(input).readFully(bytes);
+    }
+    return bytes;
+  }
+
+  private interface Task<T> {
+    T run() throws IOException;
+  }
+
+  private synchronized <T> void execute(@NonNull Task<T> task, @NonNull Callback<T> callback) {
+    if (executor == null) {
+      executor = createExecutor();
+    }
+    executor.execute(
+        () -> {
+          final T result;
+          try {
+            result = task.run();
+          } catch (IOException | RuntimeException e) {
+            callback.onComplete(null, e);
+            return;
+          }
+          callback.onComplete(result, null);
+        });
+  }
+
+  // State is saved in bursts, so the thread stops between them and is a daemon that never keeps
+  // the process alive.
+  @NonNull
+  private static ExecutorService createExecutor() {
+    final ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            1,
+            1,
+            10,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            runnable -> {
+              final Thread thread = new Thread(runnable, "BootpayWebViewStateStore");
+              thread.setDaemon(true);
+              return thread;
+            });
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+}
@@ -0,0 +1,53 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.Arrays;
+import org.junit.Test;
+
+public class AssetIndexTest {
+  @Test
+  public void listIsMemoized() throws IOException {
+    final FlutterAssetManager flutterAssetManager = mock(FlutterAssetManager.class);
+    when(flutterAssetManager.list("web")).thenReturn(new String[] {"index.html"});
+    final AssetIndex index = new AssetIndex(flutterAssetManager);
+
+    assertEquals(Arrays.asList("index.html"), index.list("web"));
+    assertEquals(Arrays.asList("index.html"), index.list("/web/"));
+
+    verify(flutterAssetManager, times(1)).list("web");
+  }
+
+  @Test
+  public void existsChecksParentDirectory() throws IOException {
+    final FlutterAssetManager flutterAssetManager = mock(FlutterAssetManager.class);
+    when(flutterAssetManager.list("web")).thenReturn(new String[] {"index.html", "js"});
+    final AssetIndex index = new AssetIndex(flutterAssetManager);
+
+    assertTrue(index.exists("web/index.html"));
+    assertTrue(index.exists("web/js"));
+    assertFalse(index.exists("web/missing.html"));
+  }
+
+  @Test
+  public void listAllReturnsFilesOfSubtree() throws IOException {
+    final FlutterAssetManager flutterAssetManager = mock(FlutterAssetManager.class);
+    when(flutterAssetManager.list("web")).thenReturn(new String[] {"index.html", "js"});
+    when(flutterAssetManager.list("web/index.html")).thenReturn(new String[0]);
+    when(flutterAssetManager.list("web/js")).thenReturn(new String[] {"app.js", "vendor.js"});
+    final AssetIndex index = new AssetIndex(flutterAssetManager);
+
+    assertEquals(Arrays.asList("index.html", "js/app.js", "js/vendor.js"), index.listAll("web"));
+  }
+}
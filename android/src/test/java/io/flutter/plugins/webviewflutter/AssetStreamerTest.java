@@ -0,0 +1,79 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class AssetStreamerTest {
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void parseRangeReadsSingleByteRanges() {
+    assertArrayEquals(new long[] {0, 99}, AssetStreamer.parseRange("bytes=0-99", 1000));
+    assertArrayEquals(new long[] {500, 999}, AssetStreamer.parseRange("bytes=500-", 1000));
+    assertArrayEquals(new long[] {900, 999}, AssetStreamer.parseRange("bytes=-100", 1000));
+    assertArrayEquals(new long[] {990, 999}, AssetStreamer.parseRange("bytes=990-2000", 1000));
+  }
+
+  @Test
+  public void parseRangeSendsWholeContentForUnsupportedHeaders() {
+    assertNull(AssetStreamer.parseRange(null, 1000));
+    assertNull(AssetStreamer.parseRange("bytes=0-1,5-6", 1000));
+    assertNull(AssetStreamer.parseRange("items=0-1", 1000));
+    assertNull(AssetStreamer.parseRange("bytes=5-1", 1000));
+    assertNull(AssetStreamer.parseRange("bytes=a-b", 1000));
+  }
+
+  @Test
+  public void parseRangeRejectsRangesPastTheEnd() {
+    assertSame(AssetStreamer.UNSATISFIABLE, AssetStreamer.parseRange("bytes=1000-", 1000));
+    assertSame(AssetStreamer.UNSATISFIABLE, AssetStreamer.parseRange("bytes=-0", 1000));
+  }
+
+  @Test
+  public void guessMimeTypeKnowsWebTypes() {
+    assertEquals("text/javascript", AssetStreamer.guessMimeType("a/b/app.JS"));
+    assertEquals("text/html", AssetStreamer.guessMimeType("index.html"));
+    assertEquals("font/woff2", AssetStreamer.guessMimeType("fonts/icons.woff2"));
+  }
+
+  @Test
+  public void mapReadsRequestedBytes() throws IOException {
+    final File file = writeFile(256);
+
+    try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
+      final InputStream input = AssetStreamer.map(randomAccessFile.getChannel(), 10, 3);
+      assertEquals(10, input.read());
+      assertEquals(11, input.read());
+      assertEquals(12, input.read());
+      assertEquals(-1, input.read());
+    }
+  }
+
+  private File writeFile(int length) throws IOException {
+    final File file = temporaryFolder.newFile();
+    final byte[] bytes = new byte[length];
+    for (int i = 0; i < length; i++) {
+      bytes[i] = (byte) i;
+    }
+    try (OutputStream output = new FileOutputStream(file)) {
+      output.write(bytes);
+    }
+    return file;
+  }
+}
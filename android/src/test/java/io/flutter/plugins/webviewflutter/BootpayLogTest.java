@@ -0,0 +1,54 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import org.junit.After;
+import org.junit.Test;
+
+public class BootpayLogTest {
+  @After
+  public void tearDown() {
+    BootpayLog.setLevel(PluginLogLevel.OFF);
+  }
+
+  @Test
+  public void logIsIgnoredWhenOff() {
+    BootpayLog.setLevel(PluginLogLevel.OFF);
+    BootpayLog.log("onPageStarted", "https://www.google.com");
+
+    assertFalse(BootpayLog.isEnabled());
+    assertTrue(BootpayLog.getRecentLogs().isEmpty());
+  }
+
+  @Test
+  public void getRecentLogsReturnsEventsOldestFirst() {
+    BootpayLog.setLevel(PluginLogLevel.BUFFER);
+    BootpayLog.log("onPageStarted", "https://www.google.com");
+    BootpayLog.log("onPageFinished", null);
+
+    final List<String> logs = BootpayLog.getRecentLogs();
+    assertEquals(2, logs.size());
+    assertTrue(logs.get(0).endsWith(" onPageStarted: https://www.google.com"));
+    assertTrue(logs.get(1).endsWith(" onPageFinished"));
+  }
+
+  @Test
+  public void bufferKeepsMostRecentEvents() {
+    BootpayLog.setLevel(PluginLogLevel.BUFFER);
+    for (int i = 0; i < 200; i++) {
+      BootpayLog.log("event", String.valueOf(i));
+    }
+
+    final List<String> logs = BootpayLog.getRecentLogs();
+    assertEquals(128, logs.size());
+    assertTrue(logs.get(0).endsWith(" event: 72"));
+    assertTrue(logs.get(127).endsWith(" event: 199"));
+  }
+}
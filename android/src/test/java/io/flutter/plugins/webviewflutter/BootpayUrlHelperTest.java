@@ -0,0 +1,35 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import android.webkit.WebView;
+import org.junit.Test;
+
+public class BootpayUrlHelperTest {
+  @Test
+  public void isWebUrl() {
+    assertTrue(BootpayUrlHelper.isWebUrl("https://www.bootpay.co.kr"));
+    assertTrue(BootpayUrlHelper.isWebUrl("HTTP://www.bootpay.co.kr"));
+    assertTrue(BootpayUrlHelper.isWebUrl("about:blank"));
+    assertTrue(BootpayUrlHelper.isWebUrl("data:text/html,hello"));
+    assertTrue(BootpayUrlHelper.isWebUrl("blob:https://www.bootpay.co.kr/1234"));
+    assertFalse(BootpayUrlHelper.isWebUrl("intent://pay#Intent;scheme=ispmobile;end"));
+    assertFalse(BootpayUrlHelper.isWebUrl("ispmobile://TID=1234"));
+    assertFalse(BootpayUrlHelper.isWebUrl("market://details?id=com.kakao.talk"));
+  }
+
+  @Test
+  public void doDeepLinkIfPayUrlIgnoresWebUrls() {
+    final WebView view = mock(WebView.class);
+
+    assertFalse(new BootpayUrlHelper().doDeepLinkIfPayUrl(view, "https://www.bootpay.co.kr"));
+    verifyNoInteractions(view);
+  }
+}
@@ -0,0 +1,140 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.app.Activity;
+import android.webkit.WebView;
+import androidx.test.core.app.ApplicationProvider;
+import io.flutter.plugins.webviewflutter.WebChromeClientProxyApi.WebChromeClientImpl;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.shadows.ShadowLooper;
+
+// Callbacks are coalesced with View.postDelayed, which only runs once the view is attached to a
+// window, so the views are added to an activity and the main looper's clock is advanced.
+@RunWith(RobolectricTestRunner.class)
+public class CallbackCoalescingTest {
+  private static final long WINDOW_MILLIS = 100;
+
+  private TestProxyApiRegistrar registrar;
+  private Activity activity;
+
+  @Before
+  public void setUp() {
+    registrar = new TestProxyApiRegistrar();
+    registrar.setContext(ApplicationProvider.getApplicationContext());
+    activity = Robolectric.buildActivity(Activity.class).setup().get();
+  }
+
+  @Test
+  public void scrollChangesWithinWindowAreMerged() {
+    registrar.setCallbackCoalescingWindowMillis(WINDOW_MILLIS);
+    final WebViewProxyApi mockApi = mock(WebViewProxyApi.class);
+    when(mockApi.getPigeonRegistrar()).thenReturn(registrar);
+    final WebViewProxyApi.WebViewPlatformView instance =
+        new WebViewProxyApi.WebViewPlatformView(mockApi);
+    activity.setContentView(instance);
+
+    instance.onScrollChanged(0, 10, 0, 0);
+    instance.onScrollChanged(0, 20, 0, 10);
+    instance.onScrollChanged(5, 30, 0, 20);
+    ShadowLooper.idleMainLooper(WINDOW_MILLIS - 1, TimeUnit.MILLISECONDS);
+
+    verify(mockApi, never())
+        .onScrollChanged(any(), anyLong(), anyLong(), anyLong(), anyLong(), any());
+
+    ShadowLooper.idleMainLooper(1, TimeUnit.MILLISECONDS);
+
+    // The merged event goes from the first old position to the last position.
+    verify(mockApi).onScrollChanged(eq(instance), eq(5L), eq(30L), eq(0L), eq(0L), any());
+    verify(mockApi).onScrollChanged(any(), anyLong(), anyLong(), anyLong(), anyLong(), any());
+  }
+
+  @Test
+  public void scrollChangesAreSentImmediatelyWithoutWindow() {
+    registrar.setCallbackCoalescingWindowMillis(0);
+    final WebViewProxyApi mockApi = mock(WebViewProxyApi.class);
+    when(mockApi.getPigeonRegistrar()).thenReturn(registrar);
+    final WebViewProxyApi.WebViewPlatformView instance =
+        new WebViewProxyApi.WebViewPlatformView(mockApi);
+    activity.setContentView(instance);
+
+    instance.onScrollChanged(0, 10, 0, 0);
+    instance.onScrollChanged(0, 20, 0, 10);
+
+    verify(mockApi).onScrollChanged(eq(instance), eq(0L), eq(10L), eq(0L), eq(0L), any());
+    verify(mockApi).onScrollChanged(eq(instance), eq(0L), eq(20L), eq(0L), eq(10L), any());
+  }
+
+  @Test
+  public void progressChangesWithinWindowAreMerged() {
+    registrar.setCallbackCoalescingWindowMillis(WINDOW_MILLIS);
+    final WebChromeClientProxyApi mockApi = mock(WebChromeClientProxyApi.class);
+    when(mockApi.getPigeonRegistrar()).thenReturn(registrar);
+    final WebChromeClientImpl instance = new WebChromeClientImpl(mockApi);
+    final WebView webView = new WebView(activity);
+    activity.setContentView(webView);
+
+    instance.onProgressChanged(webView, 10);
+    instance.onProgressChanged(webView, 20);
+    instance.onProgressChanged(webView, 30);
+    ShadowLooper.idleMainLooper(WINDOW_MILLIS - 1, TimeUnit.MILLISECONDS);
+
+    verify(mockApi, never()).onProgressChanged(any(), any(), anyLong(), any());
+
+    ShadowLooper.idleMainLooper(1, TimeUnit.MILLISECONDS);
+
+    verify(mockApi).onProgressChanged(eq(instance), eq(webView), eq(30L), any());
+    verify(mockApi).onProgressChanged(any(), any(), anyLong(), any());
+  }
+
+  @Test
+  public void completedProgressIsSentImmediatelyAndDropsPendingProgress() {
+    registrar.setCallbackCoalescingWindowMillis(WINDOW_MILLIS);
+    final WebChromeClientProxyApi mockApi = mock(WebChromeClientProxyApi.class);
+    when(mockApi.getPigeonRegistrar()).thenReturn(registrar);
+    final WebChromeClientImpl instance = new WebChromeClientImpl(mockApi);
+    final WebView webView = new WebView(activity);
+    activity.setContentView(webView);
+
+    instance.onProgressChanged(webView, 50);
+    instance.onProgressChanged(webView, 100);
+
+    verify(mockApi).onProgressChanged(eq(instance), eq(webView), eq(100L), any());
+
+    ShadowLooper.idleMainLooper(WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+
+    verify(mockApi).onProgressChanged(any(), any(), anyLong(), any());
+  }
+
+  @Test
+  public void progressChangesAreSentImmediatelyWithoutWindow() {
+    registrar.setCallbackCoalescingWindowMillis(0);
+    final WebChromeClientProxyApi mockApi = mock(WebChromeClientProxyApi.class);
+    when(mockApi.getPigeonRegistrar()).thenReturn(registrar);
+    final WebChromeClientImpl instance = new WebChromeClientImpl(mockApi);
+    final WebView webView = new WebView(activity);
+    activity.setContentView(webView);
+
+    instance.onProgressChanged(webView, 10);
+    instance.onProgressChanged(webView, 20);
+
+    verify(mockApi, times(2)).onProgressChanged(eq(instance), eq(webView), anyLong(), any());
+    verify(mockApi).onProgressChanged(eq(instance), eq(webView), eq(20L), any());
+  }
+}
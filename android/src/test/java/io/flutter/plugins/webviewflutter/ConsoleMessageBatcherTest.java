@@ -0,0 +1,71 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import android.view.Choreographer;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.MockedStatic;
+
+public class ConsoleMessageBatcherTest {
+  private MockedStatic<Choreographer> mockedChoreographer;
+  private Choreographer choreographer;
+
+  @Before
+  public void setUp() {
+    choreographer = mock(Choreographer.class);
+    mockedChoreographer = mockStatic(Choreographer.class);
+    mockedChoreographer.when(Choreographer::getInstance).thenReturn(choreographer);
+  }
+
+  @After
+  public void tearDown() {
+    mockedChoreographer.close();
+  }
+
+  @Test
+  public void messagesAreDeliveredTogetherOnTheNextFrame() {
+    final List<List<ConsoleMessageData>> batches = new ArrayList<>();
+    final ConsoleMessageBatcher batcher = new ConsoleMessageBatcher(batches::add);
+
+    batcher.add(message("one"));
+    batcher.add(message("two"));
+    assertTrue(batches.isEmpty());
+
+    batcher.doFrame(0);
+
+    verify(choreographer, times(1)).postFrameCallback(batcher);
+    assertEquals(1, batches.size());
+    assertEquals(2, batches.get(0).size());
+    assertEquals("one", batches.get(0).get(0).getMessage());
+  }
+
+  @Test
+  public void fullBatchIsDeliveredWithoutWaitingForAFrame() {
+    final List<List<ConsoleMessageData>> batches = new ArrayList<>();
+    final ConsoleMessageBatcher batcher = new ConsoleMessageBatcher(batches::add);
+
+    for (int i = 0; i < 256; i++) {
+      batcher.add(message("message"));
+    }
+
+    assertEquals(1, batches.size());
+    assertEquals(256, batches.get(0).size());
+  }
+
+  private static ConsoleMessageData message(String text) {
+    return new ConsoleMessageData(1, text, ConsoleMessageLevel.LOG, "https://www.google.com");
+  }
+}
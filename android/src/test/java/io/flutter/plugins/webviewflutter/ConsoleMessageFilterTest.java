@@ -0,0 +1,43 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import org.junit.Test;
+
+public class ConsoleMessageFilterTest {
+  @Test
+  public void acceptsDropsMessagesBelowMinimumLevel() {
+    final ConsoleMessageFilter filter = new ConsoleMessageFilter();
+    filter.set(true, ConsoleMessageLevel.WARNING, Collections.emptyList());
+
+    assertFalse(filter.accepts(ConsoleMessageLevel.TIP, "https://www.google.com/app.js"));
+    assertFalse(filter.accepts(ConsoleMessageLevel.LOG, "https://www.google.com/app.js"));
+    assertTrue(filter.accepts(ConsoleMessageLevel.WARNING, "https://www.google.com/app.js"));
+    assertTrue(filter.accepts(ConsoleMessageLevel.ERROR, "https://www.google.com/app.js"));
+  }
+
+  @Test
+  public void acceptsDropsMessagesFromExcludedSources() {
+    final ConsoleMessageFilter filter = new ConsoleMessageFilter();
+    filter.set(
+        true,
+        ConsoleMessageLevel.DEBUG,
+        Collections.singletonList("https://www.googletagmanager.com/"));
+
+    assertFalse(
+        filter.accepts(ConsoleMessageLevel.ERROR, "https://www.googletagmanager.com/gtm.js"));
+    assertTrue(filter.accepts(ConsoleMessageLevel.DEBUG, "https://www.google.com/app.js"));
+    assertTrue(filter.accepts(ConsoleMessageLevel.DEBUG, null));
+  }
+
+  @Test
+  public void isDisabledByDefault() {
+    assertFalse(new ConsoleMessageFilter().isEnabled());
+  }
+}
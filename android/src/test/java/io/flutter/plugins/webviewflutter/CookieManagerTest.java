@@ -5,14 +5,23 @@
 package io.flutter.plugins.webviewflutter;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import android.webkit.CookieManager;
 import android.webkit.ValueCallback;
 import android.webkit.WebView;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 
 public class CookieManagerTest {
   @Test
@@ -60,8 +69,61 @@ public class CookieManagerTest {
     final CookieManager instance = mock(CookieManager.class);
     final android.webkit.WebView webView = mock(WebView.class);
     final boolean accept = true;
-    api.setAcceptThirdPartyCookies(instance, webView, accept);
+    final boolean[] replied = new boolean[1];
+    api.setAcceptThirdPartyCookies(
+        instance,
+        webView,
+        accept,
+        ResultCompat.asCompatCallback(
+            reply -> {
+              replied[0] = true;
+              return null;
+            }));
 
     verify(instance).setAcceptThirdPartyCookies(webView, accept);
+    assertTrue(replied[0]);
+  }
+
+  @Test
+  public void setCookiesFlushesOnceAfterSettingEveryCookie() {
+    final PigeonApiCookieManager api = new TestProxyApiRegistrar().getPigeonApiCookieManager();
+
+    final CookieManager instance = mock(CookieManager.class);
+    final Map<String, List<String>> cookies = new HashMap<>();
+    cookies.put("https://a.com", Arrays.asList("a=1", "b=2"));
+    cookies.put("https://b.com", Collections.singletonList("c=3"));
+    api.setCookies(instance, cookies);
+
+    final InOrder inOrder = inOrder(instance);
+    inOrder.verify(instance).setCookie("https://a.com", "a=1");
+    inOrder.verify(instance).setCookie("https://a.com", "b=2");
+    verify(instance).setCookie("https://b.com", "c=3");
+    inOrder.verify(instance).flush();
+    inOrder.verifyNoMoreInteractions();
+  }
+
+  @Test
+  public void getCookies() {
+    final PigeonApiCookieManager api = new TestProxyApiRegistrar().getPigeonApiCookieManager();
+
+    final CookieManager instance = mock(CookieManager.class);
+    when(instance.getCookie("https://a.com")).thenReturn("a=1; b=2");
+
+    final Map<String, String> cookies =
+        api.getCookies(instance, Arrays.asList("https://a.com", "https://b.com"));
+
+    assertEquals("a=1; b=2", cookies.get("https://a.com"));
+    assertEquals(true, cookies.containsKey("https://b.com"));
+    assertEquals(null, cookies.get("https://b.com"));
+  }
+
+  @Test
+  public void flush() {
+    final PigeonApiCookieManager api = new TestProxyApiRegistrar().getPigeonApiCookieManager();
+
+    final CookieManager instance = mock(CookieManager.class);
+    api.flush(instance);
+
+    verify(instance).flush();
   }
 }
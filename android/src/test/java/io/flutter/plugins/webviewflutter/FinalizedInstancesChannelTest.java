@@ -0,0 +1,87 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.common.StandardMessageCodec;
+import java.nio.ByteBuffer;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class FinalizedInstancesChannelTest {
+  @Test
+  public void sendsIdentifiersOfASweepInOneMessage() {
+    final BinaryMessenger binaryMessenger = mock(BinaryMessenger.class);
+    final PigeonFinalizationSweeper.Listener fallback =
+        mock(PigeonFinalizationSweeper.Listener.class);
+    final FinalizedInstancesChannel channel =
+        new FinalizedInstancesChannel(binaryMessenger, fallback);
+
+    channel.onFinalized(new long[] {65536, 65537, 65538});
+
+    final BinaryMessenger.BinaryReply reply = captureReply(binaryMessenger, 65536, 65537, 65538);
+    reply.reply(encode(true));
+    verify(fallback, never()).onFinalized(any());
+  }
+
+  @Test
+  public void fallsBackToSingleMessagesWhenDartDoesNotHandleTheBatch() {
+    final BinaryMessenger binaryMessenger = mock(BinaryMessenger.class);
+    final PigeonFinalizationSweeper.Listener fallback =
+        mock(PigeonFinalizationSweeper.Listener.class);
+    final FinalizedInstancesChannel channel =
+        new FinalizedInstancesChannel(binaryMessenger, fallback);
+
+    final long[] identifiers = {65536, 65537};
+    channel.onFinalized(identifiers);
+
+    captureReply(binaryMessenger, 65536, 65537).reply(null);
+    verify(fallback).onFinalized(identifiers);
+  }
+
+  @Test
+  public void sendsSingleIdentifierWithFallback() {
+    final BinaryMessenger binaryMessenger = mock(BinaryMessenger.class);
+    final PigeonFinalizationSweeper.Listener fallback =
+        mock(PigeonFinalizationSweeper.Listener.class);
+    final FinalizedInstancesChannel channel =
+        new FinalizedInstancesChannel(binaryMessenger, fallback);
+
+    final long[] identifiers = {65536};
+    channel.onFinalized(identifiers);
+
+    verify(fallback).onFinalized(identifiers);
+    verifyNoInteractions(binaryMessenger);
+  }
+
+  // Verifies that `identifiers` were sent and returns the reply callback of the message.
+  private static BinaryMessenger.BinaryReply captureReply(
+      BinaryMessenger binaryMessenger, long... identifiers) {
+    final ArgumentCaptor<ByteBuffer> message = ArgumentCaptor.forClass(ByteBuffer.class);
+    final ArgumentCaptor<BinaryMessenger.BinaryReply> reply =
+        ArgumentCaptor.forClass(BinaryMessenger.BinaryReply.class);
+    verify(binaryMessenger)
+        .send(eq(FinalizedInstancesChannel.CHANNEL_NAME), message.capture(), reply.capture());
+
+    final ByteBuffer bytes = message.getValue();
+    bytes.rewind();
+    assertArrayEquals(identifiers, (long[]) StandardMessageCodec.INSTANCE.decodeMessage(bytes));
+    return reply.getValue();
+  }
+
+  private static ByteBuffer encode(Object value) {
+    final ByteBuffer bytes = StandardMessageCodec.INSTANCE.encodeMessage(value);
+    bytes.rewind();
+    return bytes;
+  }
+}
@@ -0,0 +1,88 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.content.Context;
+import android.content.Intent;
+import android.content.pm.PackageManager;
+import java.util.Collections;
+import org.junit.Test;
+
+public class InstalledAppCacheTest {
+  @Test
+  public void isInstalledCachesResult() {
+    final InstalledAppCache cache = new InstalledAppCache();
+    final Context context = mock(Context.class);
+    final PackageManager packageManager = mock(PackageManager.class);
+    when(context.getPackageManager()).thenReturn(packageManager);
+    when(packageManager.getLaunchIntentForPackage("com.kakao.talk"))
+        .thenReturn(mock(Intent.class));
+
+    assertTrue(cache.isInstalled(context, "com.kakao.talk"));
+    assertTrue(cache.isInstalled(context, "com.kakao.talk"));
+
+    verify(packageManager, times(1)).getLaunchIntentForPackage("com.kakao.talk");
+    assertEquals(1, cache.getHitCount());
+    assertEquals(1, cache.getMissCount());
+  }
+
+  @Test
+  public void invalidateQueriesAgain() {
+    final InstalledAppCache cache = new InstalledAppCache();
+    final Context context = mock(Context.class);
+    final PackageManager packageManager = mock(PackageManager.class);
+    when(context.getPackageManager()).thenReturn(packageManager);
+
+    cache.isInstalled(context, "com.kakao.talk");
+    cache.invalidate("com.kakao.talk");
+    cache.isInstalled(context, "com.kakao.talk");
+
+    verify(packageManager, times(2)).getLaunchIntentForPackage("com.kakao.talk");
+  }
+
+  @Test
+  public void warmUpCachesResults() {
+    final InstalledAppCache cache = new InstalledAppCache(Runnable::run);
+    final Context context = mock(Context.class);
+    final PackageManager packageManager = mock(PackageManager.class);
+    when(context.getApplicationContext()).thenReturn(context);
+    when(context.getPackageManager()).thenReturn(packageManager);
+
+    cache.warmUp(context, Collections.singletonList("com.kakao.talk"));
+    cache.isInstalled(context, "com.kakao.talk");
+
+    verify(packageManager, times(1)).getLaunchIntentForPackage("com.kakao.talk");
+    assertEquals(1, cache.getHitCount());
+  }
+
+  @Test
+  public void resultIsNotCachedWhenInvalidatedDuringQuery() {
+    final InstalledAppCache cache = new InstalledAppCache(Runnable::run);
+    final Context context = mock(Context.class);
+    final PackageManager packageManager = mock(PackageManager.class);
+    when(context.getApplicationContext()).thenReturn(context);
+    when(context.getPackageManager()).thenReturn(packageManager);
+    // The package is installed while the first query is running.
+    when(packageManager.getLaunchIntentForPackage("com.kakao.talk"))
+        .thenAnswer(
+            invocation -> {
+              cache.invalidate("com.kakao.talk");
+              return null;
+            })
+        .thenReturn(mock(Intent.class));
+
+    cache.warmUp(context, Collections.singletonList("com.kakao.talk"));
+
+    assertTrue(cache.isInstalled(context, "com.kakao.talk"));
+    assertEquals(0, cache.getHitCount());
+  }
+}
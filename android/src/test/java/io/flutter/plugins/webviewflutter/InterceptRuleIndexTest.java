@@ -0,0 +1,92 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+public class InterceptRuleIndexTest {
+  @Test
+  public void matchReturnsFirstMatchingRuleInTableOrder() {
+    final InterceptRule passThrough =
+        rule(
+            InterceptMatchType.PREFIX,
+            "https://js.bootpay.co.kr/v2/",
+            InterceptAction.PASS_THROUGH);
+    final InterceptRule block =
+        rule(InterceptMatchType.HOST, "js.bootpay.co.kr", InterceptAction.BLOCK);
+    final InterceptRuleIndex index = InterceptRuleIndex.compile(Arrays.asList(passThrough, block));
+
+    assertSame(passThrough, index.match("https://js.bootpay.co.kr/v2/sdk.js"));
+    assertSame(block, index.match("https://JS.bootpay.co.kr:443/v1/sdk.js"));
+    assertNull(index.match("https://www.google.com/"));
+  }
+
+  @Test
+  public void matchUsesLongerPrefixOnlyIfItComesFirst() {
+    final InterceptRule shorter =
+        rule(InterceptMatchType.PREFIX, "https://www.google.com/", InterceptAction.BLOCK);
+    final InterceptRule longer =
+        rule(InterceptMatchType.PREFIX, "https://www.google.com/a/", InterceptAction.ASSET);
+    final InterceptRuleIndex index = InterceptRuleIndex.compile(Arrays.asList(shorter, longer));
+
+    assertSame(shorter, index.match("https://www.google.com/a/b.js"));
+  }
+
+  @Test
+  public void matchSupportsGlobs() {
+    final InterceptRule scripts =
+        rule(InterceptMatchType.GLOB, "https://*.google.com/*.js", InterceptAction.BLOCK);
+    final InterceptRule everything = rule(InterceptMatchType.GLOB, "*", InterceptAction.ASSET);
+    final InterceptRuleIndex index = InterceptRuleIndex.compile(Arrays.asList(scripts, everything));
+
+    assertSame(scripts, index.match("https://www.google.com/js/app.js"));
+    assertSame(everything, index.match("https://www.google.com/app.css"));
+    assertSame(everything, index.match("https://google.com/app.js"));
+  }
+
+  @Test
+  public void hostOfIgnoresUserInfoAndPort() {
+    assertEquals(
+        "www.google.com", InterceptRuleIndex.hostOf("https://user:pw@WWW.google.com:8080/a"));
+    assertEquals("www.google.com", InterceptRuleIndex.hostOf("https://www.google.com?a=b"));
+    assertNull(InterceptRuleIndex.hostOf("about:blank"));
+  }
+
+  @Test
+  public void matchFindsRulesInLargeTable() {
+    final List<InterceptRule> rules = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      rules.add(
+          rule(
+              InterceptMatchType.PREFIX,
+              "https://cdn" + i + ".google.com/",
+              InterceptAction.BLOCK));
+      rules.add(rule(InterceptMatchType.HOST, "host" + i + ".google.com", InterceptAction.BLOCK));
+      rules.add(
+          rule(
+              InterceptMatchType.GLOB,
+              "https://glob" + i + ".google.com/*.js",
+              InterceptAction.BLOCK));
+    }
+    final InterceptRuleIndex index = InterceptRuleIndex.compile(rules);
+
+    assertSame(rules.get(3 * 500), index.match("https://cdn500.google.com/logo.png"));
+    assertSame(rules.get(3 * 999 + 1), index.match("https://host999.google.com/"));
+    assertSame(rules.get(3 * 7 + 2), index.match("https://glob7.google.com/sdk.js"));
+    assertNull(index.match("https://www.google.com/images/branding/googlelogo/2x/googlelogo.png"));
+  }
+
+  private static InterceptRule rule(
+      InterceptMatchType matchType, String pattern, InterceptAction action) {
+    return new InterceptRule(matchType, pattern, action, null);
+  }
+}
@@ -7,10 +7,16 @@ package io.flutter.plugins.webviewflutter;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import android.view.Choreographer;
+import java.util.Arrays;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
 
 public class JavaScriptChannelTest {
   @Test
@@ -24,4 +30,63 @@ public class JavaScriptChannelTest {
 
     verify(mockApi).postMessage(eq(instance), eq(message), any());
   }
+
+  @Test
+  public void batchedMessagesAreSentTogetherOnTheNextFrame() {
+    final JavaScriptChannelProxyApi mockApi = mock(JavaScriptChannelProxyApi.class);
+    when(mockApi.getPigeonRegistrar()).thenReturn(new TestProxyApiRegistrar());
+    final Choreographer choreographer = mock(Choreographer.class);
+
+    try (MockedStatic<Choreographer> mockedChoreographer = mockStatic(Choreographer.class)) {
+      mockedChoreographer.when(Choreographer::getInstance).thenReturn(choreographer);
+
+      final JavaScriptChannel instance = new JavaScriptChannel("channel", mockApi);
+      instance.setBatching(true, 256);
+      instance.postMessage("one");
+      instance.postMessage("two");
+
+      verify(mockApi, never()).postMessage(any(), any(), any());
+      final ArgumentCaptor<Choreographer.FrameCallback> callback =
+          ArgumentCaptor.forClass(Choreographer.FrameCallback.class);
+      verify(choreographer).postFrameCallback(callback.capture());
+
+      callback.getValue().doFrame(0);
+
+      verify(mockApi).postMessages(eq(instance), eq(Arrays.asList("one", "two")), any());
+    }
+  }
+
+  @Test
+  public void fullBatchIsSentWithoutWaitingForAFrame() {
+    final JavaScriptChannelProxyApi mockApi = mock(JavaScriptChannelProxyApi.class);
+    when(mockApi.getPigeonRegistrar()).thenReturn(new TestProxyApiRegistrar());
+
+    try (MockedStatic<Choreographer> mockedChoreographer = mockStatic(Choreographer.class)) {
+      mockedChoreographer.when(Choreographer::getInstance).thenReturn(mock(Choreographer.class));
+
+      final JavaScriptChannel instance = new JavaScriptChannel("channel", mockApi);
+      instance.setBatching(true, 2);
+      instance.postMessage("one");
+      instance.postMessage("two");
+
+      verify(mockApi).postMessages(eq(instance), eq(Arrays.asList("one", "two")), any());
+    }
+  }
+
+  @Test
+  public void disablingBatchingSendsQueuedMessages() {
+    final JavaScriptChannelProxyApi mockApi = mock(JavaScriptChannelProxyApi.class);
+    when(mockApi.getPigeonRegistrar()).thenReturn(new TestProxyApiRegistrar());
+
+    try (MockedStatic<Choreographer> mockedChoreographer = mockStatic(Choreographer.class)) {
+      mockedChoreographer.when(Choreographer::getInstance).thenReturn(mock(Choreographer.class));
+
+      final JavaScriptChannel instance = new JavaScriptChannel("channel", mockApi);
+      instance.setBatching(true, 256);
+      instance.postMessage("one");
+      instance.setBatching(false, 256);
+
+      verify(mockApi).postMessages(eq(instance), eq(Arrays.asList("one")), any());
+    }
+  }
 }
@@ -0,0 +1,62 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import androidx.test.core.app.ApplicationProvider;
+import io.flutter.plugin.common.BinaryMessenger;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.shadows.ShadowLooper;
+
+// TestProxyApiRegistrar always runs callbacks immediately, so these tests use the real registrar
+// and Robolectric's main looper.
+@RunWith(RobolectricTestRunner.class)
+public class MainThreadDispatchTest {
+  private ProxyApiRegistrar registrar;
+
+  @Before
+  public void setUp() {
+    registrar =
+        new ProxyApiRegistrar(
+            mock(BinaryMessenger.class),
+            ApplicationProvider.getApplicationContext(),
+            mock(FlutterAssetManager.class));
+  }
+
+  @Test
+  public void runOnMainThreadRunsInlineOnMainThread() {
+    final AtomicBoolean ran = new AtomicBoolean();
+
+    registrar.runOnMainThread(() -> ran.set(true));
+
+    assertTrue(ran.get());
+    assertEquals(1L, registrar.getInlineMainThreadDispatchCount());
+    assertEquals(0L, registrar.getPostedMainThreadDispatchCount());
+  }
+
+  @Test
+  public void runOnMainThreadPostsFromBackgroundThread() throws InterruptedException {
+    final AtomicBoolean ran = new AtomicBoolean();
+    final Thread thread = new Thread(() -> registrar.runOnMainThread(() -> ran.set(true)));
+    thread.start();
+    thread.join();
+
+    assertFalse(ran.get());
+    assertEquals(0L, registrar.getInlineMainThreadDispatchCount());
+    assertEquals(1L, registrar.getPostedMainThreadDispatchCount());
+
+    ShadowLooper.idleMainLooper();
+
+    assertTrue(ran.get());
+  }
+}
@@ -0,0 +1,49 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class PaymentSchemeTableTest {
+  @Test
+  public void lookupMatchesPackageAndSpecialCase() {
+    final PaymentSchemeTable table = PaymentSchemeTable.createDefault();
+
+    final PaymentSchemeTable.Match match = table.lookup("ispmobile://TID=1234");
+    assertEquals("kvp.jjy.MispAndroid320", match.packageName);
+    assertTrue(match.isSpecialCase);
+
+    final PaymentSchemeTable.Match shinhan = table.lookup("shinhan-sr-ansimclick://pay");
+    assertEquals("com.shcard.smartpay", shinhan.packageName);
+    assertTrue(shinhan.isSpecialCase);
+
+    final PaymentSchemeTable.Match lotte = table.lookup("lotteappcard://pay");
+    assertEquals("com.lcacApp", lotte.packageName);
+    assertFalse(lotte.isSpecialCase);
+  }
+
+  @Test
+  public void lookupDoesNotMatchWebUrls() {
+    final PaymentSchemeTable.Match match =
+        PaymentSchemeTable.createDefault().lookup("https://www.bootpay.co.kr");
+    assertNull(match.packageName);
+    assertFalse(match.isSpecialCase);
+  }
+
+  @Test
+  public void register() {
+    final PaymentSchemeTable table = PaymentSchemeTable.createDefault();
+    table.register("newcard://", "com.example.newcard", true);
+
+    final PaymentSchemeTable.Match match = table.lookup("newcard://pay");
+    assertEquals("com.example.newcard", match.packageName);
+    assertTrue(match.isSpecialCase);
+  }
+}
@@ -0,0 +1,70 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+public class PigeonFinalizationSweeperTest {
+  @Test
+  public void sweepBacksOffWhileNothingIsReclaimed() {
+    final PigeonInstanceRegistry registry = new PigeonInstanceRegistry();
+    final Object instance = new Object();
+    registry.add(instance, 0);
+    final PigeonFinalizationSweeper sweeper =
+        new PigeonFinalizationSweeper(registry, 3000, identifiers -> {});
+
+    sweeper.setBaseInterval(3000);
+
+    assertEquals(1L, (long) sweeper.getStats().get("sweeps"));
+    assertEquals(6000L, (long) sweeper.getStats().get("intervalMillis"));
+  }
+
+  @Test
+  public void sweepTightensWhenManyInstancesAreAdded() {
+    final PigeonInstanceRegistry registry = new PigeonInstanceRegistry();
+    final PigeonFinalizationSweeper sweeper =
+        new PigeonFinalizationSweeper(registry, 3000, identifiers -> {});
+    final List<Object> instances = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      final Object instance = new Object();
+      instances.add(instance);
+      registry.add(instance, i);
+      sweeper.onInstanceAdded();
+    }
+
+    sweeper.setBaseInterval(3000);
+
+    assertEquals(1500L, (long) sweeper.getStats().get("intervalMillis"));
+  }
+
+  @Test
+  public void sweepReportsReclaimedIdentifiers() {
+    final PigeonInstanceRegistry registry = mock(PigeonInstanceRegistry.class);
+    when(registry.pollFinalized()).thenReturn(0L, 5L, -1L);
+    final List<Long> finalized = new ArrayList<>();
+    final PigeonFinalizationSweeper sweeper =
+        new PigeonFinalizationSweeper(
+            registry,
+            3000,
+            identifiers -> {
+              for (long identifier : identifiers) {
+                finalized.add(identifier);
+              }
+            });
+
+    sweeper.setBaseInterval(3000);
+
+    assertEquals(Arrays.asList(0L, 5L), finalized);
+    assertEquals(2L, (long) sweeper.getStats().get("reclaimed"));
+    assertEquals(2L, (long) sweeper.getStats().get("lastReclaimed"));
+  }
+}
@@ -0,0 +1,76 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+public class PigeonInstanceRegistryTest {
+  @Test
+  public void getReturnsAddedInstance() {
+    final PigeonInstanceRegistry registry = new PigeonInstanceRegistry();
+    final Object instance = new Object();
+    registry.add(instance, 0);
+
+    assertSame(instance, registry.get(0));
+    assertEquals(0, registry.getIdentifier(instance, false));
+  }
+
+  @Test
+  public void getIdentifierUsesIdentity() {
+    final PigeonInstanceRegistry registry = new PigeonInstanceRegistry();
+    registry.add("a", 0);
+
+    assertEquals(-1, registry.getIdentifier(new String("a"), false));
+  }
+
+  @Test
+  public void getIdentifierReturnsMostRecentIdentifierOfInstance() {
+    final PigeonInstanceRegistry registry = new PigeonInstanceRegistry();
+    final Object instance = new Object();
+    registry.add(instance, 0);
+    registry.add(instance, 1);
+
+    assertEquals(1, registry.getIdentifier(instance, false));
+    assertSame(instance, registry.get(0));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void addThrowsForDuplicateIdentifier() {
+    final PigeonInstanceRegistry registry = new PigeonInstanceRegistry();
+    registry.add(new Object(), 0);
+    registry.add(new Object(), 0);
+  }
+
+  @Test
+  public void removeStrongReferenceReturnsInstanceOnce() {
+    final PigeonInstanceRegistry registry = new PigeonInstanceRegistry();
+    final Object instance = new Object();
+    registry.add(instance, 0);
+
+    assertSame(instance, registry.removeStrongReference(0));
+    assertNull(registry.removeStrongReference(0));
+    assertSame(instance, registry.get(0));
+  }
+
+  @Test
+  public void lookupsSurviveGrowth() {
+    final PigeonInstanceRegistry registry = new PigeonInstanceRegistry();
+    final Object[] instances = new Object[10_000];
+    for (int i = 0; i < instances.length; i++) {
+      instances[i] = new Object();
+      registry.add(instances[i], i);
+    }
+
+    for (int i = 0; i < instances.length; i++) {
+      assertSame(instances[i], registry.get(i));
+      assertEquals(i, registry.getIdentifier(instances[i], false));
+    }
+    assertEquals(10_000, registry.size());
+  }
+}
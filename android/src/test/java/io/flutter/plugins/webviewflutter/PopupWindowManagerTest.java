@@ -0,0 +1,161 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.webkit.WebView;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+
+public class PopupWindowManagerTest {
+  @Test
+  public void canOpenHasNoLimitsByDefault() {
+    final PopupWindowManager manager = new PopupWindowManager();
+    WebView parent = mockWebView();
+    for (int i = 0; i < 10; i++) {
+      assertTrue(manager.canOpen(parent));
+      final WebView popup = mockWebView();
+      manager.add(parent, popup);
+      parent = popup;
+    }
+
+    assertEquals(10L, (long) manager.getStats().get("depth"));
+  }
+
+  @Test
+  public void canOpenEnforcesMaxDepth() {
+    final PopupWindowManager manager = new PopupWindowManager();
+    manager.setLimits(1, PopupWindowManager.NO_LIMIT);
+    final WebView parent = mockWebView();
+    final WebView popup = mockWebView();
+
+    assertTrue(manager.canOpen(parent));
+    manager.add(parent, popup);
+    assertFalse(manager.canOpen(popup));
+  }
+
+  @Test
+  public void canOpenEnforcesMaxCount() {
+    final PopupWindowManager manager = new PopupWindowManager();
+    manager.setLimits(PopupWindowManager.NO_LIMIT, 1);
+    final WebView parent = mockWebView();
+
+    manager.add(parent, mockWebView());
+    assertFalse(manager.canOpen(parent));
+    assertEquals(1L, (long) manager.getStats().get("rejected"));
+  }
+
+  @Test
+  public void closeChildrenDestroysNestedPopups() {
+    final PopupWindowManager manager = new PopupWindowManager();
+    final WebView parent = mockWebView();
+    final WebView popup = mockWebView();
+    final WebView nestedPopup = mockWebView();
+    manager.add(parent, popup);
+    manager.add(popup, nestedPopup);
+
+    manager.closeChildren(parent);
+
+    verify(popup).destroy();
+    verify(nestedPopup).destroy();
+    verify(parent, never()).destroy();
+    assertEquals(0L, (long) manager.getStats().get("live"));
+    assertEquals(0L, (long) manager.getStats().get("depth"));
+  }
+
+  @Test
+  public void closeDropsPopupFromParent() {
+    final PopupWindowManager manager = new PopupWindowManager();
+    final WebView parent = mockWebView();
+    final WebView popup = mockWebView();
+    manager.add(parent, popup);
+
+    manager.close(popup);
+    manager.closeChildren(parent);
+
+    verify(popup).destroy();
+    assertEquals(0L, (long) manager.getStats().get("closedWithParent"));
+  }
+
+  @Test
+  public void closeChildrenReleasesTags() {
+    final PopupWindowManager manager = new PopupWindowManager();
+    final WebView parent = mockWebView();
+    final WebView popup = mockWebView();
+    manager.add(parent, popup);
+
+    manager.closeChildren(parent);
+
+    assertNull(parent.getTag(R.id.bootpay_popup_windows));
+    assertNull(popup.getTag(R.id.bootpay_popup_windows));
+  }
+
+  @Test
+  public void onNavigationKeepsPopupsByDefault() {
+    final PopupWindowManager manager = new PopupWindowManager();
+    final WebView parent = mockWebView();
+    final WebView popup = mockWebView();
+    manager.add(parent, popup);
+
+    manager.onNavigation(parent);
+
+    verify(popup, never()).destroy();
+    assertEquals(1L, (long) manager.getStats().get("live"));
+  }
+
+  @Test
+  public void onNavigationClosesPopupsWhenEnabled() {
+    final PopupWindowManager manager = new PopupWindowManager();
+    manager.setCloseOnNavigation(true);
+    final WebView parent = mockWebView();
+    final WebView popup = mockWebView();
+    manager.add(parent, popup);
+
+    manager.onNavigation(parent);
+
+    verify(popup).destroy();
+    assertEquals(1L, (long) manager.getStats().get("closedWithParent"));
+  }
+
+  @Test
+  public void detachedParentDoesNotCountPopups() {
+    final PopupWindowManager manager = new PopupWindowManager();
+    manager.setLimits(PopupWindowManager.NO_LIMIT, 1);
+    final WebView parent = mockWebView();
+    final WebView popup = mockWebView();
+    manager.add(parent, popup);
+    manager.add(popup, mockWebView());
+
+    when(parent.isAttachedToWindow()).thenReturn(false);
+
+    assertEquals(0L, (long) manager.getStats().get("live"));
+    assertEquals(0L, (long) manager.getStats().get("depth"));
+    assertTrue(manager.canOpen(mockWebView()));
+  }
+
+  // An attached mock WebView that keeps its tags, which hold the popups it opened.
+  private static WebView mockWebView() {
+    final WebView webView = mock(WebView.class);
+    when(webView.isAttachedToWindow()).thenReturn(true);
+    final Map<Integer, Object> tags = new HashMap<>();
+    doAnswer(invocation -> tags.put(invocation.getArgument(0), invocation.getArgument(1)))
+        .when(webView)
+        .setTag(anyInt(), any());
+    when(webView.getTag(anyInt())).thenAnswer(invocation -> tags.get(invocation.getArgument(0)));
+    return webView;
+  }
+}
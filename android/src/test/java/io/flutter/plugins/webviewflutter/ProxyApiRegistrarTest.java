@@ -0,0 +1,65 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+import android.webkit.WebResourceResponse;
+import android.webkit.WebSettings;
+import android.webkit.WebView;
+import io.flutter.plugin.common.MessageCodec;
+import java.nio.ByteBuffer;
+import org.junit.Test;
+
+public class ProxyApiRegistrarTest {
+  @Test
+  public void getPigeonApiReturnsSameInstance() {
+    final ProxyApiRegistrar registrar = new TestProxyApiRegistrar();
+
+    assertSame(
+        registrar.getPigeonApiWebResourceRequest(), registrar.getPigeonApiWebResourceRequest());
+    assertSame(registrar.getPigeonApiConsoleMessage(), registrar.getPigeonApiConsoleMessage());
+    assertSame(registrar.getPigeonApiWebView(), registrar.getPigeonApiWebView());
+    assertSame(registrar.getPigeonApiWebViewClient(), registrar.getPigeonApiWebViewClient());
+  }
+
+  @Test
+  public void codecWritesKnownInstanceAsItsIdentifier() {
+    final ProxyApiRegistrar registrar = new TestProxyApiRegistrar();
+    final WebSettings instance = mock(WebSettings.class);
+    registrar.getInstanceManager().addDartCreatedInstance(instance, 7);
+
+    assertSame(instance, roundTrip(registrar.getCodec(), instance));
+  }
+
+  @Test
+  public void codecAddsNewInstanceOnce() {
+    final ProxyApiRegistrar registrar = new TestProxyApiRegistrar();
+    final WebResourceResponse instance = mock(WebResourceResponse.class);
+
+    assertSame(instance, roundTrip(registrar.getCodec(), instance));
+    final Long identifier =
+        registrar.getInstanceManager().getIdentifierForStrongReference(instance);
+    assertNotNull(identifier);
+
+    assertSame(instance, roundTrip(registrar.getCodec(), instance));
+    assertEquals(
+        identifier, registrar.getInstanceManager().getIdentifierForStrongReference(instance));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void codecThrowsForUnsupportedValue() {
+    new TestProxyApiRegistrar().getCodec().encodeMessage(new Object());
+  }
+
+  private static Object roundTrip(MessageCodec<Object> codec, Object value) {
+    final ByteBuffer message = codec.encodeMessage(value);
+    message.rewind();
+    return codec.decodeMessage(message);
+  }
+}
@@ -0,0 +1,53 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+public class RequestInterceptorTest {
+  @Test
+  public void resolveTargetAppendsPathAfterPrefix() {
+    final InterceptRule rule =
+        new InterceptRule(
+            InterceptMatchType.PREFIX, "https://app.local/", InterceptAction.ASSET, "assets/web/");
+
+    assertEquals(
+        "assets/web/js/app.js",
+        RequestInterceptor.resolveTarget(rule, "https://app.local/js/app.js?v=2#top"));
+  }
+
+  @Test
+  public void resolveTargetAppendsUrlPathForHostRules() {
+    final InterceptRule rule =
+        new InterceptRule(
+            InterceptMatchType.HOST, "app.local", InterceptAction.DISK_CACHE, "/data/cache/");
+
+    assertEquals(
+        "/data/cache/css/app.css",
+        RequestInterceptor.resolveTarget(rule, "https://app.local/css/app.css"));
+  }
+
+  @Test
+  public void resolveTargetRejectsPathsOutsideTheTarget() {
+    final InterceptRule rule =
+        new InterceptRule(
+            InterceptMatchType.PREFIX, "https://app.local/", InterceptAction.DISK_CACHE, "/data/");
+
+    assertNull(RequestInterceptor.resolveTarget(rule, "https://app.local/../shared_prefs/a.xml"));
+    assertNull(RequestInterceptor.resolveTarget(rule, "https://app.local/a/../../b"));
+  }
+
+  @Test
+  public void resolveTargetUsesFileTargetsAsIs() {
+    final InterceptRule rule =
+        new InterceptRule(
+            InterceptMatchType.GLOB, "*/sdk.js", InterceptAction.ASSET, "assets/sdk.js");
+
+    assertEquals("assets/sdk.js", RequestInterceptor.resolveTarget(rule, "https://a.com/sdk.js"));
+  }
+}
@@ -0,0 +1,272 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SdkBundleStoreTest {
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  // The status and ETag the server answers with, and the last If-None-Match it received, by path.
+  private final Map<String, Integer> statuses = new HashMap<>();
+  private final Map<String, String> etags = new HashMap<>();
+  private final Map<String, String> ifNoneMatches = new HashMap<>();
+  private HttpServer server;
+
+  @Before
+  public void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext(
+        "/",
+        exchange -> {
+          final String path = exchange.getRequestURI().getPath();
+          ifNoneMatches.put(path, exchange.getRequestHeaders().getFirst("If-None-Match"));
+          final int status = statuses.getOrDefault(path, 200);
+          if (status != 200) {
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+            return;
+          }
+          final byte[] body = path.getBytes(StandardCharsets.UTF_8);
+          exchange.getResponseHeaders().add("ETag", etags.getOrDefault(path, "\"1\""));
+          exchange.sendResponseHeaders(200, body.length);
+          try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+          }
+        });
+    server.start();
+  }
+
+  @After
+  public void tearDown() {
+    server.stop(0);
+  }
+
+  @Test
+  public void fileNameOfIsStableHex() {
+    final String name = SdkBundleStore.fileNameOf("https://cdn.example.com/sdk.js");
+
+    assertEquals(40, name.length());
+    assertTrue(name.matches("[0-9a-f]+"));
+    assertEquals(name, SdkBundleStore.fileNameOf("https://cdn.example.com/sdk.js"));
+    assertNotEquals(name, SdkBundleStore.fileNameOf("https://cdn.example.com/sdk2.js"));
+  }
+
+  @Test
+  public void openIgnoresUrlsOutsideRegisteredBundles() {
+    final SdkBundleStore store =
+        new SdkBundleStore(
+            new AssetStreamer(mock(FlutterAssetManager.class)), temporaryFolder.getRoot());
+    assertTrue(store.isEmpty());
+
+    store.register(
+        new SdkBundle(
+            "payments",
+            "1.0.0",
+            Collections.singletonMap("https://cdn.example.com/sdk.js", "assets/sdk.js"),
+            Collections.emptyMap()));
+
+    assertFalse(store.isEmpty());
+    assertNull(store.open("https://cdn.example.com/other.js", null));
+  }
+
+  @Test
+  public void byteBufferInputStreamReadsWholeBuffer() {
+    final ByteBufferInputStream stream =
+        new ByteBufferInputStream(ByteBuffer.wrap(new byte[] {1, 2, 3, 4}));
+    final byte[] bytes = new byte[8];
+
+    assertEquals(1, stream.read());
+    assertEquals(1, stream.skip(1));
+    assertEquals(2, stream.read(bytes, 0, bytes.length));
+    assertEquals(4, bytes[1]);
+    assertEquals(-1, stream.read());
+  }
+
+  @Test
+  public void updateKeepsServingUnchangedFiles() throws IOException {
+    final SdkBundleStore store = createStoreWithTwoFiles();
+    assertTrue(store.updateNow("payments"));
+    final File unchanged = store.getFile(url("/a.js"));
+    assertTrue(unchanged.isFile());
+
+    statuses.put("/a.js", 304);
+    etags.put("/b.js", "\"2\"");
+    assertTrue(store.updateNow("payments"));
+
+    final File copied = store.getFile(url("/a.js"));
+    assertNotEquals(unchanged, copied);
+    assertTrue(copied.isFile());
+    assertTrue(store.getFile(url("/b.js")).isFile());
+    assertFalse(unchanged.exists());
+  }
+
+  @Test
+  public void failedUpdateKeepsServingCurrentFiles() throws IOException {
+    final SdkBundleStore store = createStoreWithTwoFiles();
+    assertTrue(store.updateNow("payments"));
+    final File a = store.getFile(url("/a.js"));
+    final File b = store.getFile(url("/b.js"));
+
+    statuses.put("/a.js", 304);
+    statuses.put("/b.js", 500);
+    try {
+      store.updateNow("payments");
+      fail();
+    } catch (IOException expected) {
+    }
+
+    assertEquals(a, store.getFile(url("/a.js")));
+    assertEquals(b, store.getFile(url("/b.js")));
+    assertTrue(a.isFile());
+    assertTrue(b.isFile());
+    assertEquals(1, a.getParentFile().getParentFile().listFiles(File::isDirectory).length);
+  }
+
+  @Test
+  public void updateSendsServerEtag() throws IOException {
+    final SdkBundleStore store = createStoreWithTwoFiles();
+    etags.put("/a.js", "\"server-a\"");
+    assertTrue(store.updateNow("payments"));
+
+    statuses.put("/a.js", 304);
+    store.updateNow("payments");
+
+    assertEquals("\"server-a\"", ifNoneMatches.get("/a.js"));
+  }
+
+  @Test
+  public void updateRejectsFileWithOtherDigest() throws IOException {
+    final SdkBundleStore store = createStoreWithTwoFiles();
+    final Map<String, String> sha256 = new HashMap<>();
+    sha256.put(url("/a.js"), sha256Of("/a.js"));
+    sha256.put(url("/b.js"), sha256Of("/other.js"));
+    store.register(new SdkBundle("payments", "1.0.0", createAssets(), sha256));
+
+    try {
+      store.updateNow("payments");
+      fail();
+    } catch (IOException expected) {
+    }
+
+    assertNull(store.getFile(url("/a.js")));
+    assertNull(store.getFile(url("/b.js")));
+  }
+
+  @Test
+  public void updateRequiresPinnedDigests() throws IOException {
+    final SdkBundleStore store = createStore();
+    store.register(new SdkBundle("payments", "1.0.0", createAssets(), Collections.emptyMap()));
+
+    try {
+      store.updateNow("payments");
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+    assertTrue(ifNoneMatches.isEmpty());
+  }
+
+  @Test
+  public void updateRequiresHttps() throws IOException {
+    final SdkBundleStore store =
+        new SdkBundleStore(
+            new AssetStreamer(mock(FlutterAssetManager.class)), temporaryFolder.getRoot());
+    store.register(new SdkBundle("payments", "1.0.0", createAssets(), createSha256()));
+
+    try {
+      store.updateNow("payments");
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+    assertTrue(ifNoneMatches.isEmpty());
+  }
+
+  @Test
+  public void registerDiscardsDownloadsWithOtherDigest() throws IOException {
+    final SdkBundleStore store = createStoreWithTwoFiles();
+    assertTrue(store.updateNow("payments"));
+    final File b = store.getFile(url("/b.js"));
+
+    final Map<String, String> sha256 = createSha256();
+    sha256.put(url("/a.js"), sha256Of("/other.js"));
+    store.register(new SdkBundle("payments", "1.0.0", createAssets(), sha256));
+
+    assertNull(store.getFile(url("/a.js")));
+    assertEquals(b, store.getFile(url("/b.js")));
+  }
+
+  // Accepts the test server's http URLs in place of https ones.
+  private SdkBundleStore createStore() {
+    return new SdkBundleStore(
+        new AssetStreamer(mock(FlutterAssetManager.class)), temporaryFolder.getRoot()) {
+      @Override
+      boolean isSecure(String url) {
+        return true;
+      }
+    };
+  }
+
+  private SdkBundleStore createStoreWithTwoFiles() {
+    final SdkBundleStore store = createStore();
+    store.register(new SdkBundle("payments", "1.0.0", createAssets(), createSha256()));
+    return store;
+  }
+
+  private Map<String, String> createAssets() {
+    final Map<String, String> assets = new HashMap<>();
+    assets.put(url("/a.js"), "assets/a.js");
+    assets.put(url("/b.js"), "assets/b.js");
+    return assets;
+  }
+
+  // The server answers each path with the path itself.
+  private Map<String, String> createSha256() {
+    final Map<String, String> sha256 = new HashMap<>();
+    sha256.put(url("/a.js"), sha256Of("/a.js"));
+    sha256.put(url("/b.js"), sha256Of("/b.js"));
+    return sha256;
+  }
+
+  private static String sha256Of(String body) {
+    try {
+      final StringBuilder hex = new StringBuilder();
+      for (byte b :
+          MessageDigest.getInstance("SHA-256").digest(body.getBytes(StandardCharsets.UTF_8))) {
+        hex.append(String.format("%02x", b));
+      }
+      return hex.toString();
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private String url(String path) {
+    return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+  }
+}
@@ -5,11 +5,13 @@
 package io.flutter.plugins.webviewflutter;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import android.net.Uri;
 import android.webkit.WebResourceRequest;
+import java.nio.ByteBuffer;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -23,7 +25,9 @@ public class WebResourceRequestTest {
 
     final WebResourceRequest instance = mock(WebResourceRequest.class);
     final String value = "myString";
-    when(instance.getUrl()).thenReturn(Uri.parse(value));
+    final Uri url = mock(Uri.class);
+    when(url.toString()).thenReturn(value);
+    when(instance.getUrl()).thenReturn(url);
 
     assertEquals(value, api.url(instance));
   }
@@ -104,4 +108,27 @@ public class WebResourceRequestTest {
 
     assertEquals(value, api.requestHeaders(instance));
   }
+
+  @Test
+  public void inlineRequestIsWrittenByValue() {
+    final TestProxyApiRegistrar registrar = new TestProxyApiRegistrar();
+    registrar.setInlineWebResourceRequests(true);
+
+    final WebResourceRequest instance = mock(WebResourceRequest.class);
+    final Uri url = mock(Uri.class);
+    when(url.toString()).thenReturn("https://www.google.com");
+    when(instance.getUrl()).thenReturn(url);
+    when(instance.getMethod()).thenReturn("GET");
+    when(instance.isForMainFrame()).thenReturn(true);
+
+    final ByteBuffer message = registrar.getCodec().encodeMessage(instance);
+    message.rewind();
+    final WebResourceRequestData data =
+        (WebResourceRequestData) registrar.getCodec().decodeMessage(message);
+
+    assertEquals("https://www.google.com", data.getUrl());
+    assertEquals("GET", data.getMethod());
+    assertEquals(true, data.isForMainFrame());
+    assertFalse(registrar.getInstanceManager().containsInstance(instance));
+  }
 }
@@ -0,0 +1,48 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.webkit.WebSettings;
+import org.junit.Test;
+
+public class WebSettingsSnapshotTest {
+  @Test
+  public void applyToCopiesCapturedSettings() {
+    final WebSettings parentSettings = mock(WebSettings.class);
+    when(parentSettings.getJavaScriptEnabled()).thenReturn(true);
+    when(parentSettings.getUserAgentString()).thenReturn("userAgent");
+    when(parentSettings.getTextZoom()).thenReturn(150);
+
+    final WebSettings popupSettings = mock(WebSettings.class);
+    WebSettingsSnapshot.capture(parentSettings).applyTo(popupSettings);
+
+    verify(popupSettings).setJavaScriptEnabled(true);
+    verify(popupSettings).setUserAgentString("userAgent");
+    verify(popupSettings).setTextZoom(150);
+    verify(popupSettings).setSupportMultipleWindows(true);
+  }
+
+  @Test
+  public void reuseOrCaptureReturnsSnapshotUntilInvalidated() {
+    final WebSettings settings = mock(WebSettings.class);
+    final WebSettingsSnapshot snapshot = WebSettingsSnapshot.capture(settings);
+
+    assertTrue(snapshot.isCurrent());
+    assertSame(snapshot, WebSettingsSnapshot.reuseOrCapture(snapshot, settings));
+
+    WebSettingsSnapshot.invalidateAll();
+
+    assertFalse(snapshot.isCurrent());
+    assertNotSame(snapshot, WebSettingsSnapshot.reuseOrCapture(snapshot, settings));
+  }
+}
@@ -4,6 +4,7 @@
 
 package io.flutter.plugins.webviewflutter;
 
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
@@ -16,8 +17,16 @@ public class WebStorageTest {
     final PigeonApiWebStorage api = new TestProxyApiRegistrar().getPigeonApiWebStorage();
 
     final WebStorage instance = mock(WebStorage.class);
-    api.deleteAllData(instance);
+    final boolean[] replied = new boolean[1];
+    api.deleteAllData(
+        instance,
+        ResultCompat.asCompatCallback(
+            reply -> {
+              replied[0] = true;
+              return null;
+            }));
 
     verify(instance).deleteAllData();
+    assertTrue(replied[0]);
   }
 }
@@ -0,0 +1,116 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.app.ActivityManager;
+import android.content.Context;
+import android.os.Looper;
+import android.os.MessageQueue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+
+public class WebViewPoolTest {
+  private MockedStatic<Looper> mockedLooper;
+  private MessageQueue messageQueue;
+  private Context context;
+  private ActivityManager activityManager;
+
+  @Before
+  public void setUp() {
+    mockedLooper = mockStatic(Looper.class);
+    messageQueue = mock(MessageQueue.class);
+    mockedLooper.when(Looper::myQueue).thenReturn(messageQueue);
+
+    context = mock(Context.class);
+    activityManager = mock(ActivityManager.class);
+    when(context.getSystemService(Context.ACTIVITY_SERVICE)).thenReturn(activityManager);
+    when(activityManager.getMemoryClass()).thenReturn(256);
+  }
+
+  @After
+  public void tearDown() {
+    mockedLooper.close();
+  }
+
+  @Test
+  public void setSizeIsDisabledOnLowRamDevices() {
+    when(activityManager.isLowRamDevice()).thenReturn(true);
+    final WebViewPool pool = new WebViewPool(context, this::createWebView);
+
+    assertEquals(0, pool.setSize(2));
+  }
+
+  @Test
+  public void setSizeIsCappedByMemoryClass() {
+    when(activityManager.getMemoryClass()).thenReturn(128);
+    final WebViewPool pool = new WebViewPool(context, this::createWebView);
+
+    assertEquals(2, pool.setSize(4));
+  }
+
+  @Test
+  public void acquireReturnsPrewarmedWebView() {
+    final WebViewProxyApi.WebViewPlatformView webView = createWebView();
+    final WebViewPool pool = new WebViewPool(context, () -> webView);
+    pool.setSize(1);
+
+    assertFalse(runIdleHandler());
+    assertEquals(1, pool.getIdleCount());
+
+    assertSame(webView, pool.acquire(context));
+    assertEquals(1, pool.getHitCount());
+    assertEquals(0, pool.getMissCount());
+  }
+
+  @Test
+  public void acquireCreatesWebViewWhenPoolIsEmpty() {
+    final WebViewPool pool = new WebViewPool(context, this::createWebView);
+
+    assertNotNull(pool.acquire(context));
+    assertEquals(0, pool.getHitCount());
+    assertEquals(1, pool.getMissCount());
+  }
+
+  @Test
+  public void acquireDestroysWebViewOfAnotherContext() {
+    final WebViewProxyApi.WebViewPlatformView webView = createWebView();
+    final WebViewPool pool = new WebViewPool(context, () -> webView);
+    pool.setSize(1);
+    runIdleHandler();
+
+    final Context activity = mock(Context.class);
+    pool.acquire(activity);
+
+    verify(webView).destroy();
+    assertEquals(1, pool.getMissCount());
+  }
+
+  // Runs the idle handler that the pool added to fill itself, and returns whether it stays added.
+  private boolean runIdleHandler() {
+    final ArgumentCaptor<MessageQueue.IdleHandler> idleHandler =
+        ArgumentCaptor.forClass(MessageQueue.IdleHandler.class);
+    verify(messageQueue).addIdleHandler(idleHandler.capture());
+    return idleHandler.getValue().queueIdle();
+  }
+
+  private WebViewProxyApi.WebViewPlatformView createWebView() {
+    final WebViewProxyApi.WebViewPlatformView webView =
+        mock(WebViewProxyApi.WebViewPlatformView.class);
+    when(webView.getContext()).thenReturn(context);
+    return webView;
+  }
+}
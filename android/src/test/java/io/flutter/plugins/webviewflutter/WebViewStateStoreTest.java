@@ -0,0 +1,76 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+package io.flutter.plugins.webviewflutter;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import org.junit.Test;
+
+public class WebViewStateStoreTest {
+  @Test
+  public void unpackReturnsPackedEntries() throws IOException {
+    final byte[] history = new byte[4096];
+    for (int i = 0; i < history.length; i++) {
+      history[i] = (byte) (i % 16);
+    }
+    final Map<String, byte[]> entries = new LinkedHashMap<>();
+    entries.put("WEBVIEW_CHROMIUM_STATE", history);
+    entries.put("empty", new byte[0]);
+
+    final byte[] state = WebViewStateStore.pack(entries, 30);
+    final Map<String, byte[]> unpacked = WebViewStateStore.unpack(state, 30);
+
+    assertTrue(state.length < history.length);
+    assertEquals(entries.keySet(), unpacked.keySet());
+    assertArrayEquals(history, unpacked.get("WEBVIEW_CHROMIUM_STATE"));
+    assertArrayEquals(new byte[0], unpacked.get("empty"));
+  }
+
+  @Test
+  public void unpackIgnoresStateOfAnotherSdkVersion() throws IOException {
+    final byte[] state =
+        WebViewStateStore.pack(Collections.singletonMap("key", new byte[] {1, 2, 3}), 30);
+
+    assertNull(WebViewStateStore.unpack(state, 31));
+  }
+
+  @Test(expected = IOException.class)
+  public void unpackThrowsForOtherBytes() throws IOException {
+    WebViewStateStore.unpack(new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12}, 30);
+  }
+
+  @Test(expected = IOException.class)
+  public void unpackThrowsForOversizedEntry() throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    // The header of a valid state, followed by an entry claiming to be 2 GB.
+    bytes.write(WebViewStateStore.pack(Collections.emptyMap(), 30), 0, 8);
+    try (DataOutputStream output = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+      output.writeInt(1);
+      output.writeUTF("key");
+      output.writeInt(Integer.MAX_VALUE);
+    }
+
+    WebViewStateStore.unpack(bytes.toByteArray(), 30);
+  }
+
+  @Test(expected = IOException.class)
+  public void unpackThrowsForTruncatedState() throws IOException {
+    final byte[] state =
+        WebViewStateStore.pack(Collections.singletonMap("key", new byte[1024]), 30);
+
+    WebViewStateStore.unpack(Arrays.copyOf(state, 10), 30);
+  }
+}
@@ -218,6 +218,24 @@ public class WebViewTest {
     assertEquals(resultValue[0], result);
   }
 
+  @Test
+  public void saveStateReturnsNullWithoutState() {
+    final PigeonApiWebView api = new TestProxyApiRegistrar().getPigeonApiWebView();
+
+    final WebView instance = mock(WebView.class);
+    final byte[][] resultValue = {new byte[0]};
+    api.saveState(
+        instance,
+        ResultCompat.asCompatCallback(
+            reply -> {
+              resultValue[0] = reply.getOrNull();
+              return null;
+            }));
+
+    verify(instance).saveState(any());
+    assertEquals(null, resultValue[0]);
+  }
+
   @Test
   public void getTitle() {
     final PigeonApiWebView api = new TestProxyApiRegistrar().getPigeonApiWebView();
@@ -2,6 +2,8 @@
 // Use of this source code is governed by a BSD-style license that can be
 // found in the LICENSE file.
 
+import 'dart:typed_data';
+
 import 'android_webkit.g.dart';
 
 /// Handles constructing objects and calling static methods for the Android
@@ -23,6 +25,26 @@ class AndroidWebViewProxy {
     this.newWebChromeClient = WebChromeClient.new,
     this.setWebContentsDebuggingEnabledWebView =
         WebView.setWebContentsDebuggingEnabled,
+    this.setCallbackCoalescingWindowWebView =
+        WebView.setCallbackCoalescingWindow,
+    this.setPoolSizeWebView = WebView.setPoolSize,
+    this.getPoolStatsWebView = WebView.getPoolStats,
+    this.setBackgroundFinalizationSweepWebView =
+        WebView.setBackgroundFinalizationSweep,
+    this.getFinalizationSweepStatsWebView = WebView.getFinalizationSweepStats,
+    this.setPopupPolicyWebChromeClient = WebChromeClient.setPopupPolicy,
+    this.getPopupStatsWebChromeClient = WebChromeClient.getPopupStats,
+    this.setConsoleMessageFilterWebChromeClient =
+        WebChromeClient.setConsoleMessageFilter,
+    this.registerPaymentSchemeWebViewClient =
+        WebViewClient.registerPaymentScheme,
+    this.setLogLevelWebViewClient = WebViewClient.setLogLevel,
+    this.getRecentLogsWebViewClient = WebViewClient.getRecentLogs,
+    this.setInlineWebResourceRequestsWebViewClient =
+        WebViewClient.setInlineWebResourceRequests,
+    this.setInterceptRulesWebViewClient = WebViewClient.setInterceptRules,
+    this.registerSdkBundleWebViewClient = WebViewClient.registerSdkBundle,
+    this.updateSdkBundleWebViewClient = WebViewClient.updateSdkBundle,
     this.instanceCookieManager = _instanceCookieManager,
     this.instanceFlutterAssetManager = _instanceFlutterAssetManager,
     this.instanceWebStorage = _instanceWebStorage,
@@ -43,6 +65,8 @@ class AndroidWebViewProxy {
   final JavaScriptChannel Function({
     required String channelName,
     required void Function(JavaScriptChannel, String) postMessage,
+    void Function(JavaScriptChannel, Uint8List)? postBinaryMessage,
+    void Function(JavaScriptChannel, List<Object?>)? postMessages,
   }) newJavaScriptChannel;
 
   /// Constructs [WebViewClient].
@@ -100,6 +124,8 @@ class AndroidWebViewProxy {
     )? onGeolocationPermissionsShowPrompt,
     void Function(WebChromeClient)? onGeolocationPermissionsHidePrompt,
     void Function(WebChromeClient, ConsoleMessage)? onConsoleMessage,
+    void Function(WebChromeClient, List<ConsoleMessageData>)?
+        onConsoleMessages,
     Future<void> Function(WebChromeClient, WebView, String, String)? onJsAlert,
     Future<bool> Function(
       WebChromeClient,
@@ -119,6 +145,54 @@ class AndroidWebViewProxy {
   /// Calls to [WebView.setWebContentsDebuggingEnabled].
   final Future<void> Function(bool) setWebContentsDebuggingEnabledWebView;
 
+  /// Calls to [WebView.setCallbackCoalescingWindow].
+  final Future<void> Function(int) setCallbackCoalescingWindowWebView;
+
+  /// Calls to [WebView.setPoolSize].
+  final Future<int> Function(int) setPoolSizeWebView;
+
+  /// Calls to [WebView.getPoolStats].
+  final Future<Map<String, int>> Function() getPoolStatsWebView;
+
+  /// Calls to [WebView.setBackgroundFinalizationSweep].
+  final Future<void> Function(bool) setBackgroundFinalizationSweepWebView;
+
+  /// Calls to [WebView.getFinalizationSweepStats].
+  final Future<Map<String, int>> Function() getFinalizationSweepStatsWebView;
+
+  /// Calls to [WebChromeClient.setPopupPolicy].
+  final Future<void> Function(int, int, bool) setPopupPolicyWebChromeClient;
+
+  /// Calls to [WebChromeClient.getPopupStats].
+  final Future<Map<String, int>> Function() getPopupStatsWebChromeClient;
+
+  /// Calls to [WebChromeClient.setConsoleMessageFilter].
+  final Future<void> Function(bool, ConsoleMessageLevel, List<String>)
+      setConsoleMessageFilterWebChromeClient;
+
+  /// Calls to [WebViewClient.registerPaymentScheme].
+  final Future<void> Function(String, String?, bool)
+      registerPaymentSchemeWebViewClient;
+
+  /// Calls to [WebViewClient.setLogLevel].
+  final Future<void> Function(PluginLogLevel) setLogLevelWebViewClient;
+
+  /// Calls to [WebViewClient.getRecentLogs].
+  final Future<List<String>> Function() getRecentLogsWebViewClient;
+
+  /// Calls to [WebViewClient.setInlineWebResourceRequests].
+  final Future<void> Function(bool) setInlineWebResourceRequestsWebViewClient;
+
+  /// Calls to [WebViewClient.setInterceptRules].
+  final Future<void> Function(List<InterceptRule>)
+      setInterceptRulesWebViewClient;
+
+  /// Calls to [WebViewClient.registerSdkBundle].
+  final Future<void> Function(SdkBundle) registerSdkBundleWebViewClient;
+
+  /// Calls to [WebViewClient.updateSdkBundle].
+  final Future<bool> Function(String) updateSdkBundleWebViewClient;
+
   /// Calls to [CookieManager.instance].
   final CookieManager Function() instanceCookieManager;
 
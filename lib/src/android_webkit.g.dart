@@ -398,6 +398,20 @@ class _PigeonInternalProxyApiBaseCodec extends _PigeonCodec {
      case 128:
        return instanceManager
            .getInstanceWithWeakReference(readValue(buffer)! as int);
+     case 132:
+       // An inline request is never added to the instance manager, so callbacks
+       // receive a detached instance that carries every field.
+       final WebResourceRequestData data =
+           WebResourceRequestData.decode(readValue(buffer)!);
+       return WebResourceRequest.pigeon_detached(
+         pigeon_instanceManager: instanceManager,
+         url: data.url,
+         isForMainFrame: data.isForMainFrame,
+         isRedirect: data.isRedirect,
+         hasGesture: data.hasGesture,
+         method: data.method,
+         requestHeaders: data.requestHeaders,
+       );
      default:
        return super.readValueOfType(type, buffer);
    }
@@ -460,6 +474,217 @@ enum ConsoleMessageLevel {
   unknown,
 }
 
+/// How much the plugin logs while handling navigations and payment URLs.
+enum PluginLogLevel {
+  /// Nothing is logged and no log messages are built.
+  off,
+  /// Events are recorded in a fixed-size in-memory buffer.
+  buffer,
+  /// Events are recorded in the buffer and written to logcat.
+  logcat,
+}
+
+/// How an `InterceptRule` matches the URL of a request.
+enum InterceptMatchType {
+  /// The URL starts with the pattern.
+  prefix,
+  /// The host of the URL equals the pattern, ignoring case.
+  host,
+  /// The URL matches the pattern, in which `*` matches any run of characters.
+  glob,
+}
+
+/// What happens to a request matched by an `InterceptRule`.
+enum InterceptAction {
+  /// The request fails without reaching the network.
+  block,
+  /// The response is read from the Flutter asset named by the target.
+  asset,
+  /// The response is read from the file named by the target.
+  diskCache,
+  /// The request goes to the network.
+  ///
+  /// Used to exempt URLs from the rules that follow.
+  passThrough,
+}
+
+/// The values of a `WebResourceRequest`, sent inline with the callback that
+/// receives it.
+///
+/// Used instead of a proxied [WebResourceRequest] when
+/// `WebViewClient.setInlineWebResourceRequests` is enabled.
+class WebResourceRequestData {
+  WebResourceRequestData({
+    required this.url,
+    required this.isForMainFrame,
+    this.isRedirect,
+    required this.hasGesture,
+    required this.method,
+    this.requestHeaders,
+  });
+
+  String url;
+
+  bool isForMainFrame;
+
+  bool? isRedirect;
+
+  bool hasGesture;
+
+  String method;
+
+  Map<String, String>? requestHeaders;
+
+  Object encode() {
+    return <Object?>[
+      url,
+      isForMainFrame,
+      isRedirect,
+      hasGesture,
+      method,
+      requestHeaders,
+    ];
+  }
+
+  static WebResourceRequestData decode(Object result) {
+    result as List<Object?>;
+    return WebResourceRequestData(
+      url: result[0]! as String,
+      isForMainFrame: result[1]! as bool,
+      isRedirect: result[2] as bool?,
+      hasGesture: result[3]! as bool,
+      method: result[4]! as String,
+      requestHeaders: (result[5] as Map<Object?, Object?>?)?.cast<String, String>(),
+    );
+  }
+}
+
+/// A JavaScript console message that passed the console message filter, sent
+/// inline in a batch.
+///
+/// See `WebChromeClient.setConsoleMessageFilter`.
+class ConsoleMessageData {
+  ConsoleMessageData({
+    required this.lineNumber,
+    required this.message,
+    required this.level,
+    required this.sourceId,
+  });
+
+  int lineNumber;
+
+  String message;
+
+  ConsoleMessageLevel level;
+
+  String sourceId;
+
+  Object encode() {
+    return <Object?>[
+      lineNumber,
+      message,
+      level,
+      sourceId,
+    ];
+  }
+
+  static ConsoleMessageData decode(Object result) {
+    result as List<Object?>;
+    return ConsoleMessageData(
+      lineNumber: result[0]! as int,
+      message: result[1]! as String,
+      level: result[2]! as ConsoleMessageLevel,
+      sourceId: result[3]! as String,
+    );
+  }
+}
+
+/// A rule of the table used to answer `WebViewClient.shouldInterceptRequest`.
+///
+/// When [target] ends with `/`, it names a directory and the path of the
+/// request is resolved against it.
+class InterceptRule {
+  InterceptRule({
+    required this.matchType,
+    required this.pattern,
+    required this.action,
+    this.target,
+  });
+
+  InterceptMatchType matchType;
+
+  String pattern;
+
+  InterceptAction action;
+
+  String? target;
+
+  Object encode() {
+    return <Object?>[
+      matchType,
+      pattern,
+      action,
+      target,
+    ];
+  }
+
+  static InterceptRule decode(Object result) {
+    result as List<Object?>;
+    return InterceptRule(
+      matchType: result[0]! as InterceptMatchType,
+      pattern: result[1]! as String,
+      action: result[2]! as InterceptAction,
+      target: result[3] as String?,
+    );
+  }
+}
+
+/// Scripts and stylesheets that ship with the app as Flutter assets and are
+/// served in place of their URLs.
+///
+/// See `WebViewClient.registerSdkBundle`.
+class SdkBundle {
+  SdkBundle({
+    required this.name,
+    required this.version,
+    required this.assets,
+    required this.sha256,
+  });
+
+  /// Identifies the bundle.
+  String name;
+
+  /// The version of the files that ship with the app.
+  String version;
+
+  /// The Flutter asset that serves each URL.
+  Map<String, String> assets;
+
+  /// The SHA-256 digest, in hex, that a downloaded copy of each URL must have.
+  ///
+  /// `WebViewClient.updateSdkBundle` requires one for every URL.
+  Map<String, String> sha256;
+
+  Object encode() {
+    return <Object?>[
+      name,
+      version,
+      assets,
+      sha256,
+    ];
+  }
+
+  static SdkBundle decode(Object result) {
+    result as List<Object?>;
+    return SdkBundle(
+      name: result[0]! as String,
+      version: result[1]! as String,
+      assets: (result[2] as Map<Object?, Object?>?)!.cast<String, String>(),
+      sha256: (result[3] as Map<Object?, Object?>?)!.cast<String, String>(),
+    );
+  }
+}
+
 
 class _PigeonCodec extends StandardMessageCodec {
   const _PigeonCodec();
@@ -474,6 +699,27 @@ class _PigeonCodec extends StandardMessageCodec {
     }    else if (value is ConsoleMessageLevel) {
       buffer.putUint8(130);
       writeValue(buffer, value.index);
+    }    else if (value is PluginLogLevel) {
+      buffer.putUint8(131);
+      writeValue(buffer, value.index);
+    }    else if (value is WebResourceRequestData) {
+      buffer.putUint8(132);
+      writeValue(buffer, value.encode());
+    }    else if (value is ConsoleMessageData) {
+      buffer.putUint8(133);
+      writeValue(buffer, value.encode());
+    }    else if (value is InterceptMatchType) {
+      buffer.putUint8(134);
+      writeValue(buffer, value.index);
+    }    else if (value is InterceptAction) {
+      buffer.putUint8(135);
+      writeValue(buffer, value.index);
+    }    else if (value is InterceptRule) {
+      buffer.putUint8(136);
+      writeValue(buffer, value.encode());
+    }    else if (value is SdkBundle) {
+      buffer.putUint8(137);
+      writeValue(buffer, value.encode());
     } else {
       super.writeValue(buffer, value);
     }
@@ -488,6 +734,23 @@ class _PigeonCodec extends StandardMessageCodec {
       case 130: 
         final int? value = readValue(buffer) as int?;
         return value == null ? null : ConsoleMessageLevel.values[value];
+      case 131: 
+        final int? value = readValue(buffer) as int?;
+        return value == null ? null : PluginLogLevel.values[value];
+      case 132: 
+        return WebResourceRequestData.decode(readValue(buffer)!);
+      case 133: 
+        return ConsoleMessageData.decode(readValue(buffer)!);
+      case 134: 
+        final int? value = readValue(buffer) as int?;
+        return value == null ? null : InterceptMatchType.values[value];
+      case 135: 
+        final int? value = readValue(buffer) as int?;
+        return value == null ? null : InterceptAction.values[value];
+      case 136: 
+        return InterceptRule.decode(readValue(buffer)!);
+      case 137: 
+        return SdkBundle.decode(readValue(buffer)!);
       default:
         return super.readValueOfType(type, buffer);
     }
@@ -1297,6 +1560,99 @@ class CookieManager extends PigeonInternalProxyApiBaseClass {
     }
   }
 
+  /// Sets every cookie in [cookies], a map from URL to the cookies of the URL,
+  /// and then writes them to storage with one flush.
+  Future<void> setCookies(Map<String, List<String>> cookies) async {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _pigeonVar_codecCookieManager;
+    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
+    const String pigeonVar_channelName =
+        'dev.flutter.pigeon.bootpay_webview_flutter_android.CookieManager.setCookies';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList = await pigeonVar_channel
+        .send(<Object?>[this, cookies]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// Gets the cookies of each URL in [urls], in the format of the `Cookie`
+  /// HTTP request header, or null for a URL without cookies.
+  Future<Map<String, String?>> getCookies(List<String> urls) async {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _pigeonVar_codecCookieManager;
+    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
+    const String pigeonVar_channelName =
+        'dev.flutter.pigeon.bootpay_webview_flutter_android.CookieManager.getCookies';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[this, urls]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as Map<Object?, Object?>?)!
+          .cast<String, String?>();
+    }
+  }
+
+  /// Ensures all cookies currently accessible through the getCookie API are
+  /// written to persistent storage.
+  Future<void> flush() async {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _pigeonVar_codecCookieManager;
+    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
+    const String pigeonVar_channelName =
+        'dev.flutter.pigeon.bootpay_webview_flutter_android.CookieManager.flush';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[this]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
   @override
   CookieManager pigeon_copy() {
     return CookieManager.pigeon_detached(
@@ -2155,89 +2511,23 @@ class WebView extends View {
     }
   }
 
-  @override
-  WebView pigeon_copy() {
-    return WebView.pigeon_detached(
-      pigeon_binaryMessenger: pigeon_binaryMessenger,
-      pigeon_instanceManager: pigeon_instanceManager,
-      onScrollChanged: onScrollChanged,
-    );
-  }
-}
-
-/// Manages settings state for a `WebView`.
-///
-/// See https://developer.android.com/reference/android/webkit/WebSettings.
-class WebSettings extends PigeonInternalProxyApiBaseClass {
-  /// Constructs [WebSettings] without creating the associated native object.
+  /// Sets the window, in milliseconds, over which `onScrollChanged` and
+  /// `WebChromeClient.onProgressChanged` events are coalesced before being sent
+  /// to Dart.
   ///
-  /// This should only be used by subclasses created by this library or to
-  /// create copies for an [PigeonInstanceManager].
-  @protected
-  WebSettings.pigeon_detached({
-    super.pigeon_binaryMessenger,
-    super.pigeon_instanceManager,
-  });
-
-  late final _PigeonInternalProxyApiBaseCodec _pigeonVar_codecWebSettings =
-      _PigeonInternalProxyApiBaseCodec(pigeon_instanceManager);
-
-  static void pigeon_setUpMessageHandlers({
-    bool pigeon_clearHandlers = false,
+  /// Only the most recent value within a window is delivered. A value of 0
+  /// delivers every event as it happens, which is the default.
+  static Future<void> setCallbackCoalescingWindow(
+    int milliseconds, {
     BinaryMessenger? pigeon_binaryMessenger,
     PigeonInstanceManager? pigeon_instanceManager,
-    WebSettings Function()? pigeon_newInstance,
-  }) {
+  }) async {
     final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
         _PigeonInternalProxyApiBaseCodec(
             pigeon_instanceManager ?? PigeonInstanceManager.instance);
-    final BinaryMessenger? binaryMessenger = pigeon_binaryMessenger;
-    {
-      final BasicMessageChannel<
-          Object?> pigeonVar_channel = BasicMessageChannel<
-              Object?>(
-          'dev.flutter.pigeon.bootpay_webview_flutter_android.WebSettings.pigeon_newInstance',
-          pigeonChannelCodec,
-          binaryMessenger: binaryMessenger);
-      if (pigeon_clearHandlers) {
-        pigeonVar_channel.setMessageHandler(null);
-      } else {
-        pigeonVar_channel.setMessageHandler((Object? message) async {
-          assert(message != null,
-              'Argument for dev.flutter.pigeon.bootpay_webview_flutter_android.WebSettings.pigeon_newInstance was null.');
-          final List<Object?> args = (message as List<Object?>?)!;
-          final int? arg_pigeon_instanceIdentifier = (args[0] as int?);
-          assert(arg_pigeon_instanceIdentifier != null,
-              'Argument for dev.flutter.pigeon.bootpay_webview_flutter_android.WebSettings.pigeon_newInstance was null, expected non-null int.');
-          try {
-            (pigeon_instanceManager ?? PigeonInstanceManager.instance)
-                .addHostCreatedInstance(
-              pigeon_newInstance?.call() ??
-                  WebSettings.pigeon_detached(
-                    pigeon_binaryMessenger: pigeon_binaryMessenger,
-                    pigeon_instanceManager: pigeon_instanceManager,
-                  ),
-              arg_pigeon_instanceIdentifier!,
-            );
-            return wrapResponse(empty: true);
-          } on PlatformException catch (e) {
-            return wrapResponse(error: e);
-          } catch (e) {
-            return wrapResponse(
-                error: PlatformException(code: 'error', message: e.toString()));
-          }
-        });
-      }
-    }
-  }
-
-  /// Sets whether the DOM storage API is enabled.
-  Future<void> setDomStorageEnabled(bool flag) async {
-    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
-        _pigeonVar_codecWebSettings;
     final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
     const String pigeonVar_channelName =
-        'dev.flutter.pigeon.bootpay_webview_flutter_android.WebSettings.setDomStorageEnabled';
+        'dev.flutter.pigeon.bootpay_webview_flutter_android.WebView.setCallbackCoalescingWindow';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
@@ -2245,7 +2535,7 @@ class WebSettings extends PigeonInternalProxyApiBaseClass {
       binaryMessenger: pigeonVar_binaryMessenger,
     );
     final List<Object?>? pigeonVar_replyList =
-        await pigeonVar_channel.send(<Object?>[this, flag]) as List<Object?>?;
+        await pigeonVar_channel.send(<Object?>[milliseconds]) as List<Object?>?;
     if (pigeonVar_replyList == null) {
       throw _createConnectionError(pigeonVar_channelName);
     } else if (pigeonVar_replyList.length > 1) {
@@ -2259,13 +2549,26 @@ class WebSettings extends PigeonInternalProxyApiBaseClass {
     }
   }
 
-  /// Tells JavaScript to open windows automatically.
-  Future<void> setJavaScriptCanOpenWindowsAutomatically(bool flag) async {
+  /// Sets how many initialized `WebView`s are kept ready to be returned by the
+  /// default constructor.
+  ///
+  /// The pool is filled while the main thread is idle. `WebView`s are never
+  /// returned to it, so each pooled `WebView` is only used once. The size is
+  /// capped by the memory available to the app, and a size of 0 disables the
+  /// pool, which is the default.
+  ///
+  /// Returns the size that is used.
+  static Future<int> setPoolSize(
+    int size, {
+    BinaryMessenger? pigeon_binaryMessenger,
+    PigeonInstanceManager? pigeon_instanceManager,
+  }) async {
     final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
-        _pigeonVar_codecWebSettings;
+        _PigeonInternalProxyApiBaseCodec(
+            pigeon_instanceManager ?? PigeonInstanceManager.instance);
     final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
     const String pigeonVar_channelName =
-        'dev.flutter.pigeon.bootpay_webview_flutter_android.WebSettings.setJavaScriptCanOpenWindowsAutomatically';
+        'dev.flutter.pigeon.bootpay_webview_flutter_android.WebView.setPoolSize';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
@@ -2273,7 +2576,7 @@ class WebSettings extends PigeonInternalProxyApiBaseClass {
       binaryMessenger: pigeonVar_binaryMessenger,
     );
     final List<Object?>? pigeonVar_replyList =
-        await pigeonVar_channel.send(<Object?>[this, flag]) as List<Object?>?;
+        await pigeonVar_channel.send(<Object?>[size]) as List<Object?>?;
     if (pigeonVar_replyList == null) {
       throw _createConnectionError(pigeonVar_channelName);
     } else if (pigeonVar_replyList.length > 1) {
@@ -2282,16 +2585,408 @@ class WebSettings extends PigeonInternalProxyApiBaseClass {
         message: pigeonVar_replyList[1] as String?,
         details: pigeonVar_replyList[2],
       );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
     } else {
-      return;
+      return (pigeonVar_replyList[0] as int?)!;
     }
   }
 
-  /// Sets whether the WebView whether supports multiple windows.
-  Future<void> setSupportMultipleWindows(bool support) async {
+  /// Returns the number of pool `hits` and `misses`, the number of `idle`
+  /// `WebView`s and the estimated `timeSavedMillis` of the pool.
+  static Future<Map<String, int>> getPoolStats({
+    BinaryMessenger? pigeon_binaryMessenger,
+    PigeonInstanceManager? pigeon_instanceManager,
+  }) async {
     final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
-        _pigeonVar_codecWebSettings;
-    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
+        _PigeonInternalProxyApiBaseCodec(
+            pigeon_instanceManager ?? PigeonInstanceManager.instance);
+    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
+    const String pigeonVar_channelName =
+        'dev.flutter.pigeon.bootpay_webview_flutter_android.WebView.getPoolStats';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(null) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as Map<Object?, Object?>?)!
+          .cast<String, int>();
+    }
+  }
+
+  /// Sets whether garbage collected native objects are looked up on a
+  /// background thread instead of the main thread.
+  ///
+  /// Only the notification of the reclaimed identifiers is sent from the main
+  /// thread. Defaults to false.
+  static Future<void> setBackgroundFinalizationSweep(
+    bool enabled, {
+    BinaryMessenger? pigeon_binaryMessenger,
+    PigeonInstanceManager? pigeon_instanceManager,
+  }) async {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _PigeonInternalProxyApiBaseCodec(
+            pigeon_instanceManager ?? PigeonInstanceManager.instance);
+    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
+    const String pigeonVar_channelName =
+        'dev.flutter.pigeon.bootpay_webview_flutter_android.WebView.setBackgroundFinalizationSweep';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[enabled]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// Returns the number of finalization `sweeps`, the total, `lastReclaimed`
+  /// and `maxReclaimedPerSweep` number of `reclaimed` objects, the
+  /// `sweepTimeMicros` spent in sweeps and the current `intervalMillis`.
+  static Future<Map<String, int>> getFinalizationSweepStats({
+    BinaryMessenger? pigeon_binaryMessenger,
+    PigeonInstanceManager? pigeon_instanceManager,
+  }) async {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _PigeonInternalProxyApiBaseCodec(
+            pigeon_instanceManager ?? PigeonInstanceManager.instance);
+    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
+    const String pigeonVar_channelName =
+        'dev.flutter.pigeon.bootpay_webview_flutter_android.WebView.getFinalizationSweepStats';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(null) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as Map<Object?, Object?>?)!
+          .cast<String, int>();
+    }
+  }
+
+  /// Saves the back/forward list of this WebView, or returns null if there is
+  /// nothing to save.
+  ///
+  /// The state is converted to bytes on a background thread.
+  Future<Uint8List?> saveState() async {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _pigeonVar_codecWebView;
+    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
+    const String pigeonVar_channelName =
+        'dev.flutter.pigeon.bootpay_webview_flutter_android.WebView.saveState';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[this]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return (pigeonVar_replyList[0] as Uint8List?);
+    }
+  }
+
+  /// Saves the back/forward list of this WebView to the file at [path], and
+  /// returns whether there was anything to save.
+  ///
+  /// The file is written on a background thread.
+  Future<bool> saveStateToFile(String path) async {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _pigeonVar_codecWebView;
+    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
+    const String pigeonVar_channelName =
+        'dev.flutter.pigeon.bootpay_webview_flutter_android.WebView.saveStateToFile';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[this, path]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?)!;
+    }
+  }
+
+  /// Restores the back/forward list saved by [saveState], and returns whether
+  /// it could be restored.
+  ///
+  /// State saved by another version of Android can't be restored.
+  Future<bool> restoreState(Uint8List state) async {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _pigeonVar_codecWebView;
+    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
+    const String pigeonVar_channelName =
+        'dev.flutter.pigeon.bootpay_webview_flutter_android.WebView.restoreState';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[this, state]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?)!;
+    }
+  }
+
+  /// Restores the back/forward list saved by [saveStateToFile], and returns
+  /// whether it could be restored.
+  ///
+  /// The file is read on a background thread.
+  Future<bool> restoreStateFromFile(String path) async {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _pigeonVar_codecWebView;
+    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
+    const String pigeonVar_channelName =
+        'dev.flutter.pigeon.bootpay_webview_flutter_android.WebView.restoreStateFromFile';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[this, path]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?)!;
+    }
+  }
+
+  @override
+  WebView pigeon_copy() {
+    return WebView.pigeon_detached(
+      pigeon_binaryMessenger: pigeon_binaryMessenger,
+      pigeon_instanceManager: pigeon_instanceManager,
+      onScrollChanged: onScrollChanged,
+    );
+  }
+}
+
+/// Manages settings state for a `WebView`.
+///
+/// See https://developer.android.com/reference/android/webkit/WebSettings.
+class WebSettings extends PigeonInternalProxyApiBaseClass {
+  /// Constructs [WebSettings] without creating the associated native object.
+  ///
+  /// This should only be used by subclasses created by this library or to
+  /// create copies for an [PigeonInstanceManager].
+  @protected
+  WebSettings.pigeon_detached({
+    super.pigeon_binaryMessenger,
+    super.pigeon_instanceManager,
+  });
+
+  late final _PigeonInternalProxyApiBaseCodec _pigeonVar_codecWebSettings =
+      _PigeonInternalProxyApiBaseCodec(pigeon_instanceManager);
+
+  static void pigeon_setUpMessageHandlers({
+    bool pigeon_clearHandlers = false,
+    BinaryMessenger? pigeon_binaryMessenger,
+    PigeonInstanceManager? pigeon_instanceManager,
+    WebSettings Function()? pigeon_newInstance,
+  }) {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _PigeonInternalProxyApiBaseCodec(
+            pigeon_instanceManager ?? PigeonInstanceManager.instance);
+    final BinaryMessenger? binaryMessenger = pigeon_binaryMessenger;
+    {
+      final BasicMessageChannel<
+          Object?> pigeonVar_channel = BasicMessageChannel<
+              Object?>(
+          'dev.flutter.pigeon.bootpay_webview_flutter_android.WebSettings.pigeon_newInstance',
+          pigeonChannelCodec,
+          binaryMessenger: binaryMessenger);
+      if (pigeon_clearHandlers) {
+        pigeonVar_channel.setMessageHandler(null);
+      } else {
+        pigeonVar_channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.bootpay_webview_flutter_android.WebSettings.pigeon_newInstance was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final int? arg_pigeon_instanceIdentifier = (args[0] as int?);
+          assert(arg_pigeon_instanceIdentifier != null,
+              'Argument for dev.flutter.pigeon.bootpay_webview_flutter_android.WebSettings.pigeon_newInstance was null, expected non-null int.');
+          try {
+            (pigeon_instanceManager ?? PigeonInstanceManager.instance)
+                .addHostCreatedInstance(
+              pigeon_newInstance?.call() ??
+                  WebSettings.pigeon_detached(
+                    pigeon_binaryMessenger: pigeon_binaryMessenger,
+                    pigeon_instanceManager: pigeon_instanceManager,
+                  ),
+              arg_pigeon_instanceIdentifier!,
+            );
+            return wrapResponse(empty: true);
+          } on PlatformException catch (e) {
+            return wrapResponse(error: e);
+          } catch (e) {
+            return wrapResponse(
+                error: PlatformException(code: 'error', message: e.toString()));
+          }
+        });
+      }
+    }
+  }
+
+  /// Sets whether the DOM storage API is enabled.
+  Future<void> setDomStorageEnabled(bool flag) async {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _pigeonVar_codecWebSettings;
+    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
+    const String pigeonVar_channelName =
+        'dev.flutter.pigeon.bootpay_webview_flutter_android.WebSettings.setDomStorageEnabled';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[this, flag]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// Tells JavaScript to open windows automatically.
+  Future<void> setJavaScriptCanOpenWindowsAutomatically(bool flag) async {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _pigeonVar_codecWebSettings;
+    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
+    const String pigeonVar_channelName =
+        'dev.flutter.pigeon.bootpay_webview_flutter_android.WebSettings.setJavaScriptCanOpenWindowsAutomatically';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[this, flag]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// Sets whether the WebView whether supports multiple windows.
+  Future<void> setSupportMultipleWindows(bool support) async {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _pigeonVar_codecWebSettings;
+    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
     const String pigeonVar_channelName =
         'dev.flutter.pigeon.bootpay_webview_flutter_android.WebSettings.setSupportMultipleWindows';
     final BasicMessageChannel<Object?> pigeonVar_channel =
@@ -2708,6 +3403,8 @@ class JavaScriptChannel extends PigeonInternalProxyApiBaseClass {
     super.pigeon_instanceManager,
     required this.channelName,
     required this.postMessage,
+    this.postBinaryMessage,
+    this.postMessages,
   }) {
     final int pigeonVar_instanceIdentifier =
         pigeon_instanceManager.addDartCreatedInstance(this);
@@ -2750,6 +3447,8 @@ class JavaScriptChannel extends PigeonInternalProxyApiBaseClass {
     super.pigeon_instanceManager,
     required this.channelName,
     required this.postMessage,
+    this.postBinaryMessage,
+    this.postMessages,
   });
 
   late final _PigeonInternalProxyApiBaseCodec
@@ -2758,7 +3457,64 @@ class JavaScriptChannel extends PigeonInternalProxyApiBaseClass {
 
   final String channelName;
 
-  /// Handles callbacks messages from JavaScript.
+  /// Handles callbacks messages from JavaScript.
+  ///
+  /// While batching is enabled, messages are sent with [postMessages]
+  /// instead.
+  ///
+  /// For the associated Native object to be automatically garbage collected,
+  /// it is required that the implementation of this `Function` doesn't have a
+  /// strong reference to the encapsulating class instance. When this `Function`
+  /// references a non-local variable, it is strongly recommended to access it
+  /// with a `WeakReference`:
+  ///
+  /// ```dart
+  /// final WeakReference weakMyVariable = WeakReference(myVariable);
+  /// final JavaScriptChannel instance = JavaScriptChannel(
+  ///  postMessage: (JavaScriptChannel pigeon_instance, ...) {
+  ///    print(weakMyVariable?.target);
+  ///  },
+  /// );
+  /// ```
+  ///
+  /// Alternatively, [PigeonInstanceManager.removeWeakReference] can be used to
+  /// release the associated Native object manually.
+  final void Function(
+    JavaScriptChannel pigeon_instance,
+    String message,
+  ) postMessage;
+
+  /// Handles binary messages from JavaScript.
+  ///
+  /// JavaScript sends them base64 encoded with `postBinaryMessage`, and they
+  /// are decoded before they are sent to Dart.
+  ///
+  /// For the associated Native object to be automatically garbage collected,
+  /// it is required that the implementation of this `Function` doesn't have a
+  /// strong reference to the encapsulating class instance. When this `Function`
+  /// references a non-local variable, it is strongly recommended to access it
+  /// with a `WeakReference`:
+  ///
+  /// ```dart
+  /// final WeakReference weakMyVariable = WeakReference(myVariable);
+  /// final JavaScriptChannel instance = JavaScriptChannel(
+  ///  postBinaryMessage: (JavaScriptChannel pigeon_instance, ...) {
+  ///    print(weakMyVariable?.target);
+  ///  },
+  /// );
+  /// ```
+  ///
+  /// Alternatively, [PigeonInstanceManager.removeWeakReference] can be used to
+  /// release the associated Native object manually.
+  final void Function(
+    JavaScriptChannel pigeon_instance,
+    Uint8List message,
+  )? postBinaryMessage;
+
+  /// Handles a batch of messages from JavaScript, oldest first.
+  ///
+  /// Each message is a `String` or a `Uint8List`. Only called while batching
+  /// is enabled, see [setBatching].
   ///
   /// For the associated Native object to be automatically garbage collected,
   /// it is required that the implementation of this `Function` doesn't have a
@@ -2769,7 +3525,7 @@ class JavaScriptChannel extends PigeonInternalProxyApiBaseClass {
   /// ```dart
   /// final WeakReference weakMyVariable = WeakReference(myVariable);
   /// final JavaScriptChannel instance = JavaScriptChannel(
-  ///  postMessage: (JavaScriptChannel pigeon_instance, ...) {
+  ///  postMessages: (JavaScriptChannel pigeon_instance, ...) {
   ///    print(weakMyVariable?.target);
   ///  },
   /// );
@@ -2779,8 +3535,8 @@ class JavaScriptChannel extends PigeonInternalProxyApiBaseClass {
   /// release the associated Native object manually.
   final void Function(
     JavaScriptChannel pigeon_instance,
-    String message,
-  ) postMessage;
+    List<Object?> messages,
+  )? postMessages;
 
   static void pigeon_setUpMessageHandlers({
     bool pigeon_clearHandlers = false,
@@ -2790,6 +3546,14 @@ class JavaScriptChannel extends PigeonInternalProxyApiBaseClass {
       JavaScriptChannel pigeon_instance,
       String message,
     )? postMessage,
+    void Function(
+      JavaScriptChannel pigeon_instance,
+      Uint8List message,
+    )? postBinaryMessage,
+    void Function(
+      JavaScriptChannel pigeon_instance,
+      List<Object?> messages,
+    )? postMessages,
   }) {
     final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
         _PigeonInternalProxyApiBaseCodec(
@@ -2829,6 +3593,109 @@ class JavaScriptChannel extends PigeonInternalProxyApiBaseClass {
         });
       }
     }
+
+    {
+      final BasicMessageChannel<
+          Object?> pigeonVar_channel = BasicMessageChannel<
+              Object?>(
+          'dev.flutter.pigeon.bootpay_webview_flutter_android.JavaScriptChannel.postBinaryMessage',
+          pigeonChannelCodec,
+          binaryMessenger: binaryMessenger);
+      if (pigeon_clearHandlers) {
+        pigeonVar_channel.setMessageHandler(null);
+      } else {
+        pigeonVar_channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.bootpay_webview_flutter_android.JavaScriptChannel.postBinaryMessage was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final JavaScriptChannel? arg_pigeon_instance =
+              (args[0] as JavaScriptChannel?);
+          assert(arg_pigeon_instance != null,
+              'Argument for dev.flutter.pigeon.bootpay_webview_flutter_android.JavaScriptChannel.postBinaryMessage was null, expected non-null JavaScriptChannel.');
+          final Uint8List? arg_message = (args[1] as Uint8List?);
+          assert(arg_message != null,
+              'Argument for dev.flutter.pigeon.bootpay_webview_flutter_android.JavaScriptChannel.postBinaryMessage was null, expected non-null Uint8List.');
+          try {
+            (postBinaryMessage ?? arg_pigeon_instance!.postBinaryMessage)
+                ?.call(arg_pigeon_instance!, arg_message!);
+            return wrapResponse(empty: true);
+          } on PlatformException catch (e) {
+            return wrapResponse(error: e);
+          } catch (e) {
+            return wrapResponse(
+                error: PlatformException(code: 'error', message: e.toString()));
+          }
+        });
+      }
+    }
+
+    {
+      final BasicMessageChannel<
+          Object?> pigeonVar_channel = BasicMessageChannel<
+              Object?>(
+          'dev.flutter.pigeon.bootpay_webview_flutter_android.JavaScriptChannel.postMessages',
+          pigeonChannelCodec,
+          binaryMessenger: binaryMessenger);
+      if (pigeon_clearHandlers) {
+        pigeonVar_channel.setMessageHandler(null);
+      } else {
+        pigeonVar_channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.bootpay_webview_flutter_android.JavaScriptChannel.postMessages was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final JavaScriptChannel? arg_pigeon_instance =
+              (args[0] as JavaScriptChannel?);
+          assert(arg_pigeon_instance != null,
+              'Argument for dev.flutter.pigeon.bootpay_webview_flutter_android.JavaScriptChannel.postMessages was null, expected non-null JavaScriptChannel.');
+          final List<Object?>? arg_messages =
+              (args[1] as List<Object?>?)?.cast<Object?>();
+          assert(arg_messages != null,
+              'Argument for dev.flutter.pigeon.bootpay_webview_flutter_android.JavaScriptChannel.postMessages was null, expected non-null List<Object?>.');
+          try {
+            (postMessages ?? arg_pigeon_instance!.postMessages)
+                ?.call(arg_pigeon_instance!, arg_messages!);
+            return wrapResponse(empty: true);
+          } on PlatformException catch (e) {
+            return wrapResponse(error: e);
+          } catch (e) {
+            return wrapResponse(
+                error: PlatformException(code: 'error', message: e.toString()));
+          }
+        });
+      }
+    }
+  }
+
+  /// Sets whether messages are queued and sent to Dart in batches.
+  ///
+  /// A batch is sent once per frame, or as soon as it holds `maxBatchSize`
+  /// messages. Queued messages are sent immediately when batching is
+  /// disabled.
+  Future<void> setBatching(bool enabled, int maxBatchSize) async {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _pigeonVar_codecJavaScriptChannel;
+    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
+    const String pigeonVar_channelName =
+        'dev.flutter.pigeon.bootpay_webview_flutter_android.JavaScriptChannel.setBatching';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList = await pigeonVar_channel
+        .send(<Object?>[this, enabled, maxBatchSize]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
   }
 
   @override
@@ -2838,6 +3705,8 @@ class JavaScriptChannel extends PigeonInternalProxyApiBaseClass {
       pigeon_instanceManager: pigeon_instanceManager,
       channelName: channelName,
       postMessage: postMessage,
+      postBinaryMessage: postBinaryMessage,
+      postMessages: postMessages,
     );
   }
 }
@@ -3705,25 +4574,208 @@ class WebViewClient extends PigeonInternalProxyApiBaseClass {
     }
   }
 
-  /// Sets the required synchronous return value for the Java method,
-  /// `WebViewClient.shouldOverrideUrlLoading(...)`.
-  ///
-  /// The Java method, `WebViewClient.shouldOverrideUrlLoading(...)`, requires
-  /// a boolean to be returned and this method sets the returned value for all
-  /// calls to the Java method.
-  ///
-  /// Setting this to true causes the current [WebView] to abort loading any URL
-  /// received by [requestLoading] or [urlLoading], while setting this to false
-  /// causes the [WebView] to continue loading a URL as usual.
+  /// Sets the required synchronous return value for the Java method,
+  /// `WebViewClient.shouldOverrideUrlLoading(...)`.
+  ///
+  /// The Java method, `WebViewClient.shouldOverrideUrlLoading(...)`, requires
+  /// a boolean to be returned and this method sets the returned value for all
+  /// calls to the Java method.
+  ///
+  /// Setting this to true causes the current [WebView] to abort loading any URL
+  /// received by [requestLoading] or [urlLoading], while setting this to false
+  /// causes the [WebView] to continue loading a URL as usual.
+  ///
+  /// Defaults to false.
+  Future<void> setSynchronousReturnValueForShouldOverrideUrlLoading(
+      bool value) async {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _pigeonVar_codecWebViewClient;
+    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
+    const String pigeonVar_channelName =
+        'dev.flutter.pigeon.bootpay_webview_flutter_android.WebViewClient.setSynchronousReturnValueForShouldOverrideUrlLoading';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[this, value]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// Adds or replaces the payment app entry for URLs starting with `prefix`.
+  ///
+  /// `packageName` is used to open the app, or to send the user to the Play
+  /// Store when the app is not installed. `isSpecialCase` marks URLs that must
+  /// always be opened in an external app instead of the `WebView`.
+  static Future<void> registerPaymentScheme(
+    String prefix,
+    String? packageName,
+    bool isSpecialCase, {
+    BinaryMessenger? pigeon_binaryMessenger,
+    PigeonInstanceManager? pigeon_instanceManager,
+  }) async {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _PigeonInternalProxyApiBaseCodec(
+            pigeon_instanceManager ?? PigeonInstanceManager.instance);
+    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
+    const String pigeonVar_channelName =
+        'dev.flutter.pigeon.bootpay_webview_flutter_android.WebViewClient.registerPaymentScheme';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList = await pigeonVar_channel
+        .send(<Object?>[prefix, packageName, isSpecialCase]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// Sets how much the plugin logs while handling navigations and payment URLs.
+  ///
+  /// Defaults to [PluginLogLevel.off].
+  static Future<void> setLogLevel(
+    PluginLogLevel level, {
+    BinaryMessenger? pigeon_binaryMessenger,
+    PigeonInstanceManager? pigeon_instanceManager,
+  }) async {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _PigeonInternalProxyApiBaseCodec(
+            pigeon_instanceManager ?? PigeonInstanceManager.instance);
+    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
+    const String pigeonVar_channelName =
+        'dev.flutter.pigeon.bootpay_webview_flutter_android.WebViewClient.setLogLevel';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[level]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// Returns the events recorded while logging was enabled, oldest first.
+  static Future<List<String>> getRecentLogs({
+    BinaryMessenger? pigeon_binaryMessenger,
+    PigeonInstanceManager? pigeon_instanceManager,
+  }) async {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _PigeonInternalProxyApiBaseCodec(
+            pigeon_instanceManager ?? PigeonInstanceManager.instance);
+    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
+    const String pigeonVar_channelName =
+        'dev.flutter.pigeon.bootpay_webview_flutter_android.WebViewClient.getRecentLogs';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(null) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as List<Object?>?)!.cast<String>();
+    }
+  }
+
+  /// Sets whether `WebResourceRequest`s passed to callbacks are sent inline as
+  /// [WebResourceRequestData] instead of as proxied instances.
+  ///
+  /// Inline requests are not added to the instance manager. Defaults to false.
+  static Future<void> setInlineWebResourceRequests(
+    bool enabled, {
+    BinaryMessenger? pigeon_binaryMessenger,
+    PigeonInstanceManager? pigeon_instanceManager,
+  }) async {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _PigeonInternalProxyApiBaseCodec(
+            pigeon_instanceManager ?? PigeonInstanceManager.instance);
+    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
+    const String pigeonVar_channelName =
+        'dev.flutter.pigeon.bootpay_webview_flutter_android.WebViewClient.setInlineWebResourceRequests';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[enabled]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// Replaces the table of rules used to answer `shouldInterceptRequest`.
   ///
-  /// Defaults to false.
-  Future<void> setSynchronousReturnValueForShouldOverrideUrlLoading(
-      bool value) async {
+  /// The first rule that matches a request decides what happens to it. Requests
+  /// that match no rule go to the network.
+  static Future<void> setInterceptRules(
+    List<InterceptRule> rules, {
+    BinaryMessenger? pigeon_binaryMessenger,
+    PigeonInstanceManager? pigeon_instanceManager,
+  }) async {
     final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
-        _pigeonVar_codecWebViewClient;
+        _PigeonInternalProxyApiBaseCodec(
+            pigeon_instanceManager ?? PigeonInstanceManager.instance);
     final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
     const String pigeonVar_channelName =
-        'dev.flutter.pigeon.bootpay_webview_flutter_android.WebViewClient.setSynchronousReturnValueForShouldOverrideUrlLoading';
+        'dev.flutter.pigeon.bootpay_webview_flutter_android.WebViewClient.setInterceptRules';
     final BasicMessageChannel<Object?> pigeonVar_channel =
         BasicMessageChannel<Object?>(
       pigeonVar_channelName,
@@ -3731,7 +4783,41 @@ class WebViewClient extends PigeonInternalProxyApiBaseClass {
       binaryMessenger: pigeonVar_binaryMessenger,
     );
     final List<Object?>? pigeonVar_replyList =
-        await pigeonVar_channel.send(<Object?>[this, value]) as List<Object?>?;
+        await pigeonVar_channel.send(<Object?>[rules]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// Registers a bundle whose files are served without going to the network,
+  /// replacing a bundle with the same name.
+  static Future<void> registerSdkBundle(
+    SdkBundle bundle, {
+    BinaryMessenger? pigeon_binaryMessenger,
+    PigeonInstanceManager? pigeon_instanceManager,
+  }) async {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _PigeonInternalProxyApiBaseCodec(
+            pigeon_instanceManager ?? PigeonInstanceManager.instance);
+    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
+    const String pigeonVar_channelName =
+        'dev.flutter.pigeon.bootpay_webview_flutter_android.WebViewClient.registerSdkBundle';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[bundle]) as List<Object?>?;
     if (pigeonVar_replyList == null) {
       throw _createConnectionError(pigeonVar_channelName);
     } else if (pigeonVar_replyList.length > 1) {
@@ -3745,6 +4831,48 @@ class WebViewClient extends PigeonInternalProxyApiBaseClass {
     }
   }
 
+  /// Downloads the files of the bundle named [name] that changed on their
+  /// servers, and returns whether any did.
+  ///
+  /// Every URL must use HTTPS and have a pinned digest in [SdkBundle.sha256].
+  /// The new files are served once every file has been checked.
+  static Future<bool> updateSdkBundle(
+    String name, {
+    BinaryMessenger? pigeon_binaryMessenger,
+    PigeonInstanceManager? pigeon_instanceManager,
+  }) async {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _PigeonInternalProxyApiBaseCodec(
+            pigeon_instanceManager ?? PigeonInstanceManager.instance);
+    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
+    const String pigeonVar_channelName =
+        'dev.flutter.pigeon.bootpay_webview_flutter_android.WebViewClient.updateSdkBundle';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[name]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as bool?)!;
+    }
+  }
+
   @override
   WebViewClient pigeon_copy() {
     return WebViewClient.pigeon_detached(
@@ -3941,6 +5069,7 @@ class WebChromeClient extends PigeonInternalProxyApiBaseClass {
     this.onGeolocationPermissionsShowPrompt,
     this.onGeolocationPermissionsHidePrompt,
     this.onConsoleMessage,
+    this.onConsoleMessages,
     this.onJsAlert,
     this.onJsConfirm,
     this.onJsPrompt,
@@ -3991,6 +5120,7 @@ class WebChromeClient extends PigeonInternalProxyApiBaseClass {
     this.onGeolocationPermissionsShowPrompt,
     this.onGeolocationPermissionsHidePrompt,
     this.onConsoleMessage,
+    this.onConsoleMessages,
     this.onJsAlert,
     this.onJsConfirm,
     this.onJsPrompt,
@@ -4175,6 +5305,9 @@ class WebChromeClient extends PigeonInternalProxyApiBaseClass {
 
   /// Report a JavaScript console message to the host application.
   ///
+  /// While the console message filter is enabled, messages are reported with
+  /// [onConsoleMessages] instead.
+  ///
   /// For the associated Native object to be automatically garbage collected,
   /// it is required that the implementation of this `Function` doesn't have a
   /// strong reference to the encapsulating class instance. When this `Function`
@@ -4197,6 +5330,33 @@ class WebChromeClient extends PigeonInternalProxyApiBaseClass {
     ConsoleMessage message,
   )? onConsoleMessage;
 
+  /// Report a batch of JavaScript console messages that passed the console
+  /// message filter.
+  ///
+  /// Only called while the console message filter is enabled.
+  ///
+  /// For the associated Native object to be automatically garbage collected,
+  /// it is required that the implementation of this `Function` doesn't have a
+  /// strong reference to the encapsulating class instance. When this `Function`
+  /// references a non-local variable, it is strongly recommended to access it
+  /// with a `WeakReference`:
+  ///
+  /// ```dart
+  /// final WeakReference weakMyVariable = WeakReference(myVariable);
+  /// final WebChromeClient instance = WebChromeClient(
+  ///  onConsoleMessages: (WebChromeClient pigeon_instance, ...) {
+  ///    print(weakMyVariable?.target);
+  ///  },
+  /// );
+  /// ```
+  ///
+  /// Alternatively, [PigeonInstanceManager.removeWeakReference] can be used to
+  /// release the associated Native object manually.
+  final void Function(
+    WebChromeClient pigeon_instance,
+    List<ConsoleMessageData> messages,
+  )? onConsoleMessages;
+
   /// Notify the host application that the web page wants to display a
   /// JavaScript `alert()` dialog.
   ///
@@ -4315,6 +5475,10 @@ class WebChromeClient extends PigeonInternalProxyApiBaseClass {
       WebChromeClient pigeon_instance,
       ConsoleMessage message,
     )? onConsoleMessage,
+    void Function(
+      WebChromeClient pigeon_instance,
+      List<ConsoleMessageData> messages,
+    )? onConsoleMessages,
     Future<void> Function(
       WebChromeClient pigeon_instance,
       WebView webView,
@@ -4669,6 +5833,42 @@ class WebChromeClient extends PigeonInternalProxyApiBaseClass {
       }
     }
 
+    {
+      final BasicMessageChannel<
+          Object?> pigeonVar_channel = BasicMessageChannel<
+              Object?>(
+          'dev.flutter.pigeon.bootpay_webview_flutter_android.WebChromeClient.onConsoleMessages',
+          pigeonChannelCodec,
+          binaryMessenger: binaryMessenger);
+      if (pigeon_clearHandlers) {
+        pigeonVar_channel.setMessageHandler(null);
+      } else {
+        pigeonVar_channel.setMessageHandler((Object? message) async {
+          assert(message != null,
+              'Argument for dev.flutter.pigeon.bootpay_webview_flutter_android.WebChromeClient.onConsoleMessages was null.');
+          final List<Object?> args = (message as List<Object?>?)!;
+          final WebChromeClient? arg_pigeon_instance =
+              (args[0] as WebChromeClient?);
+          assert(arg_pigeon_instance != null,
+              'Argument for dev.flutter.pigeon.bootpay_webview_flutter_android.WebChromeClient.onConsoleMessages was null, expected non-null WebChromeClient.');
+          final List<ConsoleMessageData>? arg_messages =
+              (args[1] as List<Object?>?)?.cast<ConsoleMessageData>();
+          assert(arg_messages != null,
+              'Argument for dev.flutter.pigeon.bootpay_webview_flutter_android.WebChromeClient.onConsoleMessages was null, expected non-null List<ConsoleMessageData>.');
+          try {
+            (onConsoleMessages ?? arg_pigeon_instance!.onConsoleMessages)
+                ?.call(arg_pigeon_instance!, arg_messages!);
+            return wrapResponse(empty: true);
+          } on PlatformException catch (e) {
+            return wrapResponse(error: e);
+          } catch (e) {
+            return wrapResponse(
+                error: PlatformException(code: 'error', message: e.toString()));
+          }
+        });
+      }
+    }
+
     {
       final BasicMessageChannel<
           Object?> pigeonVar_channel = BasicMessageChannel<
@@ -5004,6 +6204,124 @@ class WebChromeClient extends PigeonInternalProxyApiBaseClass {
     }
   }
 
+  /// Sets how many popup windows may be open at once and how deeply they may
+  /// be nested, and whether the popups of a `WebView` are closed when it starts
+  /// loading a new page.
+  ///
+  /// Popups that exceed a limit are not opened. A negative limit means there is
+  /// no limit. Defaults to no limits and keeping popups open on navigation.
+  static Future<void> setPopupPolicy(
+    int maxDepth,
+    int maxCount,
+    bool closeOnNavigation, {
+    BinaryMessenger? pigeon_binaryMessenger,
+    PigeonInstanceManager? pigeon_instanceManager,
+  }) async {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _PigeonInternalProxyApiBaseCodec(
+            pigeon_instanceManager ?? PigeonInstanceManager.instance);
+    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
+    const String pigeonVar_channelName =
+        'dev.flutter.pigeon.bootpay_webview_flutter_android.WebChromeClient.setPopupPolicy';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList = await pigeonVar_channel
+        .send(<Object?>[maxDepth, maxCount, closeOnNavigation]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
+  /// Returns the number of `live` popups, the `depth` of the most nested one,
+  /// and the number of `opened`, `rejected` and `closedWithParent` popups.
+  static Future<Map<String, int>> getPopupStats({
+    BinaryMessenger? pigeon_binaryMessenger,
+    PigeonInstanceManager? pigeon_instanceManager,
+  }) async {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _PigeonInternalProxyApiBaseCodec(
+            pigeon_instanceManager ?? PigeonInstanceManager.instance);
+    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
+    const String pigeonVar_channelName =
+        'dev.flutter.pigeon.bootpay_webview_flutter_android.WebChromeClient.getPopupStats';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(null) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as Map<Object?, Object?>?)!
+          .cast<String, int>();
+    }
+  }
+
+  /// Sets whether console messages are filtered on the native side and sent
+  /// inline in batches of one per frame.
+  ///
+  /// Messages less severe than [minimumLevel], or whose source URL starts with
+  /// one of [excludedSourcePrefixes], are dropped without being sent.
+  static Future<void> setConsoleMessageFilter(
+    bool enabled,
+    ConsoleMessageLevel minimumLevel,
+    List<String> excludedSourcePrefixes, {
+    BinaryMessenger? pigeon_binaryMessenger,
+    PigeonInstanceManager? pigeon_instanceManager,
+  }) async {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _PigeonInternalProxyApiBaseCodec(
+            pigeon_instanceManager ?? PigeonInstanceManager.instance);
+    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
+    const String pigeonVar_channelName =
+        'dev.flutter.pigeon.bootpay_webview_flutter_android.WebChromeClient.setConsoleMessageFilter';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList = await pigeonVar_channel
+        .send(<Object?>[enabled, minimumLevel, excludedSourcePrefixes]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else {
+      return;
+    }
+  }
+
   @override
   WebChromeClient pigeon_copy() {
     return WebChromeClient.pigeon_detached(
@@ -5017,6 +6335,7 @@ class WebChromeClient extends PigeonInternalProxyApiBaseClass {
       onGeolocationPermissionsShowPrompt: onGeolocationPermissionsShowPrompt,
       onGeolocationPermissionsHidePrompt: onGeolocationPermissionsHidePrompt,
       onConsoleMessage: onConsoleMessage,
+      onConsoleMessages: onConsoleMessages,
       onJsAlert: onJsAlert,
       onJsConfirm: onJsConfirm,
       onJsPrompt: onJsPrompt,
@@ -5203,6 +6522,42 @@ class FlutterAssetManager extends PigeonInternalProxyApiBaseClass {
     }
   }
 
+  /// Returns the paths of all asset files under the given path, relative to
+  /// it.
+  ///
+  /// Asset directories are listed once and answered from memory afterwards.
+  Future<List<String>> listAll(String path) async {
+    final _PigeonInternalProxyApiBaseCodec pigeonChannelCodec =
+        _pigeonVar_codecFlutterAssetManager;
+    final BinaryMessenger? pigeonVar_binaryMessenger = pigeon_binaryMessenger;
+    const String pigeonVar_channelName =
+        'dev.flutter.pigeon.bootpay_webview_flutter_android.FlutterAssetManager.listAll';
+    final BasicMessageChannel<Object?> pigeonVar_channel =
+        BasicMessageChannel<Object?>(
+      pigeonVar_channelName,
+      pigeonChannelCodec,
+      binaryMessenger: pigeonVar_binaryMessenger,
+    );
+    final List<Object?>? pigeonVar_replyList =
+        await pigeonVar_channel.send(<Object?>[this, path]) as List<Object?>?;
+    if (pigeonVar_replyList == null) {
+      throw _createConnectionError(pigeonVar_channelName);
+    } else if (pigeonVar_replyList.length > 1) {
+      throw PlatformException(
+        code: pigeonVar_replyList[0]! as String,
+        message: pigeonVar_replyList[1] as String?,
+        details: pigeonVar_replyList[2],
+      );
+    } else if (pigeonVar_replyList[0] == null) {
+      throw PlatformException(
+        code: 'null-error',
+        message: 'Host platform returned null value for non-null return value.',
+      );
+    } else {
+      return (pigeonVar_replyList[0] as List<Object?>?)!.cast<String>();
+    }
+  }
+
   @override
   FlutterAssetManager pigeon_copy() {
     return FlutterAssetManager.pigeon_detached(
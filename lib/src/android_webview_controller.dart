@@ -206,30 +206,29 @@ class AndroidWebViewController extends PlatformWebViewController {
           final void Function(JavaScriptConsoleMessage)? callback =
               weakReference.target?._onConsoleLogCallback;
           if (callback != null) {
-            JavaScriptLogLevel logLevel;
-            switch (consoleMessage.level) {
-              // Android maps `console.debug` to `MessageLevel.TIP`, it seems
-              // `MessageLevel.DEBUG` if not being used.
-              case android_webview.ConsoleMessageLevel.debug:
-              case android_webview.ConsoleMessageLevel.tip:
-                logLevel = JavaScriptLogLevel.debug;
-              case android_webview.ConsoleMessageLevel.error:
-                logLevel = JavaScriptLogLevel.error;
-              case android_webview.ConsoleMessageLevel.warning:
-                logLevel = JavaScriptLogLevel.warning;
-              case android_webview.ConsoleMessageLevel.unknown:
-              case android_webview.ConsoleMessageLevel.log:
-                logLevel = JavaScriptLogLevel.log;
-            }
-
-            callback(JavaScriptConsoleMessage(
-              level: logLevel,
-              message: consoleMessage.message,
+            callback(_toJavaScriptConsoleMessage(
+              consoleMessage.level,
+              consoleMessage.message,
             ));
           }
         };
       },
     ),
+    onConsoleMessages: withWeakReferenceTo(
+      this,
+      (WeakReference<AndroidWebViewController> weakReference) {
+        return (android_webview.WebChromeClient webChromeClient,
+            List<android_webview.ConsoleMessageData> messages) {
+          final void Function(JavaScriptConsoleMessage)? callback =
+              weakReference.target?._onConsoleLogCallback;
+          if (callback != null) {
+            for (final android_webview.ConsoleMessageData data in messages) {
+              callback(_toJavaScriptConsoleMessage(data.level, data.message));
+            }
+          }
+        };
+      },
+    ),
     onPermissionRequest: withWeakReferenceTo(
       this,
       (WeakReference<AndroidWebViewController> weakReference) {
@@ -371,6 +370,321 @@ class AndroidWebViewController extends PlatformWebViewController {
     return webViewProxy.setWebContentsDebuggingEnabledWebView(enabled);
   }
 
+  /// Sets how long scroll position and loading progress changes are coalesced
+  /// before being delivered to their callbacks.
+  ///
+  /// Only the most recent change within each window is delivered, which limits
+  /// platform channel traffic during flings and page loads. A window of about
+  /// one frame (16ms) is usually enough. [Duration.zero] delivers every change
+  /// and is the default.
+  static Future<void> setCallbackCoalescingWindow(
+    Duration window, {
+    @visibleForTesting
+    AndroidWebViewProxy webViewProxy = const AndroidWebViewProxy(),
+  }) {
+    return webViewProxy
+        .setCallbackCoalescingWindowWebView(window.inMilliseconds);
+  }
+
+  /// Sets how many native web views are created ahead of time and kept ready
+  /// for new controllers.
+  ///
+  /// Creating the first web view of an app can take hundreds of milliseconds.
+  /// Pooled web views are created while the platform thread is idle, so a
+  /// controller created later starts without that delay. The pool is limited
+  /// by the memory available to the app and emptied when the system is low on
+  /// memory. A size of 0 disables the pool and is the default.
+  ///
+  /// Returns the pool size that is used after applying the memory limit.
+  static Future<int> setWebViewPoolSize(
+    int size, {
+    @visibleForTesting
+    AndroidWebViewProxy webViewProxy = const AndroidWebViewProxy(),
+  }) {
+    return webViewProxy.setPoolSizeWebView(size);
+  }
+
+  /// Returns how effective the pool set with [setWebViewPoolSize] has been.
+  static Future<AndroidWebViewPoolStats> getWebViewPoolStats({
+    @visibleForTesting
+    AndroidWebViewProxy webViewProxy = const AndroidWebViewProxy(),
+  }) async {
+    final Map<String, int> stats = await webViewProxy.getPoolStatsWebView();
+    return AndroidWebViewPoolStats(
+      hits: stats['hits'] ?? 0,
+      misses: stats['misses'] ?? 0,
+      idle: stats['idle'] ?? 0,
+      timeSaved: Duration(milliseconds: stats['timeSavedMillis'] ?? 0),
+    );
+  }
+
+  /// Limits the popup windows opened with `window.open`.
+  ///
+  /// At most [maxCount] popups may be open at once and they may be nested at
+  /// most [maxDepth] levels deep; a popup opened by a page that isn't a popup
+  /// is one level deep. Popups that exceed a limit are not opened, and a null
+  /// limit means there is no limit. When [closeOnNavigation] is true, the
+  /// popups of a web view are closed as soon as it starts loading a new page.
+  /// Payment pages often redirect while a card issuer popup is open, so this
+  /// is off by default. Popups are always closed when the web view that opened
+  /// them is destroyed or its platform view is disposed.
+  static Future<void> setPopupPolicy({
+    int? maxDepth,
+    int? maxCount,
+    bool closeOnNavigation = false,
+    @visibleForTesting
+    AndroidWebViewProxy webViewProxy = const AndroidWebViewProxy(),
+  }) {
+    return webViewProxy.setPopupPolicyWebChromeClient(
+      maxDepth ?? -1,
+      maxCount ?? -1,
+      closeOnNavigation,
+    );
+  }
+
+  /// Returns the popup windows that are open and how many were opened.
+  static Future<AndroidPopupStats> getPopupStats({
+    @visibleForTesting
+    AndroidWebViewProxy webViewProxy = const AndroidWebViewProxy(),
+  }) async {
+    final Map<String, int> stats =
+        await webViewProxy.getPopupStatsWebChromeClient();
+    return AndroidPopupStats(
+      live: stats['live'] ?? 0,
+      depth: stats['depth'] ?? 0,
+      opened: stats['opened'] ?? 0,
+      rejected: stats['rejected'] ?? 0,
+      closedWithParent: stats['closedWithParent'] ?? 0,
+    );
+  }
+
+  /// Sets whether garbage collected native objects are looked up on a
+  /// background thread.
+  ///
+  /// The lookup runs periodically, more often while many short-lived objects
+  /// such as resource requests and console messages are created and less
+  /// often while idle. Only the notification sent to Dart stays on the
+  /// platform thread. Defaults to false.
+  static Future<void> setBackgroundFinalizationSweep(
+    bool enabled, {
+    @visibleForTesting
+    AndroidWebViewProxy webViewProxy = const AndroidWebViewProxy(),
+  }) {
+    return webViewProxy.setBackgroundFinalizationSweepWebView(enabled);
+  }
+
+  /// Returns counters of the lookups for garbage collected native objects.
+  ///
+  /// The map contains the number of `sweeps`, the total `reclaimed` objects,
+  /// the `lastReclaimed` and `maxReclaimedPerSweep` objects of a single
+  /// sweep, the `sweepTimeMicros` spent sweeping and the current
+  /// `intervalMillis`.
+  static Future<Map<String, int>> getFinalizationSweepStats({
+    @visibleForTesting
+    AndroidWebViewProxy webViewProxy = const AndroidWebViewProxy(),
+  }) {
+    return webViewProxy.getFinalizationSweepStatsWebView();
+  }
+
+  /// Registers a payment app URL scheme that is opened outside of the web view.
+  ///
+  /// Navigations to URLs starting with [prefix] are launched with the app
+  /// identified by [packageName], or send the user to the Play Store when it is
+  /// not installed. Set [isSpecialCase] for schemes that must always leave the
+  /// web view. Registering an existing [prefix] replaces its entry.
+  static Future<void> registerPaymentScheme(
+    String prefix, {
+    String? packageName,
+    bool isSpecialCase = false,
+    @visibleForTesting
+    AndroidWebViewProxy webViewProxy = const AndroidWebViewProxy(),
+  }) {
+    return webViewProxy.registerPaymentSchemeWebViewClient(
+      prefix,
+      packageName,
+      isSpecialCase,
+    );
+  }
+
+  /// Sets how much the plugin logs while handling navigations and payment
+  /// URLs.
+  ///
+  /// Logging is off by default so that no log messages are built on the
+  /// navigation path. Recorded events can be read with [getRecentLogs].
+  static Future<void> setLogLevel(
+    AndroidWebViewLogLevel level, {
+    @visibleForTesting
+    AndroidWebViewProxy webViewProxy = const AndroidWebViewProxy(),
+  }) {
+    final android_webview.PluginLogLevel pluginLevel;
+    switch (level) {
+      case AndroidWebViewLogLevel.off:
+        pluginLevel = android_webview.PluginLogLevel.off;
+      case AndroidWebViewLogLevel.buffer:
+        pluginLevel = android_webview.PluginLogLevel.buffer;
+      case AndroidWebViewLogLevel.logcat:
+        pluginLevel = android_webview.PluginLogLevel.logcat;
+    }
+    return webViewProxy.setLogLevelWebViewClient(pluginLevel);
+  }
+
+  /// Returns the most recent events recorded by the plugin, oldest first.
+  ///
+  /// The list is empty while the log level is [AndroidWebViewLogLevel.off].
+  static Future<List<String>> getRecentLogs({
+    @visibleForTesting
+    AndroidWebViewProxy webViewProxy = const AndroidWebViewProxy(),
+  }) {
+    return webViewProxy.getRecentLogsWebViewClient();
+  }
+
+  /// Sets a filter that drops JavaScript console messages before they are sent
+  /// to Dart.
+  ///
+  /// While a filter is set, messages that pass it are delivered to
+  /// [setOnConsoleMessage] callbacks in batches of one platform channel message
+  /// per frame. Passing null removes the filter, after which every message is
+  /// sent on its own. No filter is set by default.
+  static Future<void> setConsoleMessageFilter(
+    AndroidConsoleMessageFilter? filter, {
+    @visibleForTesting
+    AndroidWebViewProxy webViewProxy = const AndroidWebViewProxy(),
+  }) {
+    final android_webview.ConsoleMessageLevel minimumLevel;
+    switch (filter?.minimumLevel) {
+      case JavaScriptLogLevel.error:
+        minimumLevel = android_webview.ConsoleMessageLevel.error;
+      case JavaScriptLogLevel.warning:
+        minimumLevel = android_webview.ConsoleMessageLevel.warning;
+      case JavaScriptLogLevel.debug:
+      case null:
+        minimumLevel = android_webview.ConsoleMessageLevel.debug;
+      default:
+        minimumLevel = android_webview.ConsoleMessageLevel.log;
+    }
+    return webViewProxy.setConsoleMessageFilterWebChromeClient(
+      filter != null,
+      minimumLevel,
+      filter?.excludedSourcePrefixes ?? const <String>[],
+    );
+  }
+
+  /// Sets the rules used to intercept the requests of every web view.
+  ///
+  /// The first rule that matches a request decides whether it is blocked,
+  /// served from a Flutter asset or a file, or sent to the network. Requests
+  /// that match no rule are sent to the network. Rules are matched natively,
+  /// without calling into Dart. Passing an empty list removes all rules.
+  static Future<void> setInterceptRules(
+    List<AndroidInterceptRule> rules, {
+    @visibleForTesting
+    AndroidWebViewProxy webViewProxy = const AndroidWebViewProxy(),
+  }) {
+    return webViewProxy.setInterceptRulesWebViewClient(
+      rules.map((AndroidInterceptRule rule) {
+        final android_webview.InterceptMatchType matchType;
+        switch (rule.match) {
+          case AndroidInterceptMatch.prefix:
+            matchType = android_webview.InterceptMatchType.prefix;
+          case AndroidInterceptMatch.host:
+            matchType = android_webview.InterceptMatchType.host;
+          case AndroidInterceptMatch.glob:
+            matchType = android_webview.InterceptMatchType.glob;
+        }
+        final android_webview.InterceptAction action;
+        switch (rule.action) {
+          case AndroidInterceptAction.block:
+            action = android_webview.InterceptAction.block;
+          case AndroidInterceptAction.asset:
+            action = android_webview.InterceptAction.asset;
+          case AndroidInterceptAction.diskCache:
+            action = android_webview.InterceptAction.diskCache;
+          case AndroidInterceptAction.passThrough:
+            action = android_webview.InterceptAction.passThrough;
+        }
+        return android_webview.InterceptRule(
+          matchType: matchType,
+          pattern: rule.pattern,
+          action: action,
+          target: rule.target,
+        );
+      }).toList(),
+    );
+  }
+
+  /// Serves the files of [bundle] from the app's assets instead of the
+  /// network, replacing a bundle with the same name.
+  ///
+  /// Newer files downloaded by [updateSdkBundle] for the same
+  /// [AndroidSdkBundle.version] are served instead of the assets. They are
+  /// discarded once a different version is registered.
+  static Future<void> registerSdkBundle(
+    AndroidSdkBundle bundle, {
+    @visibleForTesting
+    AndroidWebViewProxy webViewProxy = const AndroidWebViewProxy(),
+  }) {
+    return webViewProxy.registerSdkBundleWebViewClient(
+      android_webview.SdkBundle(
+        name: bundle.name,
+        version: bundle.version,
+        assets: bundle.assets,
+        sha256: bundle.sha256,
+      ),
+    );
+  }
+
+  /// Checks the files of the bundle named [name] for changes on their servers
+  /// and downloads the ones that changed.
+  ///
+  /// Returns whether any file changed. Each file is requested with the ETag the
+  /// server returned for the copy being served, so unchanged files are not
+  /// downloaded again. Every URL must use HTTPS, and every downloaded file must
+  /// have the digest pinned in [AndroidSdkBundle.sha256]. The new files are
+  /// only served once every file was checked successfully.
+  static Future<bool> updateSdkBundle(
+    String name, {
+    @visibleForTesting
+    AndroidWebViewProxy webViewProxy = const AndroidWebViewProxy(),
+  }) {
+    return webViewProxy.updateSdkBundleWebViewClient(name);
+  }
+
+  /// Sets whether navigation and error callbacks receive the values of their
+  /// `WebResourceRequest` inline.
+  ///
+  /// When enabled, the URL, method, headers and flags of each request are sent
+  /// with the callback itself instead of creating a native instance that Dart
+  /// tracks until it is garbage collected. This reduces the platform channel
+  /// traffic of pages that trigger many requests. Defaults to false.
+  static Future<void> setInlineWebResourceRequests(
+    bool enabled, {
+    @visibleForTesting
+    AndroidWebViewProxy webViewProxy = const AndroidWebViewProxy(),
+  }) {
+    return webViewProxy.setInlineWebResourceRequestsWebViewClient(enabled);
+  }
+
+  /// Returns the keys of all Flutter assets under the asset directory
+  /// [directory], e.g. `assets/web`, in one call.
+  ///
+  /// The app's assets are listed once per directory on the platform side and
+  /// answered from memory afterwards.
+  static Future<List<String>> listFlutterAssets(
+    String directory, {
+    @visibleForTesting
+    AndroidWebViewProxy webViewProxy = const AndroidWebViewProxy(),
+  }) async {
+    final android_webview.FlutterAssetManager assetManager =
+        webViewProxy.instanceFlutterAssetManager();
+    final String assetPath =
+        await assetManager.getAssetFilePathByName(directory);
+    final List<String> paths = await assetManager.listAll(assetPath);
+    final String prefix = directory.isEmpty || directory.endsWith('/')
+        ? directory
+        : '$directory/';
+    return paths.map((String path) => '$prefix$path').toList();
+  }
+
   /// Identifier used to retrieve the underlying native `WebView`.
   ///
   /// This is typically used by other plugins to retrieve the native `WebView`
@@ -516,7 +830,7 @@ class AndroidWebViewController extends PlatformWebViewController {
   @override
   Future<void> addJavaScriptChannel(
     JavaScriptChannelParams javaScriptChannelParams,
-  ) {
+  ) async {
     final AndroidJavaScriptChannelParams androidJavaScriptParams =
         javaScriptChannelParams is AndroidJavaScriptChannelParams
             ? javaScriptChannelParams
@@ -532,6 +846,12 @@ class AndroidWebViewController extends PlatformWebViewController {
     _javaScriptChannelParams[androidJavaScriptParams.name] =
         androidJavaScriptParams;
 
+    if (androidJavaScriptParams.batchMessages) {
+      await androidJavaScriptParams._javaScriptChannel.setBatching(
+        true,
+        androidJavaScriptParams.maxBatchSize,
+      );
+    }
     return _webView
         .addJavaScriptChannel(androidJavaScriptParams._javaScriptChannel);
   }
@@ -611,6 +931,34 @@ class AndroidWebViewController extends PlatformWebViewController {
   Future<void> setGeolocationEnabled(bool enabled) =>
       _webView.settings.setGeolocationEnabled(enabled);
 
+  /// Saves the back/forward list of the WebView, or returns null if nothing
+  /// has been loaded.
+  ///
+  /// Pass the result to [restoreState] to resume a session after Android
+  /// recreated the app, without loading every page of the session again. The
+  /// state can only be restored on the same version of Android.
+  Future<Uint8List?> saveState() => _webView.saveState();
+
+  /// Saves the back/forward list of the WebView to the file at [path], and
+  /// returns whether anything has been loaded to save.
+  ///
+  /// The file is replaced atomically, so a previous state survives a save that
+  /// is interrupted.
+  Future<bool> saveStateToFile(String path) => _webView.saveStateToFile(path);
+
+  /// Restores a back/forward list saved by [saveState], and returns whether it
+  /// could be restored.
+  ///
+  /// Call this before loading anything in the WebView.
+  Future<bool> restoreState(Uint8List state) => _webView.restoreState(state);
+
+  /// Restores a back/forward list saved by [saveStateToFile], and returns
+  /// whether it could be restored.
+  ///
+  /// Returns false if there is no file at [path].
+  Future<bool> restoreStateFromFile(String path) =>
+      _webView.restoreStateFromFile(path);
+
   /// Sets the callback that is invoked when the client should show a file
   /// selector.
   Future<void> setOnShowFileSelector(
@@ -731,6 +1079,28 @@ class AndroidWebViewController extends PlatformWebViewController {
     _onJavaScriptPrompt = onJavaScriptTextInputDialog;
     return _webChromeClient.setSynchronousReturnValueForOnJsPrompt(true);
   }
+
+  static JavaScriptConsoleMessage _toJavaScriptConsoleMessage(
+    android_webview.ConsoleMessageLevel level,
+    String message,
+  ) {
+    final JavaScriptLogLevel logLevel;
+    switch (level) {
+      // Android maps `console.debug` to `MessageLevel.TIP`, it seems
+      // `MessageLevel.DEBUG` if not being used.
+      case android_webview.ConsoleMessageLevel.debug:
+      case android_webview.ConsoleMessageLevel.tip:
+        logLevel = JavaScriptLogLevel.debug;
+      case android_webview.ConsoleMessageLevel.error:
+        logLevel = JavaScriptLogLevel.error;
+      case android_webview.ConsoleMessageLevel.warning:
+        logLevel = JavaScriptLogLevel.warning;
+      case android_webview.ConsoleMessageLevel.unknown:
+      case android_webview.ConsoleMessageLevel.log:
+        logLevel = JavaScriptLogLevel.log;
+    }
+    return JavaScriptConsoleMessage(level: logLevel, message: message);
+  }
 }
 
 /// Android implementation of [PlatformWebViewPermissionRequest].
@@ -816,6 +1186,193 @@ class GeolocationPermissionsResponse {
   final bool retain;
 }
 
+/// Metrics of the web view pool.
+///
+/// See [AndroidWebViewController.getWebViewPoolStats].
+@immutable
+class AndroidWebViewPoolStats {
+  /// Creates a [AndroidWebViewPoolStats].
+  const AndroidWebViewPoolStats({
+    required this.hits,
+    required this.misses,
+    required this.idle,
+    required this.timeSaved,
+  });
+
+  /// The number of web views that were taken from the pool.
+  final int hits;
+
+  /// The number of web views that had to be created because the pool was
+  /// empty.
+  final int misses;
+
+  /// The number of web views currently waiting in the pool.
+  final int idle;
+
+  /// The estimated time saved by taking web views from the pool.
+  final Duration timeSaved;
+}
+
+/// Popup windows opened by web views.
+///
+/// See [AndroidWebViewController.getPopupStats].
+@immutable
+class AndroidPopupStats {
+  /// Creates a [AndroidPopupStats].
+  const AndroidPopupStats({
+    required this.live,
+    required this.depth,
+    required this.opened,
+    required this.rejected,
+    required this.closedWithParent,
+  });
+
+  /// The number of popups that are currently open.
+  final int live;
+
+  /// How deeply the most nested open popup is nested.
+  final int depth;
+
+  /// The number of popups opened since the app started.
+  final int opened;
+
+  /// The number of popups that were not opened because of a limit set with
+  /// [AndroidWebViewController.setPopupPolicy].
+  final int rejected;
+
+  /// The number of popups closed because the web view that opened them was
+  /// destroyed, disposed or navigated away.
+  final int closedWithParent;
+}
+
+/// Scripts and stylesheets that ship with the app and are served in place of
+/// their URLs.
+///
+/// See [AndroidWebViewController.registerSdkBundle].
+@immutable
+class AndroidSdkBundle {
+  /// Creates a [AndroidSdkBundle].
+  const AndroidSdkBundle({
+    required this.name,
+    required this.version,
+    required this.assets,
+    this.sha256 = const <String, String>{},
+  });
+
+  /// Identifies the bundle.
+  final String name;
+
+  /// The version of the files that ship with the app.
+  final String version;
+
+  /// The Flutter asset that serves each URL.
+  final Map<String, String> assets;
+
+  /// The SHA-256 digest, in hex, that a downloaded copy of each URL must have.
+  ///
+  /// [AndroidWebViewController.updateSdkBundle] fails unless every URL has one.
+  /// Downloaded files are discarded when the bundle is registered again with
+  /// another digest for their URL.
+  final Map<String, String> sha256;
+}
+
+/// How an [AndroidInterceptRule] matches the URL of a request.
+enum AndroidInterceptMatch {
+  /// The URL starts with the pattern.
+  prefix,
+
+  /// The host of the URL equals the pattern, ignoring case.
+  host,
+
+  /// The URL matches the pattern, in which `*` matches any run of characters.
+  glob,
+}
+
+/// What happens to a request matched by an [AndroidInterceptRule].
+enum AndroidInterceptAction {
+  /// The request fails without reaching the network.
+  block,
+
+  /// The response is read from the Flutter asset named by the target.
+  asset,
+
+  /// The response is read from the file at the absolute path named by the
+  /// target.
+  diskCache,
+
+  /// The request is sent to the network.
+  ///
+  /// Used to exempt URLs from the rules that follow.
+  passThrough,
+}
+
+/// A rule used to intercept the requests of web views.
+///
+/// See [AndroidWebViewController.setInterceptRules].
+@immutable
+class AndroidInterceptRule {
+  /// Creates a [AndroidInterceptRule].
+  const AndroidInterceptRule({
+    required this.match,
+    required this.pattern,
+    required this.action,
+    this.target,
+  });
+
+  /// How [pattern] is matched against the URL of a request.
+  final AndroidInterceptMatch match;
+
+  /// The URL prefix, host or glob that requests are matched against.
+  final String pattern;
+
+  /// What happens to a matched request.
+  final AndroidInterceptAction action;
+
+  /// The Flutter asset or file that serves a matched request.
+  ///
+  /// When this ends with `/`, it names a directory, and the path of the
+  /// request is resolved against it: the part of the URL after the prefix for
+  /// [AndroidInterceptMatch.prefix] rules, and the path of the URL otherwise.
+  /// Requests for files that don't exist are sent to the network.
+  final String? target;
+}
+
+/// Which JavaScript console messages are sent to Dart.
+///
+/// See [AndroidWebViewController.setConsoleMessageFilter].
+@immutable
+class AndroidConsoleMessageFilter {
+  /// Creates a [AndroidConsoleMessageFilter].
+  const AndroidConsoleMessageFilter({
+    this.minimumLevel = JavaScriptLogLevel.debug,
+    this.excludedSourcePrefixes = const <String>[],
+  });
+
+  /// Messages less severe than this level are dropped.
+  ///
+  /// From least to most severe, the levels are debug, log, warning and error.
+  /// Info messages are treated as log messages.
+  final JavaScriptLogLevel minimumLevel;
+
+  /// Messages from a source URL starting with one of these are dropped.
+  final List<String> excludedSourcePrefixes;
+}
+
+/// How much the plugin logs while handling navigations and payment URLs.
+///
+/// See [AndroidWebViewController.setLogLevel].
+enum AndroidWebViewLogLevel {
+  /// Nothing is logged.
+  off,
+
+  /// Events are kept in a fixed-size in-memory buffer that can be read with
+  /// [AndroidWebViewController.getRecentLogs].
+  buffer,
+
+  /// Events are kept in the buffer and also written to logcat.
+  logcat,
+}
+
 /// Mode of how to select files for a file chooser.
 enum FileSelectorMode {
   /// Open single file and requires that the file exists before allowing the
@@ -884,12 +1441,23 @@ class FileSelectorParams {
 @immutable
 class AndroidJavaScriptChannelParams extends JavaScriptChannelParams {
   /// Constructs a [AndroidJavaScriptChannelParams].
+  ///
+  /// JavaScript can also send binary data to [onBinaryMessageReceived] by
+  /// passing it base64 encoded to `postBinaryMessage`. When [batchMessages] is
+  /// true, messages are queued on the platform side and sent to Dart once per
+  /// frame, or as soon as [maxBatchSize] messages are queued, instead of one
+  /// platform channel message each. This suits channels that stream many small
+  /// messages, such as telemetry.
   AndroidJavaScriptChannelParams({
     required super.name,
     required super.onMessageReceived,
+    void Function(Uint8List message)? onBinaryMessageReceived,
+    this.batchMessages = false,
+    this.maxBatchSize = 256,
     @visibleForTesting
     AndroidWebViewProxy webViewProxy = const AndroidWebViewProxy(),
   })  : assert(name.isNotEmpty),
+        assert(maxBatchSize > 0),
         _javaScriptChannel = webViewProxy.newJavaScriptChannel(
           channelName: name,
           postMessage: withWeakReferenceTo(
@@ -904,6 +1472,20 @@ class AndroidJavaScriptChannelParams extends JavaScriptChannelParams {
               };
             },
           ),
+          postBinaryMessage: onBinaryMessageReceived == null
+              ? null
+              : withWeakReferenceTo(
+                  onBinaryMessageReceived,
+                  (WeakReference<void Function(Uint8List)> weakReference) {
+                    return (_, Uint8List message) {
+                      weakReference.target?.call(message);
+                    };
+                  },
+                ),
+          postMessages: _postMessagesCallback(
+            onMessageReceived,
+            onBinaryMessageReceived,
+          ),
         );
 
   /// Constructs a [AndroidJavaScriptChannelParams] using a
@@ -918,7 +1500,38 @@ class AndroidJavaScriptChannelParams extends JavaScriptChannelParams {
           webViewProxy: webViewProxy,
         );
 
+  /// Whether messages are sent to Dart in batches.
+  final bool batchMessages;
+
+  /// The number of queued messages that causes a batch to be sent before the
+  /// next frame.
+  final int maxBatchSize;
+
   final android_webview.JavaScriptChannel _javaScriptChannel;
+
+  // Dispatches each message of a batch to the callback for its type. Like the
+  // single message callbacks, it only keeps weak references to the callbacks.
+  static void Function(android_webview.JavaScriptChannel, List<Object?>)
+      _postMessagesCallback(
+    void Function(JavaScriptMessage) onMessageReceived,
+    void Function(Uint8List)? onBinaryMessageReceived,
+  ) {
+    final WeakReference<void Function(JavaScriptMessage)> weakOnMessage =
+        WeakReference<void Function(JavaScriptMessage)>(onMessageReceived);
+    final WeakReference<void Function(Uint8List)>? weakOnBinaryMessage =
+        onBinaryMessageReceived == null
+            ? null
+            : WeakReference<void Function(Uint8List)>(onBinaryMessageReceived);
+    return (_, List<Object?> messages) {
+      for (final Object? message in messages) {
+        if (message is Uint8List) {
+          weakOnBinaryMessage?.target?.call(message);
+        } else if (message is String) {
+          weakOnMessage.target?.call(JavaScriptMessage(message: message));
+        }
+      }
+    };
+  }
 }
 
 /// Object specifying creation parameters for creating a [AndroidWebViewWidget].
@@ -53,14 +53,42 @@ class BootpayAndroidWebViewCookieManager extends PlatformWebViewCookieManager {
 
   @override
   Future<void> setCookie(WebViewCookie cookie) {
+    return _cookieManager.setCookie(cookie.domain, _cookieValue(cookie));
+  }
+
+  /// Sets every cookie in [cookies] with one platform call and then writes them
+  /// to storage with one flush.
+  ///
+  /// The returned future completes once the cookies are stored, which makes
+  /// this faster than calling [setCookie] for each cookie before loading a page
+  /// that needs them.
+  Future<void> setCookies(List<WebViewCookie> cookies) {
+    final Map<String, List<String>> cookiesByDomain = <String, List<String>>{};
+    for (final WebViewCookie cookie in cookies) {
+      (cookiesByDomain[cookie.domain] ??= <String>[]).add(_cookieValue(cookie));
+    }
+    return _cookieManager.setCookies(cookiesByDomain);
+  }
+
+  /// Gets the cookies of each URL in [urls] with one platform call.
+  ///
+  /// The cookies of a URL are in the format of the `Cookie` HTTP request
+  /// header, or null if it has none.
+  Future<Map<String, String?>> getCookies(List<String> urls) {
+    return _cookieManager.getCookies(urls);
+  }
+
+  /// Writes all cookies to persistent storage.
+  Future<void> flush() {
+    return _cookieManager.flush();
+  }
+
+  String _cookieValue(WebViewCookie cookie) {
     if (!_isValidPath(cookie.path)) {
       throw ArgumentError(
           'The path property for the provided cookie was not given a legal value.');
     }
-    return _cookieManager.setCookie(
-      cookie.domain,
-      '${Uri.encodeComponent(cookie.name)}=${Uri.encodeComponent(cookie.value)}; path=${cookie.path}',
-    );
+    return '${Uri.encodeComponent(cookie.name)}=${Uri.encodeComponent(cookie.value)}; path=${cookie.path}';
   }
 
   bool _isValidPath(String path) {
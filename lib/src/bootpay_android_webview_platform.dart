@@ -6,6 +6,7 @@ import 'package:bootpay_webview_flutter_platform_interface/bootpay_webview_flutt
 
 import 'android_webview_controller.dart';
 import 'android_webview_cookie_manager.dart';
+import 'finalized_instances_handler.dart';
 
 /// Implementation of [WebViewPlatform] using the WebKit API.
 class BootpayAndroidWebViewPlatform extends WebViewPlatform {
@@ -18,6 +19,7 @@ class BootpayAndroidWebViewPlatform extends WebViewPlatform {
   AndroidWebViewController createPlatformWebViewController(
     PlatformWebViewControllerCreationParams params,
   ) {
+    FinalizedInstancesHandler.ensureSetUp();
     return AndroidWebViewController(params);
   }
 
@@ -0,0 +1,54 @@
+// Copyright 2013 The Flutter Authors. All rights reserved.
+// Use of this source code is governed by a BSD-style license that can be
+// found in the LICENSE file.
+
+import 'package:flutter/foundation.dart';
+import 'package:flutter/services.dart';
+
+import 'android_webkit.g.dart';
+
+/// Removes the native instances reclaimed by one finalization sweep from the
+/// [PigeonInstanceManager] in a single message.
+///
+/// The native side is `FinalizedInstancesChannel`. It sends one message per
+/// identifier with the generated `removeStrongReference` instead, until this
+/// handler is set up.
+class FinalizedInstancesHandler {
+  FinalizedInstancesHandler._();
+
+  /// The name of the channel the identifiers are sent on.
+  @visibleForTesting
+  static const String channelName =
+      'kr.co.bootpay.webviewflutter/removeStrongReferences';
+
+  static bool _isSetUp = false;
+
+  /// Sets up the handler, unless it already is.
+  static void ensureSetUp() {
+    if (_isSetUp) {
+      return;
+    }
+    _isSetUp = true;
+    setUp(ServicesBinding.instance.defaultBinaryMessenger);
+  }
+
+  /// Sets up the handler on [binaryMessenger].
+  @visibleForTesting
+  static void setUp(
+    BinaryMessenger binaryMessenger, {
+    PigeonInstanceManager? instanceManager,
+  }) {
+    BasicMessageChannel<Object?>(
+      channelName,
+      const StandardMessageCodec(),
+      binaryMessenger: binaryMessenger,
+    ).setMessageHandler((Object? message) async {
+      final PigeonInstanceManager manager =
+          instanceManager ?? PigeonInstanceManager.instance;
+      for (final int identifier in message! as List<int>) {
+        manager.remove(identifier);
+      }
+      return true;
+    });
+  }
+}
@@ -80,6 +80,133 @@ enum ConsoleMessageLevel {
   unknown,
 }
 
+/// How much the plugin logs while handling navigations and payment URLs.
+enum PluginLogLevel {
+  /// Nothing is logged and no log messages are built.
+  off,
+
+  /// Events are recorded in a fixed-size in-memory buffer.
+  buffer,
+
+  /// Events are recorded in the buffer and written to logcat.
+  logcat,
+}
+
+/// How an `InterceptRule` matches the URL of a request.
+enum InterceptMatchType {
+  /// The URL starts with the pattern.
+  prefix,
+
+  /// The host of the URL equals the pattern, ignoring case.
+  host,
+
+  /// The URL matches the pattern, in which `*` matches any run of characters.
+  glob,
+}
+
+/// What happens to a request matched by an `InterceptRule`.
+enum InterceptAction {
+  /// The request fails without reaching the network.
+  block,
+
+  /// The response is read from the Flutter asset named by the target.
+  asset,
+
+  /// The response is read from the file named by the target.
+  diskCache,
+
+  /// The request goes to the network.
+  ///
+  /// Used to exempt URLs from the rules that follow.
+  passThrough,
+}
+
+/// The values of a `WebResourceRequest`, sent inline with the callback that
+/// receives it.
+///
+/// Used instead of a proxied [WebResourceRequest] when
+/// `WebViewClient.setInlineWebResourceRequests` is enabled.
+class WebResourceRequestData {
+  WebResourceRequestData({
+    required this.url,
+    required this.isForMainFrame,
+    this.isRedirect,
+    required this.hasGesture,
+    required this.method,
+    this.requestHeaders,
+  });
+
+  String url;
+  bool isForMainFrame;
+  bool? isRedirect;
+  bool hasGesture;
+  String method;
+  Map<String, String>? requestHeaders;
+}
+
+/// A JavaScript console message that passed the console message filter, sent
+/// inline in a batch.
+///
+/// See `WebChromeClient.setConsoleMessageFilter`.
+class ConsoleMessageData {
+  ConsoleMessageData({
+    required this.lineNumber,
+    required this.message,
+    required this.level,
+    required this.sourceId,
+  });
+
+  int lineNumber;
+  String message;
+  ConsoleMessageLevel level;
+  String sourceId;
+}
+
+/// A rule of the table used to answer `WebViewClient.shouldInterceptRequest`.
+///
+/// When [target] ends with `/`, it names a directory and the path of the
+/// request is resolved against it.
+class InterceptRule {
+  InterceptRule({
+    required this.matchType,
+    required this.pattern,
+    required this.action,
+    this.target,
+  });
+
+  InterceptMatchType matchType;
+  String pattern;
+  InterceptAction action;
+  String? target;
+}
+
+/// Scripts and stylesheets that ship with the app as Flutter assets and are
+/// served in place of their URLs.
+///
+/// See `WebViewClient.registerSdkBundle`.
+class SdkBundle {
+  SdkBundle({
+    required this.name,
+    required this.version,
+    required this.assets,
+    required this.sha256,
+  });
+
+  /// Identifies the bundle.
+  String name;
+
+  /// The version of the files that ship with the app.
+  String version;
+
+  /// The Flutter asset that serves each URL.
+  Map<String, String> assets;
+
+  /// The SHA-256 digest, in hex, that a downloaded copy of each URL must have.
+  ///
+  /// `WebViewClient.updateSdkBundle` requires one for every URL.
+  Map<String, String> sha256;
+}
+
 /// Encompasses parameters to the `WebViewClient.shouldInterceptRequest` method.
 ///
 /// See https://developer.android.com/reference/android/webkit/WebResourceRequest.
@@ -193,14 +320,33 @@ abstract class CookieManager {
   late CookieManager instance;
 
   /// Sets a single cookie (key-value pair) for the given URL.
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   void setCookie(String url, String value);
 
   /// Removes all cookies.
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   @async
   bool removeAllCookies();
 
   /// Sets whether the `WebView` should allow third party cookies to be set.
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
+  @async
   void setAcceptThirdPartyCookies(WebView webView, bool accept);
+
+  /// Sets every cookie in [cookies], a map from URL to the cookies of the URL,
+  /// and then writes them to storage with one flush.
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
+  void setCookies(Map<String, List<String>> cookies);
+
+  /// Gets the cookies of each URL in [urls], in the format of the `Cookie`
+  /// HTTP request header, or null for a URL without cookies.
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
+  Map<String, String?> getCookies(List<String> urls);
+
+  /// Ensures all cookies currently accessible through the getCookie API are
+  /// written to persistent storage.
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
+  void flush();
 }
 
 /// A View that displays web pages.
@@ -302,6 +448,74 @@ abstract class WebView extends View {
 
   /// Destroys the internal state of this WebView.
   void destroy();
+
+  /// Sets the window, in milliseconds, over which `onScrollChanged` and
+  /// `WebChromeClient.onProgressChanged` events are coalesced before being sent
+  /// to Dart.
+  ///
+  /// Only the most recent value within a window is delivered. A value of 0
+  /// delivers every event as it happens, which is the default.
+  @static
+  void setCallbackCoalescingWindow(int milliseconds);
+
+  /// Sets how many initialized `WebView`s are kept ready to be returned by the
+  /// default constructor.
+  ///
+  /// The pool is filled while the main thread is idle. `WebView`s are never
+  /// returned to it, so each pooled `WebView` is only used once. The size is
+  /// capped by the memory available to the app, and a size of 0 disables the
+  /// pool, which is the default.
+  ///
+  /// Returns the size that is used.
+  @static
+  int setPoolSize(int size);
+
+  /// Returns the number of pool `hits` and `misses`, the number of `idle`
+  /// `WebView`s and the estimated `timeSavedMillis` of the pool.
+  @static
+  Map<String, int> getPoolStats();
+
+  /// Sets whether garbage collected native objects are looked up on a
+  /// background thread instead of the main thread.
+  ///
+  /// Only the notification of the reclaimed identifiers is sent from the main
+  /// thread. Defaults to false.
+  @static
+  void setBackgroundFinalizationSweep(bool enabled);
+
+  /// Returns the number of finalization `sweeps`, the total, `lastReclaimed`
+  /// and `maxReclaimedPerSweep` number of `reclaimed` objects, the
+  /// `sweepTimeMicros` spent in sweeps and the current `intervalMillis`.
+  @static
+  Map<String, int> getFinalizationSweepStats();
+
+  /// Saves the back/forward list of this WebView, or returns null if there is
+  /// nothing to save.
+  ///
+  /// The state is converted to bytes on a background thread.
+  @async
+  Uint8List? saveState();
+
+  /// Saves the back/forward list of this WebView to the file at [path], and
+  /// returns whether there was anything to save.
+  ///
+  /// The file is written on a background thread.
+  @async
+  bool saveStateToFile(String path);
+
+  /// Restores the back/forward list saved by [saveState], and returns whether
+  /// it could be restored.
+  ///
+  /// State saved by another version of Android can't be restored.
+  @async
+  bool restoreState(Uint8List state);
+
+  /// Restores the back/forward list saved by [saveStateToFile], and returns
+  /// whether it could be restored.
+  ///
+  /// The file is read on a background thread.
+  @async
+  bool restoreStateFromFile(String path);
 }
 
 /// Manages settings state for a `WebView`.
@@ -379,7 +593,29 @@ abstract class JavaScriptChannel {
   late final String channelName;
 
   /// Handles callbacks messages from JavaScript.
+  ///
+  /// While batching is enabled, messages are sent with [postMessages]
+  /// instead.
   late void Function(String message) postMessage;
+
+  /// Handles binary messages from JavaScript.
+  ///
+  /// JavaScript sends them base64 encoded with `postBinaryMessage`, and they
+  /// are decoded before they are sent to Dart.
+  late void Function(Uint8List message)? postBinaryMessage;
+
+  /// Handles a batch of messages from JavaScript, oldest first.
+  ///
+  /// Each message is a `String` or a `Uint8List`. Only called while batching
+  /// is enabled, see [setBatching].
+  late void Function(List<Object?> messages)? postMessages;
+
+  /// Sets whether messages are queued and sent to Dart in batches.
+  ///
+  /// A batch is sent once per frame, or as soon as it holds `maxBatchSize`
+  /// messages. Queued messages are sent immediately when batching is
+  /// disabled.
+  void setBatching(bool enabled, int maxBatchSize);
 }
 
 /// Receives various notifications and requests from a `WebView`.
@@ -469,6 +705,56 @@ abstract class WebViewClient {
   ///
   /// Defaults to false.
   void setSynchronousReturnValueForShouldOverrideUrlLoading(bool value);
+
+  /// Adds or replaces the payment app entry for URLs starting with `prefix`.
+  ///
+  /// `packageName` is used to open the app, or to send the user to the Play
+  /// Store when the app is not installed. `isSpecialCase` marks URLs that must
+  /// always be opened in an external app instead of the `WebView`.
+  @static
+  void registerPaymentScheme(
+    String prefix,
+    String? packageName,
+    bool isSpecialCase,
+  );
+
+  /// Sets how much the plugin logs while handling navigations and payment URLs.
+  ///
+  /// Defaults to [PluginLogLevel.off].
+  @static
+  void setLogLevel(PluginLogLevel level);
+
+  /// Returns the events recorded while logging was enabled, oldest first.
+  @static
+  List<String> getRecentLogs();
+
+  /// Sets whether `WebResourceRequest`s passed to callbacks are sent inline as
+  /// [WebResourceRequestData] instead of as proxied instances.
+  ///
+  /// Inline requests are not added to the instance manager. Defaults to false.
+  @static
+  void setInlineWebResourceRequests(bool enabled);
+
+  /// Replaces the table of rules used to answer `shouldInterceptRequest`.
+  ///
+  /// The first rule that matches a request decides what happens to it. Requests
+  /// that match no rule go to the network.
+  @static
+  void setInterceptRules(List<InterceptRule> rules);
+
+  /// Registers a bundle whose files are served without going to the network,
+  /// replacing a bundle with the same name.
+  @static
+  void registerSdkBundle(SdkBundle bundle);
+
+  /// Downloads the files of the bundle named [name] that changed on their
+  /// servers, and returns whether any did.
+  ///
+  /// Every URL must use HTTPS and have a pinned digest in [SdkBundle.sha256].
+  /// The new files are served once every file has been checked.
+  @static
+  @async
+  bool updateSdkBundle(String name);
 }
 
 /// Handles notifications that a file should be downloaded.
@@ -544,8 +830,17 @@ abstract class WebChromeClient {
   late void Function()? onGeolocationPermissionsHidePrompt;
 
   /// Report a JavaScript console message to the host application.
+  ///
+  /// While the console message filter is enabled, messages are reported with
+  /// [onConsoleMessages] instead.
   late void Function(ConsoleMessage message)? onConsoleMessage;
 
+  /// Report a batch of JavaScript console messages that passed the console
+  /// message filter.
+  ///
+  /// Only called while the console message filter is enabled.
+  late void Function(List<ConsoleMessageData> messages)? onConsoleMessages;
+
   /// Notify the host application that the web page wants to display a
   /// JavaScript `alert()` dialog.
   @async
@@ -642,6 +937,32 @@ abstract class WebChromeClient {
   ///
   /// Defaults to false.
   void setSynchronousReturnValueForOnJsPrompt(bool value);
+
+  /// Sets how many popup windows may be open at once and how deeply they may
+  /// be nested, and whether the popups of a `WebView` are closed when it starts
+  /// loading a new page.
+  ///
+  /// Popups that exceed a limit are not opened. A negative limit means there is
+  /// no limit. Defaults to no limits and keeping popups open on navigation.
+  @static
+  void setPopupPolicy(int maxDepth, int maxCount, bool closeOnNavigation);
+
+  /// Returns the number of `live` popups, the `depth` of the most nested one,
+  /// and the number of `opened`, `rejected` and `closedWithParent` popups.
+  @static
+  Map<String, int> getPopupStats();
+
+  /// Sets whether console messages are filtered on the native side and sent
+  /// inline in batches of one per frame.
+  ///
+  /// Messages less severe than [minimumLevel], or whose source URL starts with
+  /// one of [excludedSourcePrefixes], are dropped without being sent.
+  @static
+  void setConsoleMessageFilter(
+    bool enabled,
+    ConsoleMessageLevel minimumLevel,
+    List<String> excludedSourcePrefixes,
+  );
 }
 
 /// Provides access to the assets registered as part of the App bundle.
@@ -660,6 +981,7 @@ abstract class FlutterAssetManager {
   /// Returns a String array of all the assets at the given path.
   ///
   /// Throws an IOException in case I/O operations were interrupted.
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   List<String> list(String path);
 
   /// Gets the relative file path to the Flutter asset with the given name, including the file's
@@ -669,7 +991,15 @@ abstract class FlutterAssetManager {
   /// directory. Therefore, the returned path is appropriate to pass to
   /// Android's AssetManager, but the path is not appropriate to load as an
   /// absolute path.
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   String getAssetFilePathByName(String name);
+
+  /// Returns the paths of all asset files under the given path, relative to
+  /// it.
+  ///
+  /// Asset directories are listed once and answered from memory afterwards.
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
+  List<String> listAll(String path);
 }
 
 /// This class is used to manage the JavaScript storage APIs provided by the
@@ -686,6 +1016,8 @@ abstract class WebStorage {
   late WebStorage instance;
 
   /// Clears all storage currently being used by the JavaScript storage APIs.
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
+  @async
   void deleteAllData();
 }
 
@@ -681,6 +681,7 @@ class CapturingWebChromeClient extends android_webview.WebChromeClient {
     super.onHideCustomView,
     super.onPermissionRequest,
     super.onConsoleMessage,
+    super.onConsoleMessages,
     super.onJsAlert,
     super.onJsConfirm,
     super.onJsPrompt,
@@ -68,6 +68,9 @@ void main() {
       void Function(
               android_webview.WebChromeClient, android_webview.ConsoleMessage)?
           onConsoleMessage,
+      void Function(android_webview.WebChromeClient,
+              List<android_webview.ConsoleMessageData>)?
+          onConsoleMessages,
       Future<void> Function(android_webview.WebChromeClient,
               android_webview.WebView, String, String)?
           onJsAlert,
@@ -127,6 +130,9 @@ void main() {
                     void Function(android_webview.WebChromeClient,
                             android_webview.ConsoleMessage)?
                         onConsoleMessage,
+                    void Function(android_webview.WebChromeClient,
+                            List<android_webview.ConsoleMessageData>)?
+                        onConsoleMessages,
                     Future<void> Function(android_webview.WebChromeClient,
                             android_webview.WebView, String, String)?
                         onJsAlert,
@@ -205,6 +211,9 @@ void main() {
                 required void Function(
                         android_webview.JavaScriptChannel, String)
                     postMessage,
+                void Function(android_webview.JavaScriptChannel, Uint8List)?
+                    postBinaryMessage,
+                dynamic postMessages,
               }) =>
                   mockJavaScriptChannel ?? MockJavaScriptChannel(),
             ));
@@ -229,6 +238,9 @@ void main() {
               required String channelName,
               required void Function(android_webview.JavaScriptChannel, String)
                   postMessage,
+              void Function(android_webview.JavaScriptChannel, Uint8List)?
+                  postBinaryMessage,
+              dynamic postMessages,
             }) =>
                 mockJavaScriptChannel ?? MockJavaScriptChannel(),
           ));
@@ -672,6 +684,7 @@ void main() {
           dynamic onShowCustomView,
           dynamic onHideCustomView,
           dynamic onConsoleMessage,
+          dynamic onConsoleMessages,
           dynamic onJsAlert,
           dynamic onJsConfirm,
           dynamic onJsPrompt,
@@ -736,6 +749,7 @@ void main() {
           dynamic onShowCustomView,
           dynamic onHideCustomView,
           dynamic onConsoleMessage,
+          dynamic onConsoleMessages,
           dynamic onJsAlert,
           dynamic onJsConfirm,
           dynamic onJsPrompt,
@@ -810,6 +824,7 @@ void main() {
           void Function(android_webview.WebChromeClient instance)?
               onHideCustomView,
           dynamic onConsoleMessage,
+          dynamic onConsoleMessages,
         }) {
           onShowCustomViewHandle = onShowCustomView!;
           onHideCustomViewHandle = onHideCustomView!;
@@ -868,6 +883,7 @@ void main() {
           dynamic onShowCustomView,
           dynamic onHideCustomView,
           dynamic onConsoleMessage,
+          dynamic onConsoleMessages,
           dynamic onJsAlert,
           dynamic onJsConfirm,
           dynamic onJsPrompt,
@@ -927,6 +943,7 @@ void main() {
           dynamic onShowCustomView,
           dynamic onHideCustomView,
           dynamic onConsoleMessage,
+          dynamic onConsoleMessages,
           dynamic onJsAlert,
           dynamic onJsConfirm,
           dynamic onJsPrompt,
@@ -983,6 +1000,7 @@ void main() {
             dynamic onJsConfirm,
             dynamic onJsPrompt,
             dynamic onConsoleMessage,
+            dynamic onConsoleMessages,
           }) {
             onJsAlertCallback = onJsAlert!;
             return mockWebChromeClient;
@@ -1030,6 +1048,7 @@ void main() {
                 onJsConfirm,
             dynamic onJsPrompt,
             dynamic onConsoleMessage,
+            dynamic onConsoleMessages,
           }) {
             onJsConfirmCallback = onJsConfirm!;
             return mockWebChromeClient;
@@ -1080,6 +1099,7 @@ void main() {
               String defaultText,
             )? onJsPrompt,
             dynamic onConsoleMessage,
+            dynamic onConsoleMessages,
           }) {
             onJsPromptCallback = onJsPrompt!;
             return mockWebChromeClient;
@@ -1135,6 +1155,7 @@ void main() {
             android_webview.WebChromeClient,
             android_webview.ConsoleMessage,
           )? onConsoleMessage,
+          dynamic onConsoleMessages,
         }) {
           onConsoleMessageCallback = onConsoleMessage!;
           return mockWebChromeClient;
@@ -1218,6 +1239,72 @@ void main() {
       expect(logs['Unknown message'], JavaScriptLogLevel.log);
     });
 
+    test('setOnConsoleLogCallback receives batched messages', () async {
+      late final void Function(
+        android_webview.WebChromeClient instance,
+        List<android_webview.ConsoleMessageData> messages,
+      ) onConsoleMessagesCallback;
+
+      final MockWebChromeClient mockWebChromeClient = MockWebChromeClient();
+      final AndroidWebViewController controller = createControllerWithMocks(
+        createWebChromeClient: ({
+          dynamic onProgressChanged,
+          dynamic onShowFileChooser,
+          dynamic onGeolocationPermissionsShowPrompt,
+          dynamic onGeolocationPermissionsHidePrompt,
+          dynamic onPermissionRequest,
+          dynamic onShowCustomView,
+          dynamic onHideCustomView,
+          dynamic onJsAlert,
+          dynamic onJsConfirm,
+          dynamic onJsPrompt,
+          dynamic onConsoleMessage,
+          void Function(
+            android_webview.WebChromeClient,
+            List<android_webview.ConsoleMessageData>,
+          )? onConsoleMessages,
+        }) {
+          onConsoleMessagesCallback = onConsoleMessages!;
+          return mockWebChromeClient;
+        },
+      );
+
+      final List<JavaScriptConsoleMessage> logs = <JavaScriptConsoleMessage>[];
+      await controller.setOnConsoleMessage(
+        (JavaScriptConsoleMessage message) async {
+          logs.add(message);
+        },
+      );
+
+      onConsoleMessagesCallback(
+        mockWebChromeClient,
+        <android_webview.ConsoleMessageData>[
+          android_webview.ConsoleMessageData(
+            lineNumber: 1,
+            message: 'Tip message',
+            level: android_webview.ConsoleMessageLevel.tip,
+            sourceId: 'source',
+          ),
+          android_webview.ConsoleMessageData(
+            lineNumber: 2,
+            message: 'Error message',
+            level: android_webview.ConsoleMessageLevel.error,
+            sourceId: 'source',
+          ),
+        ],
+      );
+
+      expect(logs.map((JavaScriptConsoleMessage log) => log.message),
+          <String>['Tip message', 'Error message']);
+      expect(
+        logs.map((JavaScriptConsoleMessage log) => log.level),
+        <JavaScriptLogLevel>[
+          JavaScriptLogLevel.debug,
+          JavaScriptLogLevel.error,
+        ],
+      );
+    });
+
     test('runJavaScript', () async {
       final MockWebView mockWebView = MockWebView();
       final AndroidWebViewController controller = createControllerWithMocks(
@@ -1340,6 +1427,46 @@ void main() {
       ]);
     });
 
+    test('JavaScript channel dispatches batched messages by type', () {
+      late final void Function(
+        android_webview.JavaScriptChannel,
+        List<Object?>,
+      ) postMessagesCallback;
+      final List<String> messages = <String>[];
+      final List<Uint8List> binaryMessages = <Uint8List>[];
+
+      AndroidJavaScriptChannelParams(
+        name: 'test',
+        onMessageReceived: (JavaScriptMessage message) {
+          messages.add(message.message);
+        },
+        onBinaryMessageReceived: binaryMessages.add,
+        batchMessages: true,
+        webViewProxy: AndroidWebViewProxy(
+          newJavaScriptChannel: ({
+            required String channelName,
+            required void Function(android_webview.JavaScriptChannel, String)
+                postMessage,
+            dynamic postBinaryMessage,
+            void Function(android_webview.JavaScriptChannel, List<Object?>)?
+                postMessages,
+          }) {
+            postMessagesCallback = postMessages!;
+            return MockJavaScriptChannel();
+          },
+        ),
+      );
+
+      final Uint8List bytes = Uint8List.fromList(<int>[1, 2, 3]);
+      postMessagesCallback(
+        MockJavaScriptChannel(),
+        <Object?>['first', bytes, 'second'],
+      );
+
+      expect(messages, <String>['first', 'second']);
+      expect(binaryMessages, <Uint8List>[bytes]);
+    });
+
     test('removeJavaScriptChannel when channel is not registered', () async {
       final MockWebView mockWebView = MockWebView();
       final AndroidWebViewController controller = createControllerWithMocks(
@@ -1379,6 +1506,31 @@ void main() {
       verify(mockWebView.getTitle()).called(1);
     });
 
+    test('saveState', () async {
+      final MockWebView mockWebView = MockWebView();
+      final AndroidWebViewController controller = createControllerWithMocks(
+        mockWebView: mockWebView,
+      );
+
+      final Uint8List state = Uint8List.fromList(<int>[1, 2, 3]);
+      when(mockWebView.saveState()).thenAnswer((_) async => state);
+
+      expect(await controller.saveState(), state);
+    });
+
+    test('restoreStateFromFile', () async {
+      final MockWebView mockWebView = MockWebView();
+      final AndroidWebViewController controller = createControllerWithMocks(
+        mockWebView: mockWebView,
+      );
+
+      when(mockWebView.restoreStateFromFile('state')).thenAnswer(
+        (_) async => true,
+      );
+
+      expect(await controller.restoreStateFromFile('state'), isTrue);
+    });
+
     test('scrollTo', () async {
       final MockWebView mockWebView = MockWebView();
       final AndroidWebViewController controller = createControllerWithMocks(
@@ -1760,6 +1912,7 @@ void main() {
               onShowCustomView,
           dynamic onHideCustomView,
           dynamic onConsoleMessage,
+          dynamic onConsoleMessages,
           dynamic onJsAlert,
           dynamic onJsConfirm,
           dynamic onJsPrompt,
@@ -2086,6 +2239,7 @@ class TestWebChromeClient extends android_webview.WebChromeClient {
     super.onGeolocationPermissionsShowPrompt,
     super.onGeolocationPermissionsHidePrompt,
     super.onConsoleMessage,
+    super.onConsoleMessages,
     super.onJsAlert,
     super.onJsConfirm,
     super.onJsPrompt,
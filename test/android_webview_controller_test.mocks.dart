@@ -994,18 +994,34 @@ class MockAndroidWebViewProxy extends _i1.Mock
   @override
   _i2.JavaScriptChannel Function({
     required String channelName,
+    void Function(
+      _i2.JavaScriptChannel,
+      _i13.Uint8List,
+    )? postBinaryMessage,
     required void Function(
       _i2.JavaScriptChannel,
       String,
     ) postMessage,
+    void Function(
+      _i2.JavaScriptChannel,
+      List<Object?>,
+    )? postMessages,
   }) get newJavaScriptChannel => (super.noSuchMethod(
         Invocation.getter(#newJavaScriptChannel),
         returnValue: ({
           required String channelName,
+          void Function(
+            _i2.JavaScriptChannel,
+            _i13.Uint8List,
+          )? postBinaryMessage,
           required void Function(
             _i2.JavaScriptChannel,
             String,
           ) postMessage,
+          void Function(
+            _i2.JavaScriptChannel,
+            List<Object?>,
+          )? postMessages,
         }) =>
             _FakeJavaScriptChannel_8(
           this,
@@ -1013,10 +1029,18 @@ class MockAndroidWebViewProxy extends _i1.Mock
         ),
         returnValueForMissingStub: ({
           required String channelName,
+          void Function(
+            _i2.JavaScriptChannel,
+            _i13.Uint8List,
+          )? postBinaryMessage,
           required void Function(
             _i2.JavaScriptChannel,
             String,
           ) postMessage,
+          void Function(
+            _i2.JavaScriptChannel,
+            List<Object?>,
+          )? postMessages,
         }) =>
             _FakeJavaScriptChannel_8(
           this,
@@ -1024,10 +1048,18 @@ class MockAndroidWebViewProxy extends _i1.Mock
         ),
       ) as _i2.JavaScriptChannel Function({
         required String channelName,
+        void Function(
+          _i2.JavaScriptChannel,
+          _i13.Uint8List,
+        )? postBinaryMessage,
         required void Function(
           _i2.JavaScriptChannel,
           String,
         ) postMessage,
+        void Function(
+          _i2.JavaScriptChannel,
+          List<Object?>,
+        )? postMessages,
       }));
 
   @override
@@ -1334,6 +1366,10 @@ class MockAndroidWebViewProxy extends _i1.Mock
       _i2.WebChromeClient,
       _i2.ConsoleMessage,
     )? onConsoleMessage,
+    void Function(
+      _i2.WebChromeClient,
+      List<_i2.ConsoleMessageData>,
+    )? onConsoleMessages,
     void Function(_i2.WebChromeClient)? onGeolocationPermissionsHidePrompt,
     void Function(
       _i2.WebChromeClient,
@@ -1386,6 +1422,10 @@ class MockAndroidWebViewProxy extends _i1.Mock
             _i2.WebChromeClient,
             _i2.ConsoleMessage,
           )? onConsoleMessage,
+          void Function(
+            _i2.WebChromeClient,
+            List<_i2.ConsoleMessageData>,
+          )? onConsoleMessages,
           void Function(_i2.WebChromeClient)?
               onGeolocationPermissionsHidePrompt,
           void Function(
@@ -1442,6 +1482,10 @@ class MockAndroidWebViewProxy extends _i1.Mock
             _i2.WebChromeClient,
             _i2.ConsoleMessage,
           )? onConsoleMessage,
+          void Function(
+            _i2.WebChromeClient,
+            List<_i2.ConsoleMessageData>,
+          )? onConsoleMessages,
           void Function(_i2.WebChromeClient)?
               onGeolocationPermissionsHidePrompt,
           void Function(
@@ -1498,6 +1542,10 @@ class MockAndroidWebViewProxy extends _i1.Mock
           _i2.WebChromeClient,
           _i2.ConsoleMessage,
         )? onConsoleMessage,
+        void Function(
+          _i2.WebChromeClient,
+          List<_i2.ConsoleMessageData>,
+        )? onConsoleMessages,
         void Function(_i2.WebChromeClient)? onGeolocationPermissionsHidePrompt,
         void Function(
           _i2.WebChromeClient,
@@ -3037,6 +3085,42 @@ class MockWebView extends _i1.Mock implements _i2.WebView {
         returnValueForMissingStub: _i8.Future<void>.value(),
       ) as _i8.Future<void>);
 
+  @override
+  _i8.Future<_i13.Uint8List?> saveState() => (super.noSuchMethod(
+        Invocation.method(
+          #saveState,
+          [],
+        ),
+        returnValue: _i8.Future<_i13.Uint8List?>.value(),
+      ) as _i8.Future<_i13.Uint8List?>);
+
+  @override
+  _i8.Future<bool> saveStateToFile(String? path) => (super.noSuchMethod(
+        Invocation.method(
+          #saveStateToFile,
+          [path],
+        ),
+        returnValue: _i8.Future<bool>.value(false),
+      ) as _i8.Future<bool>);
+
+  @override
+  _i8.Future<bool> restoreState(_i13.Uint8List? state) => (super.noSuchMethod(
+        Invocation.method(
+          #restoreState,
+          [state],
+        ),
+        returnValue: _i8.Future<bool>.value(false),
+      ) as _i8.Future<bool>);
+
+  @override
+  _i8.Future<bool> restoreStateFromFile(String? path) => (super.noSuchMethod(
+        Invocation.method(
+          #restoreStateFromFile,
+          [path],
+        ),
+        returnValue: _i8.Future<bool>.value(false),
+      ) as _i8.Future<bool>);
+
   @override
   _i2.WebView pigeon_copy() => (super.noSuchMethod(
         Invocation.method(
@@ -80,6 +80,46 @@ void main() {
     ));
   });
 
+  test('setCookies should set the cookies of every domain in one call',
+      () async {
+    final android_webview.CookieManager mockCookieManager = MockCookieManager();
+    final AndroidWebViewCookieManagerCreationParams params =
+        AndroidWebViewCookieManagerCreationParams
+            .fromPlatformWebViewCookieManagerCreationParams(
+                const PlatformWebViewCookieManagerCreationParams());
+
+    await BootpayAndroidWebViewCookieManager(params,
+            cookieManager: mockCookieManager)
+        .setCookies(const <WebViewCookie>[
+      WebViewCookie(name: 'a', value: '1', domain: 'flutter.dev'),
+      WebViewCookie(name: 'b', value: '2', domain: 'dart.dev'),
+      WebViewCookie(name: 'c', value: '3', domain: 'flutter.dev'),
+    ]);
+
+    verify(mockCookieManager.setCookies(<String, List<String>>{
+      'flutter.dev': <String>['a=1; path=/', 'c=3; path=/'],
+      'dart.dev': <String>['b=2; path=/'],
+    }));
+  });
+
+  test('getCookies', () async {
+    final android_webview.CookieManager mockCookieManager = MockCookieManager();
+    when(mockCookieManager.getCookies(<String>['flutter.dev'])).thenAnswer(
+      (_) async => <String, String?>{'flutter.dev': 'a=1'},
+    );
+    final AndroidWebViewCookieManagerCreationParams params =
+        AndroidWebViewCookieManagerCreationParams
+            .fromPlatformWebViewCookieManagerCreationParams(
+                const PlatformWebViewCookieManagerCreationParams());
+
+    final Map<String, String?> cookies =
+        await BootpayAndroidWebViewCookieManager(params,
+                cookieManager: mockCookieManager)
+            .getCookies(<String>['flutter.dev']);
+
+    expect(cookies, <String, String?>{'flutter.dev': 'a=1'});
+  });
+
   test('setAcceptThirdPartyCookies', () async {
     final MockAndroidWebViewController mockController =
         MockAndroidWebViewController();
@@ -138,6 +138,37 @@ class MockCookieManager extends _i1.Mock implements _i2.CookieManager {
         returnValueForMissingStub: _i5.Future<void>.value(),
       ) as _i5.Future<void>);
 
+  @override
+  _i5.Future<void> setCookies(Map<String, List<String>>? cookies) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #setCookies,
+          [cookies],
+        ),
+        returnValue: _i5.Future<void>.value(),
+        returnValueForMissingStub: _i5.Future<void>.value(),
+      ) as _i5.Future<void>);
+
+  @override
+  _i5.Future<Map<String, String?>> getCookies(List<String>? urls) =>
+      (super.noSuchMethod(
+        Invocation.method(
+          #getCookies,
+          [urls],
+        ),
+        returnValue: _i5.Future<Map<String, String?>>.value(<String, String?>{}),
+      ) as _i5.Future<Map<String, String?>>);
+
+  @override
+  _i5.Future<void> flush() => (super.noSuchMethod(
+        Invocation.method(
+          #flush,
+          [],
+        ),
+        returnValue: _i5.Future<void>.value(),
+        returnValueForMissingStub: _i5.Future<void>.value(),
+      ) as _i5.Future<void>);
+
   @override
   _i2.CookieManager pigeon_copy() => (super.noSuchMethod(
         Invocation.method(